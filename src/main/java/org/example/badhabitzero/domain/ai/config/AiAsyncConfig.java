@@ -0,0 +1,106 @@
+package org.example.badhabitzero.domain.ai.config;
+
+import org.example.badhabitzero.domain.ai.service.AiCaller;
+import org.example.badhabitzero.domain.ai.service.AiPriority;
+import org.example.badhabitzero.domain.ai.service.AiStage;
+import org.example.badhabitzero.domain.ai.service.RequestDeadline;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableScheduling  // @Scheduled 활성화 (만료 세션/결과 정리 등)
+public class AiAsyncConfig {
+
+    /**
+     * AI 비동기 작업용 스레드 풀 (사용자 요청 처리)
+     * - 요청 스레드의 마감 시간(RequestDeadline), 우선순위 레인(AiPriority), 호출 단계(AiStage), 호출 주체(AiCaller)를 작업 스레드로 전달
+     * - core = max라 큐에 쌓기 전에 16개까지 스레드를 늘리고, 한가하면 core 스레드도 정리
+     * - 큐가 가득 차면 호출한 스레드에서 실행 (동기 처리로 자연스럽게 감속)
+     */
+    @Bean(name = "aiTaskExecutor")
+    public ThreadPoolTaskExecutor aiTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(16);
+        executor.setMaxPoolSize(16);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setKeepAliveSeconds(60);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("ai-task-");
+        executor.setTaskDecorator(aiContextDecorator());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 백그라운드 AI 작업용 스레드 풀 (질문 캐시 갱신/워밍업, 카탈로그 생성, 악습 재산정, 인덱스 재구축)
+     * - 사용자 요청용 풀과 분리해 배치가 몰려도 요청 처리 스레드를 차지하지 않음
+     * - 큐가 가득 차면 거절 (TaskRejectedException, 요청 스레드에서 대신 실행하지 않음)
+     */
+    @Bean(name = "aiBackgroundExecutor")
+    public ThreadPoolTaskExecutor aiBackgroundExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setKeepAliveSeconds(60);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("ai-bg-");
+        executor.setTaskDecorator(aiContextDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 비동기 가치 산정 작업(valuation_jobs) 워커 풀
+     * - 작업 안에서 aiTaskExecutor를 다시 쓰므로 풀을 분리 (중첩 대기로 인한 고갈 방지)
+     * - 대기열은 DB가 맡고, 워커가 빈 자리만큼만 가져오므로 풀 큐는 여유분만 둠
+     */
+    @Bean(name = "valuationJobExecutor")
+    public ThreadPoolTaskExecutor valuationJobExecutor(AiJobProperties jobProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(jobProperties.getWorkers());
+        executor.setMaxPoolSize(jobProperties.getWorkers());
+        executor.setQueueCapacity(jobProperties.getWorkers());
+        executor.setThreadNamePrefix("ai-job-");
+        executor.setTaskDecorator(aiContextDecorator());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    private TaskDecorator aiContextDecorator() {
+        return task -> {
+            Long deadline = RequestDeadline.capture();
+            AiPriority priority = AiPriority.capture();
+            AiStage stage = AiStage.capture();
+            AiCaller caller = AiCaller.capture();
+
+            return () -> {
+                Long previousDeadline = RequestDeadline.capture();
+                AiPriority previousPriority = AiPriority.capture();
+                AiStage previousStage = AiStage.capture();
+                AiCaller previousCaller = AiCaller.capture();
+                RequestDeadline.restore(deadline);
+                AiPriority.restore(priority);
+                AiStage.restore(stage);
+                AiCaller.restore(caller);
+                try {
+                    task.run();
+                } finally {
+                    RequestDeadline.restore(previousDeadline);
+                    AiPriority.restore(previousPriority);
+                    AiStage.restore(previousStage);
+                    AiCaller.restore(previousCaller);
+                }
+            };
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.badhabitzero.domain.ai.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.catalog")
+public class AiCatalogProperties {
+
+    private boolean enabled = true;
+    private String promptVersion = "v1";                        // 가치 산정 프롬프트를 바꾸면 올림 (카탈로그 재생성)
+    private double nameSimilarity = 0.5;                        // 악습 이름 자모 유사도 최소값
+    private double tolerance = 0.3;                             // 사용자 입력이 프로필 값 ±30% 이내면 사전 산정 결과 사용
+    private Duration itemTimeout = Duration.ofSeconds(60);      // 항목 1건 산정 최대 시간
+    private String rebuildCron = "0 0 4 * * *";                 // 버전 확인 주기 (바뀐 경우만 재생성)
+
+    // 카탈로그 대상 악습 (규칙 기반 카테고리는 제외됨)
+    private Map<String, List<String>> habits = defaultHabits();
+
+    // 대표 답변 프로필 (카테고리 기본값 대비 배율, 앞쪽이 우선)
+    private List<Profile> profiles = List.of(
+            new Profile("typical", 1.0, 1.0),
+            new Profile("light", 0.5, 0.5),
+            new Profile("heavy", 2.0, 1.5)
+    );
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Profile {
+        private String name;
+        private double frequencyFactor;     // 주당 횟수 배율
+        private double amountFactor;        // 1회 금액/소요 시간 배율
+    }
+
+    private static Map<String, List<String>> defaultHabits() {
+        Map<String, List<String>> habits = new LinkedHashMap<>();
+        habits.put("EATING", List.of("배달음식", "야식", "과자", "편의점 간식"));
+        habits.put("SPENDING", List.of("충동구매", "온라인 쇼핑", "구독 서비스"));
+        habits.put("LAZINESS", List.of("미루기", "늦잠"));
+        habits.put("DIGITAL", List.of("유튜브", "SNS", "게임", "웹툰"));
+        habits.put("GAMBLING", List.of("도박", "복권", "스포츠 토토"));
+        return habits;
+    }
+}
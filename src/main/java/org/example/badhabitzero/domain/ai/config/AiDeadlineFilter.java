@@ -0,0 +1,40 @@
+package org.example.badhabitzero.domain.ai.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.badhabitzero.domain.ai.service.RequestDeadline;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * AI API 요청마다 엔드포인트별 마감 시간 설정
+ */
+@Component
+@RequiredArgsConstructor
+public class AiDeadlineFilter extends OncePerRequestFilter {
+
+    private final AiDeadlineProperties aiDeadlineProperties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestDeadline.start(aiDeadlineProperties.resolve(request.getRequestURI()));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    // AI API만 적용
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/ai/");
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.badhabitzero.domain.ai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.deadline")
+public class AiDeadlineProperties {
+
+    private Duration defaultTimeout = Duration.ofSeconds(20);   // 엔드포인트별 설정이 없을 때 요청 전체 제한 시간
+    private Duration llmReserve = Duration.ofSeconds(5);        // RAG 검색 전에 LLM 호출용으로 남겨둘 시간
+    private Map<String, Duration> endpoints = new HashMap<>(Map.of(
+            "/api/ai/analyze", Duration.ofSeconds(15),
+            "/api/ai/analyze/complete", Duration.ofSeconds(20),
+            "/api/ai/analyze/complete/batch", Duration.ofSeconds(30),
+            "/api/ai/chat/start", Duration.ofSeconds(15),
+            "/api/ai/chat/message", Duration.ofSeconds(20)
+    ));
+
+    // 요청 URI에 해당하는 제한 시간
+    public Duration resolve(String uri) {
+        return endpoints.getOrDefault(uri, defaultTimeout);
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.badhabitzero.domain.ai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.degraded")
+public class AiDegradedProperties {
+
+    private boolean enabled = true;                             // 저하 모드 사용 여부
+    private Duration valueSlo = Duration.ofSeconds(3);          // 가치 산정 LLM 응답 목표 시간 (초과 시 임시 추정치 반환)
+    private Duration refinementTimeout = Duration.ofSeconds(60); // 백그라운드 정밀 산정 최대 시간
+    private Duration resultTtl = Duration.ofMinutes(10);        // 정밀 산정 결과 보관 시간
+
+    // 서킷 브레이커
+    private int failureThreshold = 5;                           // 연속 실패 몇 번이면 열지
+    private Duration openDuration = Duration.ofSeconds(30);     // 열린 상태 유지 시간 (이후 1건 시험 호출)
+}
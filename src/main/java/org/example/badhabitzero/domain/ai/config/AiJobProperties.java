@@ -0,0 +1,25 @@
+package org.example.badhabitzero.domain.ai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.job")
+public class AiJobProperties {
+
+    private boolean enabled = true;
+    private int workers = 4;                                    // 인스턴스당 동시 산정 작업 수
+    private Duration pollInterval = Duration.ofMillis(500);     // 대기열 확인 주기
+    private Duration jobTimeout = Duration.ofSeconds(60);       // 작업 1건 최대 시간
+    private Duration staleAfter = Duration.ofMinutes(3);        // RUNNING이 이보다 오래되면 대기열로 되돌림
+    private int maxAttempts = 3;                                // AI 장애 시 재시도 포함 최대 실행 횟수
+    private Duration reuseWindow = Duration.ofMinutes(30);      // 같은 요청의 완료 결과를 재사용하는 기간
+    private Duration retention = Duration.ofDays(1);            // 완료 작업 보관 기간
+    private Duration sseTimeout = Duration.ofSeconds(90);       // 완료 이벤트 대기 최대 시간
+}
@@ -0,0 +1,44 @@
+package org.example.badhabitzero.domain.ai.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.journal")
+public class AiJournalProperties {
+
+    private boolean enabled = true;
+    private int bufferSize = 8192;                              // 링 버퍼 크기 (가득 차면 기록 버림)
+    private Duration flushInterval = Duration.ofSeconds(1);     // DB 반영 주기
+    private int batchSize = 500;                                // INSERT 배치 크기
+    private Duration retention = Duration.ofDays(14);           // 보관 기간
+    private String cleanupCron = "0 30 4 * * *";
+
+    // 모델별 100만 토큰당 가격 (USD, 비용 집계용, 임베딩 API는 토큰 수를 주지 않아 제외)
+    private Map<String, Price> prices = defaultPrices();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Price {
+        private double input;
+        private double output;
+    }
+
+    private static Map<String, Price> defaultPrices() {
+        Map<String, Price> prices = new LinkedHashMap<>();
+        prices.put("gemini-2.5-flash", new Price(0.30, 2.50));
+        return prices;
+    }
+}
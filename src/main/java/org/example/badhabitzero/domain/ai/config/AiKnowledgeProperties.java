@@ -0,0 +1,25 @@
+package org.example.badhabitzero.domain.ai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.knowledge")
+public class AiKnowledgeProperties {
+
+    private boolean snapshotEnabled = true;
+    private String snapshotPath = "data/knowledge-embeddings.bin";    // 임베딩 스냅샷 (있고 내용이 같으면 Gemini 호출 없이 적재)
+    private int importBatchSize = 100;                                // 가져오기 시 한 번에 임베딩/반영할 행 수
+    private int maxImportErrors = 20;                                 // 응답에 담을 실패 사유 개수
+    private Duration retryInterval = Duration.ofMinutes(1);           // Chroma 미반영 문서 재시도 주기
+    private Duration collectionRefresh = Duration.ofSeconds(10);      // 검색 컬렉션 별칭 캐시 시간
+    private Duration collectionGracePeriod = Duration.ofMinutes(30);  // 교체된 컬렉션 삭제까지 유예 기간
+    private Duration cleanupInterval = Duration.ofMinutes(5);         // 교체된 컬렉션 정리 주기
+    private int verifySamples = 5;                                    // 재구축 검증 시 자기 자신 검색 확인 문서 수
+}
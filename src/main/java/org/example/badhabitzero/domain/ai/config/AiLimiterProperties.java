@@ -0,0 +1,29 @@
+package org.example.badhabitzero.domain.ai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.limiter")
+public class AiLimiterProperties {
+
+    private int initialLimit = 10;                              // 시작 동시 호출 한도
+    private int minLimit = 1;                                   // 최소 한도
+    private int maxLimit = 50;                                  // 최대 한도
+    private int maxQueue = 50;                                  // 한도 초과 시 대기열 최대 길이
+    private Duration maxQueueWait = Duration.ofSeconds(5);      // 대기열 최대 대기 시간
+    private double latencyTolerance = 2.0;                      // 최소 지연의 몇 배부터 과부하로 볼지
+    private double backoffRatio = 0.7;                          // 과부하 시 한도 감소 비율
+    private int rttWindow = 200;                                // 최소 지연(minRtt)을 다시 측정하는 샘플 주기
+
+    // 우선순위 레인
+    private double backgroundShare = 0.5;                                   // 백그라운드가 쓸 수 있는 한도 비율
+    private Duration starvationThreshold = Duration.ofSeconds(10);          // 이 이상 기다린 백그라운드는 대화형과 동일 취급
+    private Duration backgroundMaxQueueWait = Duration.ofSeconds(120);      // 백그라운드 대기열 최대 대기 시간
+}
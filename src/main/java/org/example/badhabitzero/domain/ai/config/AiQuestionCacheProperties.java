@@ -0,0 +1,40 @@
+package org.example.badhabitzero.domain.ai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.question-cache")
+public class AiQuestionCacheProperties {
+
+    private boolean enabled = true;
+    private Duration refreshAfter = Duration.ofHours(6);       // 이 시간이 지나면 캐시로 응답 후 백그라운드 갱신
+    private Duration loadTimeout = Duration.ofSeconds(60);     // 워밍업/갱신 1건 최대 시간
+    private int maxEntries = 500;
+
+    // 시작 시 미리 생성할 카테고리별 자주 쓰는 악습 이름
+    private Map<String, List<String>> warmHabits = defaultWarmHabits();
+
+    private static Map<String, List<String>> defaultWarmHabits() {
+        Map<String, List<String>> habits = new LinkedHashMap<>();
+        habits.put("SMOKING", List.of("담배", "전자담배"));
+        habits.put("DRINKING", List.of("술", "소주", "맥주"));
+        habits.put("EATING", List.of("배달음식", "야식", "과자"));
+        habits.put("SPENDING", List.of("충동구매", "온라인 쇼핑"));
+        habits.put("LAZINESS", List.of("미루기", "늦잠"));
+        habits.put("DIGITAL", List.of("유튜브", "SNS", "게임"));
+        habits.put("CAFFEINE", List.of("커피", "에너지드링크"));
+        habits.put("GAMBLING", List.of("도박", "복권"));
+        habits.put("OTHER", List.of("손톱 물어뜯기"));
+        return habits;
+    }
+}
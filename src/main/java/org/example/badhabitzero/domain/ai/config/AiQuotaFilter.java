@@ -0,0 +1,75 @@
+package org.example.badhabitzero.domain.ai.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.badhabitzero.domain.ai.service.AiCaller;
+import org.example.badhabitzero.domain.ai.service.AiQuotaService;
+import org.example.badhabitzero.global.error.ErrorCode;
+import org.example.badhabitzero.global.error.ErrorResponse;
+import org.example.badhabitzero.global.security.CustomUserDetails;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * AI API 요청마다 호출 주체(AiCaller) 설정, 한도를 다 쓴 주체는 컨트롤러 전에 429로 거절
+ *
+ * Spring Security 필터 뒤에서 실행되므로 JWT가 있으면 사용자, 없으면 IP 기준
+ */
+@Component
+@RequiredArgsConstructor
+public class AiQuotaFilter extends OncePerRequestFilter {
+
+    private final AiQuotaService aiQuotaService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        AiCaller caller = new AiCaller(currentUserId(), request.getRemoteAddr());
+
+        long retryAfter = aiQuotaService.checkAdmission(caller);
+        if (retryAfter > 0) {
+            ErrorCode errorCode = ErrorCode.AI_QUOTA_EXCEEDED;
+            response.setStatus(errorCode.getStatus().value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(response.getWriter(), ErrorResponse.of(errorCode));
+            return;
+        }
+
+        AiCaller previous = AiCaller.capture();
+        AiCaller.restore(caller);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            AiCaller.restore(previous);
+        }
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        return null;
+    }
+
+    // AI API만 적용
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/ai/");
+    }
+}
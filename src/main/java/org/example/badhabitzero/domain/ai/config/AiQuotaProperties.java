@@ -0,0 +1,56 @@
+package org.example.badhabitzero.domain.ai.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.example.badhabitzero.domain.user.entity.User;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.quota")
+public class AiQuotaProperties {
+
+    private boolean enabled = true;
+    private Duration flushInterval = Duration.ofSeconds(10);    // 사용량 DB 반영 주기
+    private Duration roleCacheTtl = Duration.ofMinutes(5);      // 사용자 권한 캐시 유지 시간
+
+    // 비로그인 요청 (IP 기준)
+    private Limit anonymous = new Limit(5, 50, 20_000, 200_000, 20, 200);
+
+    // 권한별 한도 (0이면 무제한)
+    private Map<User.Role, Limit> roles = defaultRoles();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private int callsPerMinute;
+        private int callsPerDay;
+        private long tokensPerMinute;
+        private long tokensPerDay;
+        private int embeddingsPerMinute;        // 임베딩 텍스트 건수 (생성 호출과 별도)
+        private int embeddingsPerDay;
+    }
+
+    public Limit limitOf(User.Role role) {
+        Limit limit = roles.get(role);
+        return limit != null ? limit : roles.getOrDefault(User.Role.USER, anonymous);
+    }
+
+    private static Map<User.Role, Limit> defaultRoles() {
+        Map<User.Role, Limit> roles = new EnumMap<>(User.Role.class);
+        roles.put(User.Role.USER, new Limit(10, 200, 50_000, 1_000_000, 60, 1_000));
+        roles.put(User.Role.PREMIUM, new Limit(30, 1_000, 200_000, 5_000_000, 200, 5_000));
+        roles.put(User.Role.ADMIN, new Limit(0, 0, 0, 0, 0, 0));
+        return roles;
+    }
+}
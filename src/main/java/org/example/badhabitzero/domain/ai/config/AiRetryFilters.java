@@ -0,0 +1,268 @@
+package org.example.badhabitzero.domain.ai.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.handler.timeout.ReadTimeoutException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.domain.ai.service.RequestDeadline;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+import reactor.util.retry.Retry;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Gemini / Chroma WebClient용 재시도 필터
+ *
+ * - 429, 502, 503, 504 및 연결 실패를 일시적 장애로 보고 재시도
+ * - 멱등하지 않은 요청은 서버가 처리하지 않은 게 확실한 경우(429, 연결 거부)만 재시도
+ * - Decorrelated Jitter 백오프 + Retry-After 헤더 존중
+ * - 클라이언트별 재시도 예산으로 장애 시 재시도 폭증 방지
+ * - 요청 마감 시간(Reactor Context)을 넘기는 재시도는 하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiRetryFilters {
+
+    // 요청별로 멱등 여부를 명시하고 싶을 때 사용하는 attribute
+    public static final String IDEMPOTENT_ATTRIBUTE = AiRetryFilters.class.getName() + ".idempotent";
+
+    // 시도별 응답 시간을 받을 AtomicLong (Reactor Context 키, 재시도 대기 시간은 포함하지 않음)
+    public static final String ATTEMPT_NANOS_KEY = AiRetryFilters.class.getName() + ".attemptNanos";
+
+    // 부수효과 없는 POST API (생성/임베딩/조회/upsert/ID 지정 삭제)
+    private static final List<String> IDEMPOTENT_POST_SUFFIXES = List.of(
+            ":generateContent", ":embedContent", ":batchEmbedContents",
+            "/query", "/get", "/count", "/upsert", "/delete"
+    );
+
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = Set.of(
+            HttpMethod.GET, HttpMethod.HEAD, HttpMethod.PUT, HttpMethod.DELETE, HttpMethod.OPTIONS
+    );
+
+    private final AiRetryProperties retryProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 클라이언트 하나에 대한 재시도 필터 생성 (예산은 클라이언트별로 분리)
+     */
+    public ExchangeFilterFunction forClient(String clientName) {
+        RetryBudget budget = new RetryBudget(retryProperties.getBudgetRatio(), retryProperties.getBudgetCapacity());
+        Gauge.builder("ai.client.retry.budget", budget, RetryBudget::available)
+                .tag("client", clientName)
+                .register(meterRegistry);
+
+        return (request, next) -> Mono.deferContextual(context -> {
+            budget.deposit();
+            boolean idempotent = isIdempotent(request);
+            AtomicInteger attempts = new AtomicInteger();
+            AtomicLong previousDelayMillis = new AtomicLong(retryProperties.getBaseDelay().toMillis());
+
+            return Mono.defer(() -> {
+                int attempt = attempts.incrementAndGet();
+                long attemptStartedAt = System.nanoTime();
+                Mono<ClientResponse> exchange = next.exchange(request)
+                        .doOnNext(response -> recordAttempt(context, attemptStartedAt));
+                return exchange.flatMap(response -> {
+                    HttpStatusCode status = response.statusCode();
+                    if (!isRetryableStatus(status, idempotent) || attempt >= retryProperties.getMaxAttempts()) {
+                        return Mono.just(response);
+                    }
+
+                    // Retry-After가 너무 길면 기다리지 않고 그대로 응답 반환
+                    Duration retryAfter = parseRetryAfter(response.headers().header(HttpHeaders.RETRY_AFTER));
+                    if (retryAfter != null && retryAfter.compareTo(retryProperties.getMaxRetryAfter()) > 0) {
+                        countGiveUp(clientName, "retry_after");
+                        return Mono.just(response);
+                    }
+
+                    // 기다리는 동안 요청 마감 시간이 지나면 재시도 의미 없음
+                    Duration delay = nextDelay(previousDelayMillis, retryAfter);
+                    if (exceedsDeadline(delay, context)) {
+                        countGiveUp(clientName, "deadline");
+                        return Mono.just(response);
+                    }
+
+                    if (!budget.tryWithdraw()) {
+                        countGiveUp(clientName, "budget");
+                        return Mono.just(response);
+                    }
+
+                    // 응답 본문을 버려야 커넥션이 풀로 반환됨
+                    return response.releaseBody()
+                            .then(Mono.error(new RetryableStatusException(status.value(), delay)));
+                });
+            }).retryWhen(Retry.from(signals -> signals.concatMap(signal ->
+                    backoff(clientName, signal.failure(), attempts.get(), idempotent, budget, previousDelayMillis, context))));
+        });
+    }
+
+    /**
+     * 마지막 시도의 응답 시간을 받을 곳 지정 (동시성 제한기의 지연 샘플이 백오프 대기를 포함하지 않도록)
+     */
+    public static Function<Context, Context> recordAttemptNanos(AtomicLong attemptNanos) {
+        return context -> context.put(ATTEMPT_NANOS_KEY, attemptNanos);
+    }
+
+    private static void recordAttempt(ContextView context, long attemptStartedAt) {
+        context.<AtomicLong>getOrEmpty(ATTEMPT_NANOS_KEY)
+                .ifPresent(attemptNanos -> attemptNanos.set(System.nanoTime() - attemptStartedAt));
+    }
+
+    /**
+     * 재시도 여부 판단 및 대기
+     */
+    private Mono<Long> backoff(String clientName, Throwable failure, int attempt, boolean idempotent,
+                               RetryBudget budget, AtomicLong previousDelayMillis, ContextView context) {
+        Duration delay;
+        String reason;
+
+        if (failure instanceof RetryableStatusException statusException) {
+            // 상태 코드 기반 재시도는 대기 시간 계산, 예산 차감까지 끝난 상태
+            delay = statusException.getDelay();
+            reason = String.valueOf(statusException.getStatus());
+        } else {
+            if (attempt >= retryProperties.getMaxAttempts() || !isRetryableError(failure, idempotent)) {
+                return Mono.error(failure);
+            }
+            delay = nextDelay(previousDelayMillis, null);
+            if (exceedsDeadline(delay, context)) {
+                countGiveUp(clientName, "deadline");
+                return Mono.error(failure);
+            }
+            if (!budget.tryWithdraw()) {
+                countGiveUp(clientName, "budget");
+                return Mono.error(failure);
+            }
+            reason = failure.getClass().getSimpleName();
+        }
+
+        meterRegistry.counter("ai.client.retries", "client", clientName, "reason", reason).increment();
+        log.warn("{} 호출 재시도: attempt={}, reason={}, delay={}ms", clientName, attempt, reason, delay.toMillis());
+
+        return Mono.delay(delay);
+    }
+
+    // 대기 후 재시도할 시간이 요청 마감 시간 안에 남는지
+    private boolean exceedsDeadline(Duration delay, ContextView context) {
+        Duration remaining = RequestDeadline.remaining(context);
+        return remaining != null && delay.compareTo(remaining) >= 0;
+    }
+
+    /**
+     * Decorrelated Jitter: sleep = min(cap, random(base, prev * 3))
+     */
+    private Duration nextDelay(AtomicLong previousDelayMillis, Duration retryAfter) {
+        long base = retryProperties.getBaseDelay().toMillis();
+        long cap = retryProperties.getMaxDelay().toMillis();
+        long upper = Math.max(base + 1, previousDelayMillis.get() * 3);
+        long sleep = Math.min(cap, ThreadLocalRandom.current().nextLong(base, upper));
+        previousDelayMillis.set(sleep);
+
+        if (retryAfter != null) {
+            sleep = Math.max(sleep, retryAfter.toMillis());
+        }
+        return Duration.ofMillis(sleep);
+    }
+
+    private boolean isIdempotent(ClientRequest request) {
+        Object explicit = request.attribute(IDEMPOTENT_ATTRIBUTE).orElse(null);
+        if (explicit instanceof Boolean value) {
+            return value;
+        }
+        if (IDEMPOTENT_METHODS.contains(request.method())) {
+            return true;
+        }
+        String path = request.url().getPath();
+        return IDEMPOTENT_POST_SUFFIXES.stream().anyMatch(path::endsWith);
+    }
+
+    // 429는 서버가 요청을 처리하지 않았으므로 항상 재시도 가능
+    private boolean isRetryableStatus(HttpStatusCode status, boolean idempotent) {
+        int code = status.value();
+        if (code == 429) {
+            return true;
+        }
+        return idempotent && (code == 502 || code == 503 || code == 504);
+    }
+
+    // 연결 자체가 안 된 경우는 요청이 전송되지 않았으므로 항상 재시도 가능
+    private boolean isRetryableError(Throwable failure, boolean idempotent) {
+        if (failure instanceof WebClientRequestException && failure.getCause() instanceof ConnectException) {
+            return true;
+        }
+        if (!idempotent) {
+            return false;
+        }
+        return failure instanceof WebClientRequestException
+                || failure instanceof ReadTimeoutException
+                || failure instanceof TimeoutException;
+    }
+
+    /**
+     * Retry-After 헤더 파싱 (초 단위 또는 HTTP-date)
+     */
+    static Duration parseRetryAfter(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        String value = values.get(0).trim();
+
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException ignored) {
+            // HTTP-date 형식 시도
+        }
+
+        try {
+            ZonedDateTime retryAt = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration duration = Duration.between(ZonedDateTime.now(), retryAt);
+            return duration.isNegative() ? Duration.ZERO : duration;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private void countGiveUp(String clientName, String cause) {
+        meterRegistry.counter("ai.client.retry.giveup", "client", clientName, "cause", cause).increment();
+    }
+
+    /**
+     * 재시도 대상 응답을 재시도 루프로 전달하기 위한 내부 예외
+     */
+    @Getter
+    private static class RetryableStatusException extends RuntimeException {
+
+        private final int status;
+        private final Duration delay;
+
+        RetryableStatusException(int status, Duration delay) {
+            super("retryable status " + status, null, false, false);
+            this.status = status;
+            this.delay = delay;
+        }
+    }
+}
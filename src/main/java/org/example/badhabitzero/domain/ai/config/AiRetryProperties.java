@@ -0,0 +1,22 @@
+package org.example.badhabitzero.domain.ai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.retry")
+public class AiRetryProperties {
+
+    private int maxAttempts = 3;                                // 최초 호출 포함 최대 시도 횟수
+    private Duration baseDelay = Duration.ofMillis(200);        // 백오프 최소 대기
+    private Duration maxDelay = Duration.ofSeconds(5);          // 백오프 최대 대기
+    private Duration maxRetryAfter = Duration.ofSeconds(10);    // 이보다 긴 Retry-After는 재시도하지 않음
+    private double budgetRatio = 0.2;                           // 요청 1건당 적립되는 재시도 토큰 (20%)
+    private int budgetCapacity = 20;                            // 재시도 토큰 최대 적립량
+}
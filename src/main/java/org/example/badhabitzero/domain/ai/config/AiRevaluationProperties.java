@@ -0,0 +1,22 @@
+package org.example.badhabitzero.domain.ai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.revaluation")
+public class AiRevaluationProperties {
+
+    private boolean enabled = true;
+    private Duration interval = Duration.ofMinutes(1);          // 페이지 1개 처리 주기 (처리량 제한)
+    private int pageSize = 200;                                 // 한 번에 읽는 악습 수 (AI 호출은 이름 그룹 수만큼)
+    private Duration groupTimeout = Duration.ofSeconds(60);     // 그룹 1건 산정 최대 시간
+    private Duration lease = Duration.ofMinutes(10);            // 인스턴스 점유 기한 (넘기면 다른 인스턴스가 이어받음)
+    private int memoSize = 5000;                                // 같은 버전에서 재사용할 그룹 결과 수
+}
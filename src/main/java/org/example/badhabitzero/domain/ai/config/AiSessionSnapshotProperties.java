@@ -0,0 +1,20 @@
+package org.example.badhabitzero.domain.ai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.session-snapshot")
+public class AiSessionSnapshotProperties {
+
+    private boolean enabled = true;
+    private String directory = "data/chat-sessions";            // 배포 간 유지되는 디렉터리 (인스턴스 간 공유 볼륨)
+    private Duration pollInterval = Duration.ofSeconds(5);      // 다른 인스턴스가 늦게 남긴 스냅샷 확인 주기
+    private Duration drainTimeout = Duration.ofSeconds(20);     // 종료 시 진행 중인 AI 호출 대기 최대 시간
+}
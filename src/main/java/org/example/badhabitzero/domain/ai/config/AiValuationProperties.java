@@ -0,0 +1,28 @@
+package org.example.badhabitzero.domain.ai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.valuation")
+public class AiValuationProperties {
+
+    // 규칙 기반으로 계산하는 카테고리 (나머지는 AI 산정)
+    private List<String> ruleBasedCategories = List.of("SMOKING", "DRINKING", "CAFFEINE");
+    private boolean fastMode = false;                               // true면 설명 문구도 AI 없이 생성
+    private Duration explanationTimeout = Duration.ofSeconds(2);    // AI 설명 문구 대기 시간 (초과 시 기본 문구)
+
+    // 챗봇 선행 산정 (주요 입력이 모이면 마지막 답변 전에 최종 산정 시작)
+    private boolean speculativeEnabled = true;
+    private double speculationTolerance = 0.1;                      // 이후 답변으로 추정치가 10% 넘게 바뀌면 선행 산정 폐기
+
+    // 일괄 산정 (온보딩) 최대 항목 수 - AI 호출이 항목 수만큼 동시에 나가므로 제한
+    private int batchMaxItems = 10;
+}
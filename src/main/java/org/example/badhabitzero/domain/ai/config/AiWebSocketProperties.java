@@ -0,0 +1,20 @@
+package org.example.badhabitzero.domain.ai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.websocket")
+public class AiWebSocketProperties {
+
+    private String path = "/ws/ai/chat";
+    private Duration sendTimeLimit = Duration.ofSeconds(10);    // 느린 클라이언트로 전송이 이보다 오래 막히면 연결 종료
+    private int bufferSizeLimit = 64 * 1024;                    // 연결당 미전송 버퍼 한도 (byte)
+    private Duration pingInterval = Duration.ofSeconds(25);     // keepalive (모바일 NAT/프록시 유휴 종료 방지)
+}
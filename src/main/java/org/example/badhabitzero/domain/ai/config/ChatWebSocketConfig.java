@@ -0,0 +1,31 @@
+package org.example.badhabitzero.domain.ai.config;
+
+import lombok.RequiredArgsConstructor;
+import org.example.badhabitzero.domain.ai.controller.ChatWebSocketHandler;
+import org.example.badhabitzero.global.config.CorsProperties;
+import org.example.badhabitzero.global.security.JwtHandshakeInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * 가치 산정 챗봇 WebSocket 엔드포인트 (연결 시 JWT 인증 1회)
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class ChatWebSocketConfig implements WebSocketConfigurer {
+
+    private final ChatWebSocketHandler chatWebSocketHandler;
+    private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+    private final AiWebSocketProperties webSocketProperties;
+    private final CorsProperties corsProperties;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(chatWebSocketHandler, webSocketProperties.getPath())
+                .addInterceptors(jwtHandshakeInterceptor)
+                .setAllowedOrigins(corsProperties.getAllowedOrigins().toArray(String[]::new));
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.badhabitzero.domain.ai.config;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재시도 예산 (토큰 버킷)
+ *
+ * 요청 1건마다 ratio 만큼 토큰이 쌓이고, 재시도 1회마다 토큰 1개를 씁니다.
+ * 장애 상황에서도 재시도 트래픽이 원래 요청량의 ratio 비율을 넘지 못합니다.
+ */
+public class RetryBudget {
+
+    // 소수 토큰을 정수로 다루기 위한 배율
+    private static final long SCALE = 1000;
+
+    private final long depositPerRequest;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    public RetryBudget(double ratio, int capacity) {
+        this.depositPerRequest = Math.round(ratio * SCALE);
+        this.capacity = capacity * SCALE;
+        this.balance = new AtomicLong(this.capacity);
+    }
+
+    // 요청 1건 적립
+    public void deposit() {
+        balance.getAndUpdate(current -> Math.min(capacity, current + depositPerRequest));
+    }
+
+    // 재시도 1회 차감 (잔액 부족 시 false)
+    public boolean tryWithdraw() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    // 현재 남은 재시도 횟수 (메트릭용)
+    public double available() {
+        return (double) balance.get() / SCALE;
+    }
+}
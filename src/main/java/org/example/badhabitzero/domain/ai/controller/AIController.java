@@ -7,11 +7,15 @@ import org.example.badhabitzero.domain.ai.dto.*;
 
 import org.example.badhabitzero.domain.ai.service.ChromaService;
 import org.example.badhabitzero.domain.ai.service.GeminiService;
+import org.example.badhabitzero.domain.ai.service.ValuationJobNotifier;
+import org.example.badhabitzero.domain.ai.service.ValuationJobService;
 import org.example.badhabitzero.domain.ai.service.ValueAnalysisService;
 import org.example.badhabitzero.global.common.ApiResponse;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -25,6 +29,8 @@ public class AIController {
     private final GeminiService geminiService;
     private final ChromaService chromaService;
     private final ValueAnalysisService valueAnalysisService;
+    private final ValuationJobService valuationJobService;
+    private final ValuationJobNotifier valuationJobNotifier;
 
     @Operation(summary = "악습 분석", description = "악습을 분석하고 추가 질문 생성")
     @PostMapping("/analyze")
@@ -40,6 +46,44 @@ public class AIController {
         return ResponseEntity.ok(ApiResponse.success(result));
     }
 
+    @Operation(summary = "일괄 가치 산정", description = "여러 악습을 한 번에 산정 (결과는 요청 순서, 항목별 실패는 errorCode로 반환)")
+    @PostMapping("/analyze/complete/batch")
+    public ResponseEntity<ApiResponse<List<BatchValueResult>>> analyzeCompleteBatch(@RequestBody AnalyzeBatchRequest request) {
+        List<BatchValueResult> results = valueAnalysisService.calculateValues(request.getItems());
+        return ResponseEntity.ok(ApiResponse.success(results));
+    }
+
+    @Operation(summary = "정밀 산정 결과 조회", description = "임시 추정치 반환 시 받은 refinementId로 AI 정밀 산정 결과 조회")
+    @GetMapping("/analyze/refinement/{refinementId}")
+    public ResponseEntity<ApiResponse<ValueResult>> getRefinement(@PathVariable String refinementId) {
+        ValueResult result = valueAnalysisService.getRefinement(refinementId);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
+    // ============================================
+    // 비동기 가치 산정 작업 API
+    // ============================================
+
+    @Operation(summary = "가치 산정 작업 등록", description = "작업 ID를 바로 반환 (같은 요청이 진행 중이거나 최근 완료됐으면 그 작업 반환)")
+    @PostMapping("/jobs")
+    public ResponseEntity<ApiResponse<ValuationJobResponse>> submitJob(@RequestBody AnalyzeCompleteRequest request) {
+        ValuationJobResponse response = valuationJobService.submit(request);
+        return ResponseEntity.accepted().body(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "가치 산정 작업 조회", description = "작업 상태 폴링 (DONE이면 result 포함)")
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<ValuationJobResponse>> getJob(@PathVariable String jobId) {
+        ValuationJobResponse response = valuationJobService.get(jobId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "가치 산정 작업 완료 구독", description = "작업이 끝나면 complete 이벤트 1회 전송 (SSE)")
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeJob(@PathVariable String jobId) {
+        return valuationJobNotifier.subscribe(jobId);
+    }
+
     @Operation(summary = "AI 테스트", description = "Gemini API 연동 테스트")
     @PostMapping("/test")
     public ResponseEntity<ApiResponse<String>> testAI(@RequestBody String prompt) {
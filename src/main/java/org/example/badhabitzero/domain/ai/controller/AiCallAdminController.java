@@ -0,0 +1,43 @@
+package org.example.badhabitzero.domain.ai.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.badhabitzero.domain.ai.dto.AiCallCostResponse;
+import org.example.badhabitzero.domain.ai.dto.AiCallLatencyResponse;
+import org.example.badhabitzero.domain.ai.service.AiCallStatsService;
+import org.example.badhabitzero.global.common.ApiResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "AI Call Admin", description = "AI 호출 기록 집계 API (관리자 전용)")
+@RestController
+@RequestMapping("/api/admin/ai-calls")
+@RequiredArgsConstructor
+public class AiCallAdminController {
+
+    private final AiCallStatsService aiCallStatsService;
+
+    @Operation(summary = "단계별 지연 시간",
+            description = "최근 hours시간 동안 Gemini 생성/임베딩, RAG 검색의 대기·호출·파싱 시간을 단계별로 집계합니다")
+    @GetMapping("/latency")
+    public ResponseEntity<ApiResponse<List<AiCallLatencyResponse>>> getLatency(
+            @RequestParam(defaultValue = "24") int hours) {
+
+        return ResponseEntity.ok(ApiResponse.success(aiCallStatsService.getLatency(hours)));
+    }
+
+    @Operation(summary = "단계별 비용",
+            description = "최근 hours시간 동안 토큰 사용량과 추정 비용, 캐시 적중, 파싱 실패를 단계별로 집계합니다")
+    @GetMapping("/cost")
+    public ResponseEntity<ApiResponse<List<AiCallCostResponse>>> getCost(
+            @RequestParam(defaultValue = "24") int hours) {
+
+        return ResponseEntity.ok(ApiResponse.success(aiCallStatsService.getCost(hours)));
+    }
+}
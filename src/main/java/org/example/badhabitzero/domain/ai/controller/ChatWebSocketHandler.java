@@ -0,0 +1,199 @@
+package org.example.badhabitzero.domain.ai.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.domain.ai.config.AiDeadlineProperties;
+import org.example.badhabitzero.domain.ai.config.AiWebSocketProperties;
+import org.example.badhabitzero.domain.ai.dto.*;
+import org.example.badhabitzero.domain.ai.service.AiCaller;
+import org.example.badhabitzero.domain.ai.service.AiQuotaService;
+import org.example.badhabitzero.domain.ai.service.RequestDeadline;
+import org.example.badhabitzero.domain.ai.service.ValueAnalysisService;
+import org.example.badhabitzero.global.error.BusinessException;
+import org.example.badhabitzero.global.error.ErrorCode;
+import org.example.badhabitzero.global.security.JwtHandshakeInterceptor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가치 산정 챗봇 WebSocket 핸들러
+ *
+ * - HTTP 챗봇 API와 같은 ChatSessionManager 세션을 사용 (프레임은 JSON 한 줄)
+ * - 최종 결과가 임시 추정치면 AI 정밀 산정이 끝날 때 refined 프레임을 추가로 푸시 (실패하면 refine_failed)
+ * - 연결마다 ConcurrentWebSocketSessionDecorator로 송신 버퍼를 제한 (느린 클라이언트는 연결 종료)
+ * - 메시지마다 핸드셰이크에서 인증한 사용자로 AI 쿼터 적용 (HTTP는 AiQuotaFilter)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatWebSocketHandler extends TextWebSocketHandler {
+
+    private static final String CHAT_START_URI = "/api/ai/chat/start";
+    private static final String CHAT_MESSAGE_URI = "/api/ai/chat/message";
+
+    private final ValueAnalysisService valueAnalysisService;
+    private final AiQuotaService aiQuotaService;
+    private final AiWebSocketProperties webSocketProperties;
+    private final AiDeadlineProperties aiDeadlineProperties;
+    private final ObjectMapper objectMapper;
+
+    // 연결 ID → 송신용 세션
+    private final Map<String, WebSocketSession> connections = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        connections.put(session.getId(), new ConcurrentWebSocketSessionDecorator(session,
+                (int) webSocketProperties.getSendTimeLimit().toMillis(),
+                webSocketProperties.getBufferSizeLimit()));
+        log.debug("챗봇 WebSocket 연결: {}", session.getId());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        connections.remove(session.getId());
+        log.debug("챗봇 WebSocket 종료: {} ({})", session.getId(), status);
+    }
+
+    /**
+     * 연결당 메시지는 순서대로 전달되므로 여기서 처리해도 턴 순서가 유지됨
+     */
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        WebSocketSession connection = connections.getOrDefault(session.getId(), session);
+
+        ChatSocketRequest request;
+        try {
+            request = objectMapper.readValue(message.getPayload(), ChatSocketRequest.class);
+        } catch (IOException e) {
+            send(connection, ChatSocketEvent.error(null, ErrorCode.INVALID_INPUT_VALUE.getCode(),
+                    ErrorCode.INVALID_INPUT_VALUE.getMessage()));
+            return;
+        }
+
+        AiCaller caller = callerOf(session);
+        try {
+            String type = request.getType() == null ? "" : request.getType();
+            // AI를 호출하는 메시지는 한도를 다 쓴 사용자면 바로 거절
+            if (("start".equals(type) || "message".equals(type)) && aiQuotaService.checkAdmission(caller) > 0) {
+                throw new BusinessException(ErrorCode.AI_QUOTA_EXCEEDED);
+            }
+            AiCaller.runAs(caller, () -> {
+                switch (type) {
+                    case "ping" -> send(connection, ChatSocketEvent.of("pong", null, null));
+                    case "start" -> handleStart(connection, request);
+                    case "message" -> handleMessage(connection, request);
+                    default -> send(connection, ChatSocketEvent.error(request.getSeq(),
+                            ErrorCode.INVALID_INPUT_VALUE.getCode(), "알 수 없는 type입니다: " + request.getType()));
+                }
+            });
+        } catch (BusinessException e) {
+            send(connection, ChatSocketEvent.error(request.getSeq(), e.getErrorCode().getCode(), e.getMessage()));
+        } catch (Exception e) {
+            log.error("챗봇 WebSocket 처리 실패: {}", e.getMessage());
+            send(connection, ChatSocketEvent.error(request.getSeq(), ErrorCode.INTERNAL_SERVER_ERROR.getCode(),
+                    ErrorCode.INTERNAL_SERVER_ERROR.getMessage()));
+        }
+    }
+
+    private AiCaller callerOf(WebSocketSession session) {
+        Object userId = session.getAttributes().get(JwtHandshakeInterceptor.USER_ID_ATTRIBUTE);
+        InetSocketAddress address = session.getRemoteAddress();
+        String ip = address != null && address.getAddress() != null ? address.getAddress().getHostAddress() : null;
+        return new AiCaller(userId instanceof Long id ? id : null, ip);
+    }
+
+    private void handleStart(WebSocketSession connection, ChatSocketRequest request) {
+        ChatSessionRequest sessionRequest = new ChatSessionRequest();
+        sessionRequest.setHabitName(request.getHabitName());
+        sessionRequest.setCategory(request.getCategory());
+        sessionRequest.setReason(request.getReason());
+        sessionRequest.setFast(request.getFast());
+
+        ChatSessionResponse response = RequestDeadline.callWithin(aiDeadlineProperties.resolve(CHAT_START_URI),
+                () -> valueAnalysisService.startChatSession(sessionRequest));
+        send(connection, ChatSocketEvent.of("session", null, response));
+    }
+
+    private void handleMessage(WebSocketSession connection, ChatSocketRequest request) {
+        send(connection, ChatSocketEvent.of("ack", request.getSeq(), null));
+
+        ChatMessageRequest messageRequest = new ChatMessageRequest();
+        messageRequest.setSessionId(request.getSessionId());
+        messageRequest.setSeq(request.getSeq());
+        messageRequest.setMessage(request.getMessage());
+
+        ChatMessageResponse response = RequestDeadline.callWithin(aiDeadlineProperties.resolve(CHAT_MESSAGE_URI),
+                () -> valueAnalysisService.handleChatMessage(messageRequest));
+        if (!response.isComplete()) {
+            send(connection, ChatSocketEvent.of("turn", response.getSeq(), response));
+            return;
+        }
+
+        send(connection, ChatSocketEvent.of("result", response.getSeq(), response));
+
+        // 임시 추정치였으면 정밀 산정 결과를 이어서 푸시
+        ValueResult valueResult = response.getValueResult();
+        if (valueResult != null && valueResult.getRefinementId() != null) {
+            CompletableFuture<ValueResult> refined = valueAnalysisService.whenRefined(valueResult.getRefinementId());
+            if (refined != null) {
+                refined.whenComplete((result, error) -> {
+                    if (!connection.isOpen()) {
+                        return;
+                    }
+                    if (error == null && result != null && !result.isProvisional()) {
+                        send(connection, ChatSocketEvent.of("refined", response.getSeq(), result));
+                        return;
+                    }
+                    // 정밀 산정 실패/만료 → 임시 추정치가 최종임을 알림 (클라이언트가 대기하지 않도록)
+                    log.warn("챗봇 정밀 산정 실패: refinementId={}, {}", valueResult.getRefinementId(),
+                            error != null ? error.getMessage() : "결과 없음");
+                    ValueResult fallback = result != null ? result : valueResult.toBuilder().refinementId(null).build();
+                    send(connection, ChatSocketEvent.of("refine_failed", response.getSeq(), fallback));
+                });
+            }
+        }
+    }
+
+    /**
+     * keepalive (모바일 네트워크 유휴 연결 종료 방지)
+     */
+    @Scheduled(fixedRateString = "${ai.websocket.ping-interval:25s}")
+    public void keepalive() {
+        for (WebSocketSession connection : connections.values()) {
+            if (connection.isOpen()) {
+                sendRaw(connection, new PingMessage());
+            }
+        }
+    }
+
+    private void send(WebSocketSession connection, ChatSocketEvent event) {
+        try {
+            sendRaw(connection, new TextMessage(objectMapper.writeValueAsString(event)));
+        } catch (IOException e) {
+            log.error("챗봇 WebSocket 프레임 직렬화 실패: {}", e.getMessage());
+        }
+    }
+
+    // 버퍼 한도/전송 시간 초과 시 데코레이터가 연결을 닫음
+    private void sendRaw(WebSocketSession connection, WebSocketMessage<?> message) {
+        try {
+            connection.sendMessage(message);
+        } catch (IOException | RuntimeException e) {
+            log.debug("챗봇 WebSocket 전송 실패: {} - {}", connection.getId(), e.getMessage());
+        }
+    }
+}
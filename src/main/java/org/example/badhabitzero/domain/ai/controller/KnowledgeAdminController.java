@@ -0,0 +1,89 @@
+package org.example.badhabitzero.domain.ai.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.badhabitzero.domain.ai.dto.KnowledgeFactRequest;
+import org.example.badhabitzero.domain.ai.dto.KnowledgeFactResponse;
+import org.example.badhabitzero.domain.ai.dto.KnowledgeImportResponse;
+import org.example.badhabitzero.domain.ai.dto.VectorCollectionResponse;
+import org.example.badhabitzero.domain.ai.service.KnowledgeBaseService;
+import org.example.badhabitzero.domain.ai.service.VectorIndexRebuilder;
+import org.example.badhabitzero.global.common.ApiResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.List;
+
+@Tag(name = "Knowledge Admin", description = "RAG 지식 베이스 관리 API (관리자 전용)")
+@RestController
+@RequestMapping("/api/admin/knowledge")
+@RequiredArgsConstructor
+public class KnowledgeAdminController {
+
+    private final KnowledgeBaseService knowledgeBaseService;
+    private final VectorIndexRebuilder vectorIndexRebuilder;
+
+    @Operation(summary = "지식 문서 목록", description = "카테고리를 지정하면 해당 카테고리만 조회합니다")
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<KnowledgeFactResponse>>> getFacts(
+            @RequestParam(required = false) String category) {
+
+        return ResponseEntity.ok(ApiResponse.success(knowledgeBaseService.getFacts(category)));
+    }
+
+    @Operation(summary = "지식 문서 등록", description = "문서를 저장하고 임베딩해 Chroma에 반영합니다")
+    @PostMapping
+    public ResponseEntity<ApiResponse<KnowledgeFactResponse>> createFact(
+            @RequestBody KnowledgeFactRequest request) {
+
+        return ResponseEntity.ok(ApiResponse.success(knowledgeBaseService.createFact(request)));
+    }
+
+    @Operation(summary = "지식 문서 수정", description = "내용이 바뀐 경우에만 다시 임베딩합니다")
+    @PutMapping("/{factId}")
+    public ResponseEntity<ApiResponse<KnowledgeFactResponse>> updateFact(
+            @PathVariable String factId,
+            @RequestBody KnowledgeFactRequest request) {
+
+        return ResponseEntity.ok(ApiResponse.success(knowledgeBaseService.updateFact(factId, request)));
+    }
+
+    @Operation(summary = "지식 문서 삭제", description = "Chroma와 DB에서 문서를 삭제합니다")
+    @DeleteMapping("/{factId}")
+    public ResponseEntity<ApiResponse<String>> deleteFact(
+            @PathVariable String factId) {
+
+        knowledgeBaseService.deleteFact(factId);
+        return ResponseEntity.ok(ApiResponse.success("지식 문서가 삭제되었습니다."));
+    }
+
+    @Operation(summary = "지식 문서 일괄 가져오기",
+            description = "요청 본문(JSONL 또는 CSV)을 스트리밍으로 읽어 배치 단위로 저장/임베딩합니다. 같은 factId는 수정됩니다")
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "application/jsonl", "text/csv", "text/plain"})
+    public ResponseEntity<ApiResponse<KnowledgeImportResponse>> importFacts(
+            @RequestParam(defaultValue = "jsonl") String format,
+            InputStream body) {
+
+        return ResponseEntity.ok(ApiResponse.success(knowledgeBaseService.importFacts(body, format)));
+    }
+
+    @Operation(summary = "벡터 컬렉션 재구축",
+            description = "새 버전 컬렉션을 백그라운드로 채우고 검증 후 검색 대상을 교체합니다. reembed=true면 임베딩도 새로 생성합니다")
+    @PostMapping("/reindex")
+    public ResponseEntity<ApiResponse<String>> reindex(
+            @RequestParam(defaultValue = "false") boolean reembed) {
+
+        vectorIndexRebuilder.startRebuild(reembed);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success("재구축을 시작했습니다."));
+    }
+
+    @Operation(summary = "벡터 컬렉션 버전 목록", description = "최근 컬렉션 버전과 상태를 조회합니다")
+    @GetMapping("/collections")
+    public ResponseEntity<ApiResponse<List<VectorCollectionResponse>>> getCollections() {
+
+        return ResponseEntity.ok(ApiResponse.success(vectorIndexRebuilder.getCollections()));
+    }
+}
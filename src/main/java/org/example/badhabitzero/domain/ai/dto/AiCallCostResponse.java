@@ -0,0 +1,19 @@
+package org.example.badhabitzero.domain.ai.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AiCallCostResponse {
+    private String stage;                   // AiStage
+    private long generateCalls;             // Gemini 생성 호출 수
+    private long inputTokens;
+    private long outputTokens;
+    private double costUsd;                 // ai.journal.prices 기준 추정 비용
+    private long embeddingCalls;
+    private long retrievals;
+    private long cacheHits;
+    private long cacheMisses;
+    private long parseFallbacks;            // 파싱 실패로 기본값/임시 추정치를 쓴 응답 수
+}
@@ -0,0 +1,18 @@
+package org.example.badhabitzero.domain.ai.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AiCallLatencyResponse {
+    private String stage;                   // AiStage
+    private String kind;                    // GENERATE, EMBED, RETRIEVE
+    private long calls;
+    private long errors;                    // outcome이 ok/skipped가 아닌 호출
+    private double avgQueueMs;              // 동시 호출 한도 대기
+    private double avgCallMs;               // 원격 호출
+    private double avgParseMs;              // 응답 파싱
+    private Long p95TotalMs;
+    private long maxTotalMs;
+}
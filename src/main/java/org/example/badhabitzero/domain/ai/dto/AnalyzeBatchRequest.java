@@ -0,0 +1,12 @@
+package org.example.badhabitzero.domain.ai.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class AnalyzeBatchRequest {
+    private List<AnalyzeCompleteRequest> items;   // 산정할 악습 목록 (응답도 같은 순서)
+}
@@ -12,4 +12,5 @@ public class AnalyzeCompleteRequest {
     private String category;               // 카테고리
     private String reason;                 // 고치고 싶은 이유
     private Map<String, Object> answers;   // 사용자 답변 (질문ID: 답변)
+    private Boolean fast;                  // true면 AI 설명 없이 규칙 기반 결과만 반환 (선택)
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package org.example.badhabitzero.domain.ai.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BatchValueResult {
+    private int index;                     // 요청 목록에서의 순서
+    private String habitName;              // 악습 이름
+    private ValueResult result;            // 산정 결과 (실패 시 null)
+    private String errorCode;              // 실패 시 에러 코드
+    private String errorMessage;           // 실패 시 에러 메시지
+}
@@ -8,4 +8,5 @@ import lombok.Setter;
 public class ChatMessageRequest {
     private String sessionId;           // 세션 ID
     private String message;             // 사용자 자연어 답변
+    private Integer seq;                // 메시지 순번 (1부터, 재전송 시 같은 값) - 없으면 서버가 다음 순번으로 간주
 }
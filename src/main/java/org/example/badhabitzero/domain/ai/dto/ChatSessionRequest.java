@@ -9,4 +9,5 @@ public class ChatSessionRequest {
     private String habitName;      // 악습 이름
     private String category;       // 카테고리
     private String reason;         // 고치고 싶은 이유 (선택)
+    private Boolean fast;          // true면 AI 설명 없이 규칙 기반 결과만 반환 (선택)
 }
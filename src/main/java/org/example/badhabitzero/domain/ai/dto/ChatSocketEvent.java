@@ -0,0 +1,35 @@
+package org.example.badhabitzero.domain.ai.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 챗봇 WebSocket 송신 프레임
+ *
+ * - session: 세션 시작 (ChatSessionResponse)
+ * - ack: 메시지 수신 확인 (처리 시작)
+ * - turn: 다음 질문 + 임시 추정치 (ChatMessageResponse)
+ * - result: 최종 결과 (ChatMessageResponse, 임시 추정치면 refined 또는 refine_failed가 이어서 옴)
+ * - refined: AI 정밀 산정 결과 (ValueResult)
+ * - refine_failed: 정밀 산정 실패, 임시 추정치가 최종 (ValueResult)
+ * - error, pong
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChatSocketEvent {
+    private String type;
+    private Integer seq;
+    private Object data;
+    private String code;                // error일 때 에러 코드
+    private String message;             // error일 때 메시지
+
+    public static ChatSocketEvent of(String type, Integer seq, Object data) {
+        return ChatSocketEvent.builder().type(type).seq(seq).data(data).build();
+    }
+
+    public static ChatSocketEvent error(Integer seq, String code, String message) {
+        return ChatSocketEvent.builder().type("error").seq(seq).code(code).message(message).build();
+    }
+}
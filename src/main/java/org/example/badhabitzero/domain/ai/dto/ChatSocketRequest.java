@@ -0,0 +1,24 @@
+package org.example.badhabitzero.domain.ai.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 챗봇 WebSocket 수신 프레임
+ *
+ * - start: habitName, category, reason, fast
+ * - message: sessionId, seq, message
+ * - ping
+ */
+@Getter
+@Setter
+public class ChatSocketRequest {
+    private String type;                // start, message, ping
+    private String sessionId;
+    private Integer seq;                // 메시지 순번 (재전송 시 같은 값)
+    private String habitName;
+    private String category;
+    private String reason;
+    private Boolean fast;
+    private String message;
+}
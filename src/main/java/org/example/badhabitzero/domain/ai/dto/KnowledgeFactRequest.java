@@ -0,0 +1,16 @@
+package org.example.badhabitzero.domain.ai.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class KnowledgeFactRequest {
+    private String factId;        // 문서 ID (예: "smoking_006", 수정 시 경로 값 사용)
+    private String content;       // 문서 내용
+    private String category;      // SMOKING, DRINKING, ...
+    private String source;        // 출처 (예: "보건복지부, 2023")
+    private String costType;      // direct, health, opportunity, psychological
+}
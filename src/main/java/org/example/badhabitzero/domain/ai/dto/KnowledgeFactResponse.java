@@ -0,0 +1,18 @@
+package org.example.badhabitzero.domain.ai.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class KnowledgeFactResponse {
+    private String factId;
+    private String content;
+    private String category;
+    private String source;
+    private String costType;
+    private boolean synced;             // Chroma 반영 여부
+    private LocalDateTime updatedAt;
+}
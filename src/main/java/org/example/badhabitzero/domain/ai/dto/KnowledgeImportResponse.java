@@ -0,0 +1,18 @@
+package org.example.badhabitzero.domain.ai.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class KnowledgeImportResponse {
+    private int total;                  // 읽은 행 수 (헤더/빈 줄 제외)
+    private int created;
+    private int updated;
+    private int unchanged;
+    private int embedded;               // 새로 임베딩한 문서 수 (내용이 바뀐 것만)
+    private int failed;
+    private List<String> errors;        // 실패 사유 (앞쪽 일부만, "줄 번호: 사유")
+}
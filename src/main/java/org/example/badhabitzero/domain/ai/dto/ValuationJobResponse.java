@@ -0,0 +1,13 @@
+package org.example.badhabitzero.domain.ai.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ValuationJobResponse {
+    private String jobId;                  // 작업 ID (조회/구독용)
+    private String status;                 // PENDING, RUNNING, DONE, FAILED
+    private ValueResult result;            // DONE일 때만
+    private String errorCode;              // FAILED일 때만
+}
@@ -2,19 +2,24 @@ package org.example.badhabitzero.domain.ai.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@Jacksonized    // 저장된 JSON(valuation_jobs 등)에서 복원
 public class ValueResult {
     private int value;                     // 1회당 가치 (원)
     private Breakdown breakdown;           // 상세 내역
     private String explanation;            // 설명
     private List<String> sources;          // 출처 목록
+    private boolean provisional;           // 임시 추정치 여부 (AI 지연/장애 시 로컬 계산값)
+    private String refinementId;           // 정밀 산정 결과 조회 ID (진행 중일 때만)
 
     @Getter
     @Builder
+    @Jacksonized
     public static class Breakdown {
         private int directCost;            // 직접 비용
         private int healthCost;            // 건강 비용
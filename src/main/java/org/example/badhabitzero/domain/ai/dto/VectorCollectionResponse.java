@@ -0,0 +1,18 @@
+package org.example.badhabitzero.domain.ai.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class VectorCollectionResponse {
+    private String name;                    // habit_facts_v{n}
+    private Integer version;
+    private String status;                  // BUILDING, ACTIVE, RETIRED, FAILED, DROPPED
+    private String embeddingModel;
+    private Long documentCount;
+    private LocalDateTime activatedAt;
+    private LocalDateTime retiredAt;
+}
@@ -0,0 +1,60 @@
+package org.example.badhabitzero.domain.ai.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.badhabitzero.global.common.BaseEntity;
+
+/**
+ * AI 호출 기록 (Gemini 생성/임베딩, Chroma 검색, 캐시 적중, 응답 파싱 결과)
+ *
+ * 요청 경로에서는 링 버퍼에만 넣고 AiCallJournal이 JDBC 배치로 저장하므로
+ * 엔티티는 테이블 정의와 조회용으로만 사용합니다.
+ */
+@Entity
+@Table(name = "ai_calls",
+        indexes = {
+                @Index(name = "idx_ai_calls_created_at", columnList = "created_at"),
+                @Index(name = "idx_ai_calls_stage_created_at", columnList = "stage, created_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AiCallLog extends BaseEntity {
+
+    @Column(nullable = false, length = 20)
+    private String stage;                       // AiStage
+
+    @Column(nullable = false, length = 20)
+    private String kind;                        // AiCallJournal.Kind
+
+    @Column(length = 100)
+    private String model;                       // 모델 또는 캐시 이름
+
+    @Column(name = "prompt_hash", length = 16)
+    private String promptHash;
+
+    @Column(name = "input_tokens")
+    private Integer inputTokens;
+
+    @Column(name = "output_tokens")
+    private Integer outputTokens;
+
+    @Column(name = "queue_ms", nullable = false)
+    private Integer queueMs;                    // 동시 호출 한도 대기
+
+    @Column(name = "call_ms", nullable = false)
+    private Integer callMs;                     // 원격 호출
+
+    @Column(name = "parse_ms", nullable = false)
+    private Integer parseMs;                    // 응답 파싱
+
+    @Column(name = "total_ms", nullable = false)
+    private Integer totalMs;
+
+    @Column(nullable = false, length = 30)
+    private String outcome;                     // ok / 오류 코드 / hit / miss / fallback
+
+    @Column(name = "user_id")
+    private Long userId;
+}
@@ -0,0 +1,42 @@
+package org.example.badhabitzero.domain.ai.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.badhabitzero.global.common.BaseEntity;
+
+import java.time.LocalDate;
+
+/**
+ * 주체(사용자/IP)별 일일 AI 사용량
+ *
+ * 요청 경로에서는 AiQuotaService의 메모리 카운터만 올리고
+ * flushInterval마다 증가분을 JDBC 배치 upsert로 반영하므로 엔티티는 테이블 정의와 조회용으로만 사용합니다.
+ */
+@Entity
+@Table(name = "ai_usage",
+        uniqueConstraints = @UniqueConstraint(name = "uk_ai_usage_subject_date", columnNames = {"subject", "usage_date"}),
+        indexes = @Index(name = "idx_ai_usage_date", columnList = "usage_date"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AiUsage extends BaseEntity {
+
+    @Column(nullable = false, length = 64)
+    private String subject;                     // user:{id} / ip:{address}
+
+    @Column(name = "usage_date", nullable = false)
+    private LocalDate usageDate;
+
+    @Column(nullable = false)
+    private Long calls;                         // Gemini 생성 호출 수
+
+    @Column(nullable = false)
+    private Long tokens;                        // 입력 + 출력 토큰
+
+    @Column(nullable = false)
+    private Long embeddings;                    // 임베딩한 텍스트 수
+
+    @Column(nullable = false)
+    private Long rejected;                      // 한도 초과로 거절된 요청/호출 수
+}
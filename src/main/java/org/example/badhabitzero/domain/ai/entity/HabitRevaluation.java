@@ -0,0 +1,92 @@
+package org.example.badhabitzero.domain.ai.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.badhabitzero.global.common.BaseEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장된 악습 가치 재산정 진행 상황 (체크포인트)
+ *
+ * 산정 버전(카탈로그 버전 + 모델)마다 1건. lastHabitId까지 반영이 끝났으며
+ * 재시작하면 그 다음 ID부터 이어서 진행합니다.
+ * leaseUntil은 진행 중인 인스턴스의 점유 기한으로, 인스턴스가 죽으면 만료 후 다른 인스턴스가 이어받습니다.
+ */
+@Entity
+@Table(name = "habit_revaluations",
+        indexes = @Index(name = "idx_habit_revaluations_status", columnList = "status"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HabitRevaluation extends BaseEntity {
+
+    @Column(nullable = false, unique = true, length = 200)
+    private String version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "last_habit_id", nullable = false)
+    private Long lastHabitId;
+
+    @Column(nullable = false)
+    private Long scanned;                       // 확인한 악습 수
+
+    @Column(nullable = false)
+    private Long updated;                       // 가치를 갱신한 악습 수
+
+    @Column(nullable = false)
+    private Long failed;                        // 산정 결과가 없어 기존 값을 유지한 악습 수
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Builder
+    private HabitRevaluation(String version, Status status) {
+        this.version = version;
+        this.status = status != null ? status : Status.RUNNING;
+        this.lastHabitId = 0L;
+        this.scanned = 0L;
+        this.updated = 0L;
+        this.failed = 0L;
+        if (this.status == Status.DONE) {
+            this.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    // 페이지 1개 반영 완료
+    public void checkpoint(long lastHabitId, int scanned, int updated, int failed) {
+        this.lastHabitId = lastHabitId;
+        this.scanned = this.scanned + scanned;
+        this.updated = this.updated + updated;
+        this.failed = this.failed + failed;
+        this.leaseUntil = null;
+    }
+
+    // 마지막 페이지까지 완료
+    public void finish() {
+        this.status = Status.DONE;
+        this.leaseUntil = null;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    // 더 새로운 버전이 생겨 중단
+    public void supersede() {
+        this.status = Status.SUPERSEDED;
+        this.leaseUntil = null;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public enum Status {
+        RUNNING,        // 진행 중
+        DONE,           // 완료 (또는 최초 기동 시 기준 버전)
+        SUPERSEDED      // 다음 버전으로 대체되어 중단
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.badhabitzero.domain.ai.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.badhabitzero.domain.ai.service.KnowledgeFacts;
+import org.example.badhabitzero.global.common.BaseEntity;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * RAG 지식 베이스 문서 (Chroma 원본)
+ *
+ * - 임베딩을 함께 저장해 두고 내용 해시(contentHash)가 임베딩 당시 해시(embeddedHash)와 다를 때만 다시 임베딩
+ * - synced = false 인 행은 아직 Chroma에 반영되지 않은 상태
+ * - syncedCategory는 마지막으로 반영한 카테고리 샤드 (카테고리가 바뀌면 이전 샤드에서 지워야 함)
+ */
+@Entity
+@Table(name = "knowledge_facts",
+        indexes = {
+                @Index(name = "idx_knowledge_facts_category", columnList = "category"),
+                @Index(name = "idx_knowledge_facts_synced", columnList = "synced")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class KnowledgeDocument extends BaseEntity {
+
+    @Column(name = "fact_id", nullable = false, unique = true, length = 100)
+    private String factId;                      // Chroma 문서 ID
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(nullable = false, length = 20)
+    private String category;                    // Habit.Category 이름
+
+    @Column(nullable = false, length = 200)
+    private String source;
+
+    @Column(name = "cost_type", nullable = false, length = 20)
+    private String costType;                    // direct, health, opportunity, psychological
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "embedded_hash", length = 64)
+    private String embeddedHash;                // 임베딩을 만든 시점의 contentHash
+
+    @Lob
+    @Column(columnDefinition = "MEDIUMBLOB")
+    private byte[] embedding;                   // float32 little-endian
+
+    @Column(nullable = false)
+    private Boolean synced;
+
+    @Column(name = "synced_category", length = 20)
+    private String syncedCategory;
+
+    @Builder
+    private KnowledgeDocument(String factId, String content, String category, String source, String costType) {
+        this.factId = factId;
+        this.content = content;
+        this.category = category;
+        this.source = source;
+        this.costType = costType;
+        this.contentHash = KnowledgeFacts.hash(content);
+        this.synced = false;
+    }
+
+    /**
+     * 내용 수정 (바뀐 게 없으면 false)
+     */
+    public boolean update(String content, String category, String source, String costType) {
+        if (Objects.equals(this.content, content) && Objects.equals(this.category, category)
+                && Objects.equals(this.source, source) && Objects.equals(this.costType, costType)) {
+            return false;
+        }
+        this.content = content;
+        this.category = category;
+        this.source = source;
+        this.costType = costType;
+        this.contentHash = KnowledgeFacts.hash(content);
+        this.synced = false;
+        return true;
+    }
+
+    // 내용이 바뀌어 임베딩을 다시 만들어야 하는지
+    public boolean needsEmbedding() {
+        return embedding == null || !contentHash.equals(embeddedHash);
+    }
+
+    public void applyEmbedding(List<Float> vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.size() * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        vector.forEach(buffer::putFloat);
+        this.embedding = buffer.array();
+        this.embeddedHash = contentHash;
+        this.synced = false;
+    }
+
+    public List<Float> embeddingVector() {
+        ByteBuffer buffer = ByteBuffer.wrap(embedding).order(ByteOrder.LITTLE_ENDIAN);
+        List<Float> vector = new ArrayList<>(embedding.length / Float.BYTES);
+        while (buffer.hasRemaining()) {
+            vector.add(buffer.getFloat());
+        }
+        return vector;
+    }
+
+    public void markSynced() {
+        this.synced = true;
+        this.syncedCategory = category;
+    }
+
+    // 다른 카테고리 샤드에 이전 내용이 남아 있는지
+    public boolean isMovedFromSyncedCategory() {
+        return syncedCategory != null && !syncedCategory.equals(category);
+    }
+
+    // Chroma가 비어 있을 수 있을 때 (시작 시) 다시 반영
+    public void markUnsynced() {
+        this.synced = false;
+    }
+
+    public KnowledgeFacts.KnowledgeFact toFact() {
+        return new KnowledgeFacts.KnowledgeFact(factId, content, category, source, costType);
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.badhabitzero.domain.ai.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.badhabitzero.global.common.BaseEntity;
+
+/**
+ * 자주 등록되는 악습 × 대표 답변 프로필별 사전 산정 결과
+ */
+@Entity
+@Table(name = "valuation_catalog",
+        indexes = @Index(name = "idx_valuation_catalog_version_category", columnList = "version, category"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ValuationCatalog extends BaseEntity {
+
+    @Column(name = "habit_name", nullable = false, length = 100)
+    private String habitName;
+
+    @Column(name = "normalized_name", nullable = false, length = 100)
+    private String normalizedName;
+
+    @Column(nullable = false, length = 50)
+    private String category;
+
+    // 답변 프로필 (light / typical / heavy)
+    @Column(name = "profile_name", nullable = false, length = 30)
+    private String profileName;
+
+    @Column(name = "profile_money")
+    private Integer profileMoney;               // 1회 금액 (원)
+
+    @Column(name = "profile_weekly_frequency")
+    private Double profileWeeklyFrequency;      // 주당 횟수
+
+    @Column(name = "profile_minutes")
+    private Integer profileMinutes;             // 1회 소요 시간 (분)
+
+    // 산정 결과
+    @Column(nullable = false)
+    private Integer value;
+
+    @Column(name = "direct_cost", nullable = false)
+    private Integer directCost;
+
+    @Column(name = "health_cost", nullable = false)
+    private Integer healthCost;
+
+    @Column(name = "opportunity_cost", nullable = false)
+    private Integer opportunityCost;
+
+    @Column(name = "psychological_cost", nullable = false)
+    private Integer psychologicalCost;
+
+    @Column(columnDefinition = "TEXT")
+    private String explanation;
+
+    @Column(length = 500)
+    private String sources;                     // 쉼표 구분
+
+    // 프롬프트 버전 + 지식 베이스 해시 (바뀌면 다시 생성)
+    @Column(nullable = false, length = 64)
+    private String version;
+
+    @Builder
+    private ValuationCatalog(String habitName, String normalizedName, String category, String profileName,
+                             Integer profileMoney, Double profileWeeklyFrequency, Integer profileMinutes,
+                             Integer value, Integer directCost, Integer healthCost, Integer opportunityCost,
+                             Integer psychologicalCost, String explanation, String sources, String version) {
+        this.habitName = habitName;
+        this.normalizedName = normalizedName;
+        this.category = category;
+        this.profileName = profileName;
+        this.profileMoney = profileMoney;
+        this.profileWeeklyFrequency = profileWeeklyFrequency;
+        this.profileMinutes = profileMinutes;
+        this.value = value;
+        this.directCost = directCost;
+        this.healthCost = healthCost;
+        this.opportunityCost = opportunityCost;
+        this.psychologicalCost = psychologicalCost;
+        this.explanation = explanation;
+        this.sources = sources;
+        this.version = version;
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.badhabitzero.domain.ai.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.badhabitzero.global.common.BaseEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 가치 산정 작업
+ *
+ * 진행 중(PENDING/RUNNING)인 동안만 activeHash에 요청 해시를 넣어
+ * 같은 요청이 동시에 두 번 등록되지 않도록 유니크 제약으로 막습니다.
+ * 워커가 등록한 사용자의 쿼터로 산정하도록 userId/clientIp를 함께 저장합니다.
+ */
+@Entity
+@Table(name = "valuation_jobs",
+        indexes = {
+                @Index(name = "idx_valuation_jobs_status", columnList = "status, id"),
+                @Index(name = "idx_valuation_jobs_request_hash", columnList = "request_hash")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ValuationJob extends BaseEntity {
+
+    @Column(name = "job_id", nullable = false, unique = true, length = 36)
+    private String jobId;                       // 외부 노출용 ID (UUID)
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "active_hash", unique = true, length = 64)
+    private String activeHash;                  // 진행 중일 때만 값 있음 (중복 등록 방지)
+
+    @Column(name = "request_body", nullable = false, columnDefinition = "TEXT")
+    private String requestBody;
+
+    @Column(name = "user_id")
+    private Long userId;                        // 등록한 사용자 (비로그인이면 null)
+
+    @Column(name = "client_ip", length = 45)
+    private String clientIp;                    // 등록한 클라이언트 IP (쿼터 계산 기준)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "result_body", columnDefinition = "TEXT")
+    private String resultBody;
+
+    @Column(name = "error_code", length = 20)
+    private String errorCode;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Builder
+    private ValuationJob(String jobId, String requestHash, String requestBody, Long userId, String clientIp) {
+        this.jobId = jobId;
+        this.requestHash = requestHash;
+        this.activeHash = requestHash;
+        this.requestBody = requestBody;
+        this.userId = userId;
+        this.clientIp = clientIp;
+        this.status = Status.PENDING;
+        this.attempts = 0;
+    }
+
+    // 워커가 가져감
+    public void start() {
+        this.status = Status.RUNNING;
+        this.attempts = attempts + 1;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    // 산정 완료
+    public void complete(String resultBody) {
+        this.status = Status.DONE;
+        this.resultBody = resultBody;
+        this.errorCode = null;
+        finish();
+    }
+
+    // 산정 실패 (재시도 가능하면 대기열로 되돌림)
+    public void fail(String errorCode, boolean retry) {
+        this.errorCode = errorCode;
+        if (retry) {
+            this.status = Status.PENDING;
+            this.startedAt = null;
+            return;
+        }
+        this.status = Status.FAILED;
+        finish();
+    }
+
+    public boolean isFinished() {
+        return status == Status.DONE || status == Status.FAILED;
+    }
+
+    private void finish() {
+        this.activeHash = null;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public enum Status {
+        PENDING,    // 대기
+        RUNNING,    // 산정 중
+        DONE,       // 완료
+        FAILED      // 실패 (재시도 횟수 초과)
+    }
+}
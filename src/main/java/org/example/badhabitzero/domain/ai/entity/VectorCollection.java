@@ -0,0 +1,89 @@
+package org.example.badhabitzero.domain.ai.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.badhabitzero.global.common.BaseEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Chroma 컬렉션 버전 (habit_facts_v{n})
+ *
+ * 검색은 ACTIVE 버전 하나만 사용합니다.
+ * ACTIVE인 동안만 activeAlias에 별칭을 넣어 유니크 제약으로 ACTIVE가 둘이 되지 않도록 막습니다.
+ */
+@Entity
+@Table(name = "vector_collections",
+        indexes = @Index(name = "idx_vector_collections_status", columnList = "status"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VectorCollection extends BaseEntity {
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private Integer version;
+
+    @Column(name = "active_alias", unique = true, length = 100)
+    private String activeAlias;                 // ACTIVE일 때만 값 있음
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "embedding_model", nullable = false, length = 100)
+    private String embeddingModel;
+
+    @Column(name = "document_count")
+    private Long documentCount;
+
+    @Column(name = "activated_at")
+    private LocalDateTime activatedAt;
+
+    @Column(name = "retired_at")
+    private LocalDateTime retiredAt;
+
+    @Builder
+    private VectorCollection(String name, Integer version, String embeddingModel, Status status) {
+        this.name = name;
+        this.version = version;
+        this.embeddingModel = embeddingModel;
+        this.status = status;
+    }
+
+    // 검색 대상으로 전환
+    public void activate(String alias, long documentCount) {
+        this.status = Status.ACTIVE;
+        this.activeAlias = alias;
+        this.documentCount = documentCount;
+        this.activatedAt = LocalDateTime.now();
+    }
+
+    // 검색 대상에서 제외 (유예 기간 후 삭제)
+    public void retire() {
+        this.status = Status.RETIRED;
+        this.activeAlias = null;
+        this.retiredAt = LocalDateTime.now();
+    }
+
+    public void fail() {
+        this.status = Status.FAILED;
+        this.retiredAt = LocalDateTime.now();
+    }
+
+    public void drop() {
+        this.status = Status.DROPPED;
+    }
+
+    public enum Status {
+        BUILDING,   // 채우는 중 (쓰기만 같이 반영)
+        ACTIVE,     // 검색 대상
+        RETIRED,    // 교체됨, 유예 기간 동안 유지
+        FAILED,     // 생성/검증 실패
+        DROPPED     // Chroma에서 삭제됨
+    }
+}
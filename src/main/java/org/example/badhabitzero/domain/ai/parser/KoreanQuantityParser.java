@@ -0,0 +1,518 @@
+package org.example.badhabitzero.domain.ai.parser;
+
+/**
+ * 한국어 자유 답변 수치 파서
+ *
+ * 금액(천/만/억, 한글 숫자, 숫자 혼용), 기간당 횟수, 소요 시간, 수량을 추출합니다.
+ * 정규식이나 부분 문자열 없이 한 번 훑으며 파싱하므로 답변당 할당은 결과 객체 정도입니다.
+ *
+ * 예) "만원 정도" → 10,000원 / "일주일에 두세번" → 주당 2.5회 / "1시간 반" → 90분
+ *     "2~3만원" → 25,000원 / "하루에 반 갑" → 0.5갑 (하루 기준) / "주 3회" → 주당 3회
+ */
+public final class KoreanQuantityParser {
+
+    // 기간 (주 단위)
+    private static final double DAY = 1.0 / 7;
+    private static final double WEEK = 1;
+    private static final double MONTH = 30.4375 / 7;
+    private static final double YEAR = 365.25 / 7;
+
+    // 단위 종류
+    private static final int MONEY = 0;
+    private static final int HOUR = 1;
+    private static final int MINUTE = 2;
+    private static final int OCCURRENCE = 3;
+    private static final int PERIOD = 4;
+    private static final int DAY_COUNT = 5;     // "3일": 기간이 앞에 있으면 횟수("주 3일"), 없으면 기간("3일에 한 번")
+    private static final int QUANTITY = 6;
+
+    // 숫자 뒤 단위 (공통 접두어가 있는 단위는 긴 것부터)
+    private static final String[] UNIT_WORDS = {
+            "원", "시간", "분", "번", "회", "차례",
+            "주일", "주", "개월", "달", "년", "일",
+            "개비", "개피", "개", "갑", "보루", "병", "잔", "캔", "컵", "봉지", "그릇", "인분", "판", "게임", "장"
+    };
+    private static final int[] UNIT_KINDS = {
+            MONEY, HOUR, MINUTE, OCCURRENCE, OCCURRENCE, OCCURRENCE,
+            PERIOD, PERIOD, PERIOD, PERIOD, PERIOD, DAY_COUNT,
+            QUANTITY, QUANTITY, QUANTITY, QUANTITY, QUANTITY, QUANTITY, QUANTITY, QUANTITY, QUANTITY,
+            QUANTITY, QUANTITY, QUANTITY, QUANTITY, QUANTITY, QUANTITY
+    };
+    private static final double[] UNIT_PERIODS = {
+            0, 0, 0, 0, 0, 0,
+            WEEK, WEEK, MONTH, MONTH, YEAR, DAY,
+            0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0
+    };
+
+    // 고유어 수사 (겹치는 접두어는 긴 것부터, 범위 표현은 중간값)
+    private static final String[] NATIVE_WORDS = {
+            "대여섯", "네다섯", "한두", "두세", "서너", "세네", "너덧",
+            "다섯", "여섯", "일곱", "여덟", "아홉", "하나",
+            "한", "둘", "두", "셋", "세", "석", "넷", "네", "반"
+    };
+    private static final double[] NATIVE_VALUES = {
+            5.5, 4.5, 1.5, 2.5, 3.5, 3.5, 4.5,
+            5, 6, 7, 8, 9, 1,
+            1, 2, 2, 3, 3, 3, 4, 4, 0.5
+    };
+    private static final String[] NATIVE_TENS = {"스물", "스무", "서른", "마흔", "열"};
+    private static final double[] NATIVE_TENS_VALUES = {20, 20, 30, 40, 10};
+
+    // 기간 키워드 (숫자 없이 쓰이는 표현, 암시 횟수 0이면 횟수 없음)
+    private static final String[] PERIOD_KEYWORDS = {"일주일", "매일", "날마다", "하루", "매주", "주말", "평일", "매달", "매월", "매년"};
+    private static final double[] PERIOD_KEYWORD_WEEKS = {WEEK, DAY, DAY, DAY, WEEK, WEEK, WEEK, MONTH, MONTH, YEAR};
+    private static final double[] PERIOD_KEYWORD_OCCURRENCES = {0, 1, 1, 0, 1, 1, 5, 1, 1, 1};
+
+    // "주 3회", "월 2회", "연 1회"처럼 숫자 앞에 붙는 한 글자 기간
+    private static final String PREFIX_PERIODS = "주월연";
+    private static final double[] PREFIX_PERIOD_WEEKS = {WEEK, MONTH, YEAR};
+
+    private KoreanQuantityParser() {
+    }
+
+    public static ParsedAnswer parse(CharSequence text) {
+        ParsedAnswer result = new ParsedAnswer();
+        if (text == null || text.isEmpty()) {
+            return result;
+        }
+
+        Cursor cursor = new Cursor(text);
+        double periodWeeks = Double.NaN;
+        double occurrences = Double.NaN;
+        double implicitOccurrences = 0;
+        boolean lastWasHour = false;
+
+        while (cursor.pos < cursor.length) {
+            // 기간 키워드
+            int keyword = matchAny(cursor, PERIOD_KEYWORDS);
+            if (keyword >= 0) {
+                if (Double.isNaN(periodWeeks)) {
+                    periodWeeks = PERIOD_KEYWORD_WEEKS[keyword];
+                    implicitOccurrences = PERIOD_KEYWORD_OCCURRENCES[keyword];
+                }
+                cursor.pos += PERIOD_KEYWORDS[keyword].length();
+                lastWasHour = false;
+                continue;
+            }
+
+            int prefix = prefixPeriod(cursor);
+            if (prefix >= 0) {
+                if (Double.isNaN(periodWeeks)) {
+                    periodWeeks = PREFIX_PERIOD_WEEKS[prefix];
+                }
+                cursor.pos++;
+                continue;
+            }
+
+            int start = cursor.pos;
+            double value = readRange(cursor);
+            if (Double.isNaN(value)) {
+                cursor.pos = start + 1;
+                continue;
+            }
+
+            int numberEnd = cursor.pos;
+            skipSpaces(cursor);
+            int unit = matchAny(cursor, UNIT_WORDS);
+            if (unit < 0) {
+                // 단위 없는 숫자는 버림 (한글 수사 오인식 방지)
+                cursor.pos = Math.max(numberEnd, start + 1);
+                lastWasHour = false;
+                continue;
+            }
+            cursor.pos += UNIT_WORDS[unit].length();
+            value = readUnitRange(cursor, value, UNIT_WORDS[unit]);
+
+            switch (UNIT_KINDS[unit]) {
+                case MONEY -> {
+                    if (!result.hasMoney()) {
+                        result.setMoney(value);
+                    }
+                }
+                case HOUR -> {
+                    if (!result.hasMinutes()) {
+                        double minutes = value * 60;
+                        // "1시간 반"
+                        int afterUnit = cursor.pos;
+                        skipSpaces(cursor);
+                        if (matches(cursor, "반")) {
+                            minutes += 30;
+                            cursor.pos++;
+                        } else {
+                            cursor.pos = afterUnit;
+                        }
+                        result.setMinutes(minutes);
+                        lastWasHour = true;
+                        continue;
+                    }
+                }
+                case MINUTE -> {
+                    if (lastWasHour) {
+                        result.setMinutes(result.getMinutes() + value);  // "2시간 30분"
+                    } else if (!result.hasMinutes()) {
+                        result.setMinutes(value);
+                    }
+                }
+                case OCCURRENCE -> {
+                    // "한 번에"(1회당), "두 번째"(서수)는 횟수가 아님
+                    if (Double.isNaN(occurrences) && !matches(cursor, "에") && !matches(cursor, "째")) {
+                        occurrences = value;
+                    }
+                }
+                case PERIOD -> {
+                    if (Double.isNaN(periodWeeks)) {
+                        periodWeeks = value * UNIT_PERIODS[unit];
+                    }
+                }
+                case DAY_COUNT -> {
+                    if (Double.isNaN(periodWeeks)) {
+                        periodWeeks = value * DAY;
+                    } else if (Double.isNaN(occurrences)) {
+                        occurrences = value;
+                    }
+                }
+                case QUANTITY -> {
+                    if (!result.hasQuantity()) {
+                        result.setQuantity(value);
+                        result.setQuantityUnit(UNIT_WORDS[unit]);
+                    }
+                }
+                default -> {
+                }
+            }
+            lastWasHour = false;
+        }
+
+        if (Double.isNaN(occurrences) && implicitOccurrences > 0) {
+            occurrences = implicitOccurrences;
+        }
+        result.setOccurrences(occurrences);
+        if (!Double.isNaN(occurrences) && !Double.isNaN(periodWeeks)) {
+            result.setFrequencyPerWeek(occurrences / periodWeeks);
+        }
+
+        // 횟수 없이 기간만 있으면 금액/수량은 그 기간의 합계 ("한 달에 10만원", "하루에 한 갑")
+        if (Double.isNaN(occurrences) && !Double.isNaN(periodWeeks)) {
+            if (result.hasMoney()) {
+                result.setMoneyPeriodWeeks(periodWeeks);
+            }
+            if (result.hasQuantity()) {
+                result.setQuantityPeriodWeeks(periodWeeks);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 숫자 또는 범위("2~3만", "5천에서 만", "두세")를 읽고 중간값 반환 (숫자가 아니면 NaN)
+     */
+    private static double readRange(Cursor cursor) {
+        double first = readNumber(cursor);
+        if (Double.isNaN(first)) {
+            return first;
+        }
+        double firstScale = cursor.scale;
+        int firstEnd = cursor.pos;
+
+        boolean separator = skipRangeSeparator(cursor);
+        if (!separator && matches(cursor, ",") && isDigit(cursor.text.charAt(firstEnd - 1))
+                && firstEnd + 1 < cursor.length && isDigit(cursor.text.charAt(firstEnd + 1))) {
+            // "2,3번" (천 단위 구분 쉼표는 readDigits에서 이미 처리)
+            cursor.pos++;
+            separator = true;
+        }
+        if (separator) {
+            double second = readNumber(cursor);
+            if (!Double.isNaN(second)) {
+                // "2~3만원": 앞 숫자에 뒤 숫자의 단위 적용
+                if (firstScale == 1 && cursor.scale > 1 && first * cursor.scale <= second * 10) {
+                    first *= cursor.scale;
+                }
+                return (first + second) / 2;
+            }
+        }
+        cursor.pos = firstEnd;
+        return first;
+    }
+
+    /**
+     * 단위까지 붙은 범위 ("5천원에서 만원", "1~2시간"은 readRange에서 처리)
+     */
+    private static double readUnitRange(Cursor cursor, double first, String unit) {
+        int afterUnit = cursor.pos;
+        if (skipRangeSeparator(cursor)) {
+            double second = readNumber(cursor);
+            if (!Double.isNaN(second)) {
+                skipSpaces(cursor);
+                if (matches(cursor, unit)) {
+                    cursor.pos += unit.length();
+                    return (first + second) / 2;
+                }
+            }
+        }
+        cursor.pos = afterUnit;
+        return first;
+    }
+
+    // 범위 구분자 ("~", "-", "에서") 건너뛰기, 없으면 공백만 건너뜀
+    private static boolean skipRangeSeparator(Cursor cursor) {
+        skipSpaces(cursor);
+        if (cursor.pos < cursor.length && "~-〜∼".indexOf(cursor.charAt()) >= 0) {
+            cursor.pos++;
+        } else if (matches(cursor, "에서")) {
+            cursor.pos += 2;
+        } else {
+            return false;
+        }
+        skipSpaces(cursor);
+        return true;
+    }
+
+    /**
+     * 숫자 하나 읽기: 아라비아 숫자, 한자어 수사+단위("삼만", "오천"), 단위만("만", "천"), 고유어 수사("두", "다섯")
+     */
+    private static double readNumber(Cursor cursor) {
+        int start = cursor.pos;
+        cursor.scale = 1;
+
+        double total = 0;      // 만/억 단위로 확정된 값
+        double section = 0;    // 만 미만 누적
+        double pending = -1;   // 단위를 기다리는 숫자
+        boolean any = false;
+
+        while (cursor.pos < cursor.length) {
+            char c = cursor.charAt();
+            int smallScale = smallScale(c);
+            int bigScale = bigScale(c);
+
+            if (isDigit(c)) {
+                if (pending >= 0) {
+                    break;
+                }
+                pending = readDigits(cursor);
+                any = true;
+            } else if (pending < 0 && sinoDigit(c) > 0 && cursor.pos + 1 < cursor.length
+                    && (smallScale(cursor.text.charAt(cursor.pos + 1)) > 0 || bigScale(cursor.text.charAt(cursor.pos + 1)) > 0)) {
+                pending = sinoDigit(c);
+                cursor.pos++;
+            } else if (smallScale > 0) {
+                section += (pending < 0 ? 1 : pending) * smallScale;
+                pending = -1;
+                cursor.scale = Math.max(cursor.scale, smallScale);
+                cursor.pos++;
+                any = true;
+            } else if (bigScale > 0) {
+                double unit = section + Math.max(pending, 0);
+                total += (unit == 0 ? 1 : unit) * bigScale;
+                section = 0;
+                pending = -1;
+                cursor.scale = Math.max(cursor.scale, bigScale);
+                cursor.pos++;
+                any = true;
+                // "1만 5천", "이만 오천"
+                if (!continuesAfterSpace(cursor)) {
+                    break;
+                }
+                skipSpaces(cursor);
+            } else {
+                break;
+            }
+        }
+
+        if (any) {
+            return total + section + Math.max(pending, 0);
+        }
+
+        cursor.pos = start;
+        return readNative(cursor);
+    }
+
+    // 고유어 수사 ("열두" 같은 십 단위 조합 포함)
+    private static double readNative(Cursor cursor) {
+        int tens = matchAny(cursor, NATIVE_TENS);
+        double value = 0;
+        if (tens >= 0) {
+            value = NATIVE_TENS_VALUES[tens];
+            cursor.pos += NATIVE_TENS[tens].length();
+        }
+        int ones = matchAny(cursor, NATIVE_WORDS);
+        if (ones >= 0 && !(tens >= 0 && NATIVE_VALUES[ones] < 1)) {
+            value += NATIVE_VALUES[ones];
+            cursor.pos += NATIVE_WORDS[ones].length();
+        }
+        return value > 0 ? value : Double.NaN;
+    }
+
+    // 정수/소수 (천 단위 쉼표 허용)
+    private static double readDigits(Cursor cursor) {
+        double value = 0;
+        while (cursor.pos < cursor.length) {
+            char c = cursor.charAt();
+            if (isDigit(c)) {
+                value = value * 10 + (c - '0');
+                cursor.pos++;
+            } else if (c == ',' && isThousandsGroup(cursor)) {
+                cursor.pos++;
+            } else {
+                break;
+            }
+        }
+        if (cursor.pos + 1 < cursor.length && cursor.charAt() == '.' && isDigit(cursor.text.charAt(cursor.pos + 1))) {
+            cursor.pos++;
+            double fraction = 0.1;
+            while (cursor.pos < cursor.length && isDigit(cursor.charAt())) {
+                value += (cursor.charAt() - '0') * fraction;
+                fraction /= 10;
+                cursor.pos++;
+            }
+        }
+        return value;
+    }
+
+    // 쉼표 뒤가 정확히 숫자 3자리인지
+    private static boolean isThousandsGroup(Cursor cursor) {
+        int end = cursor.pos + 4;
+        for (int i = cursor.pos + 1; i < end; i++) {
+            if (i >= cursor.length || !isDigit(cursor.text.charAt(i))) {
+                return false;
+            }
+        }
+        return end >= cursor.length || !isDigit(cursor.text.charAt(end));
+    }
+
+    // 만/억 뒤 공백 다음에 이어지는 숫자가 있는지 ("1만 5천원"은 이어지고 "1만 5번"은 아님)
+    private static boolean continuesAfterSpace(Cursor cursor) {
+        int i = cursor.pos;
+        while (i < cursor.length && cursor.text.charAt(i) == ' ') {
+            i++;
+        }
+        if (i == cursor.pos || i >= cursor.length) {
+            return false;
+        }
+        char c = cursor.text.charAt(i);
+        if (sinoDigit(c) > 0 && i + 1 < cursor.length) {
+            return smallScale(cursor.text.charAt(i + 1)) > 0;
+        }
+        while (i < cursor.length && isDigit(cursor.text.charAt(i))) {
+            i++;
+        }
+        return i < cursor.length && i > cursor.pos && smallScale(cursor.text.charAt(i)) > 0;
+    }
+
+    // "주 3회"의 "주"처럼 단어 첫 글자이면서 바로 뒤에 숫자가 오는 한 글자 기간
+    private static int prefixPeriod(Cursor cursor) {
+        int index = PREFIX_PERIODS.indexOf(cursor.charAt());
+        if (index < 0 || (cursor.pos > 0 && isHangul(cursor.text.charAt(cursor.pos - 1)))) {
+            return -1;
+        }
+        int i = cursor.pos + 1;
+        while (i < cursor.length && cursor.text.charAt(i) == ' ') {
+            i++;
+        }
+        if (i >= cursor.length) {
+            return -1;
+        }
+        char next = cursor.text.charAt(i);
+        return isDigit(next) || startsWithAny(cursor.text, i, NATIVE_WORDS) ? index : -1;
+    }
+
+    private static int matchAny(Cursor cursor, String[] words) {
+        for (int i = 0; i < words.length; i++) {
+            if (matches(cursor, words[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean startsWithAny(CharSequence text, int pos, String[] words) {
+        for (String word : words) {
+            if (startsWith(text, pos, word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(Cursor cursor, String word) {
+        return startsWith(cursor.text, cursor.pos, word);
+    }
+
+    private static boolean startsWith(CharSequence text, int pos, String word) {
+        if (pos + word.length() > text.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (text.charAt(pos + i) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void skipSpaces(Cursor cursor) {
+        while (cursor.pos < cursor.length && cursor.charAt() == ' ') {
+            cursor.pos++;
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private static int sinoDigit(char c) {
+        return switch (c) {
+            case '일' -> 1;
+            case '이' -> 2;
+            case '삼' -> 3;
+            case '사' -> 4;
+            case '오' -> 5;
+            case '육' -> 6;
+            case '칠' -> 7;
+            case '팔' -> 8;
+            case '구' -> 9;
+            default -> 0;
+        };
+    }
+
+    private static int smallScale(char c) {
+        return switch (c) {
+            case '십' -> 10;
+            case '백' -> 100;
+            case '천' -> 1_000;
+            default -> 0;
+        };
+    }
+
+    private static int bigScale(char c) {
+        return switch (c) {
+            case '만' -> 10_000;
+            case '억' -> 100_000_000;
+            default -> 0;
+        };
+    }
+
+    /**
+     * 파싱 위치 (답변당 1개)
+     */
+    private static final class Cursor {
+
+        private final CharSequence text;
+        private final int length;
+        private int pos;
+        private double scale;   // 마지막으로 읽은 숫자의 최대 단위 (범위 보정용)
+
+        private Cursor(CharSequence text) {
+            this.text = text;
+            this.length = text.length();
+        }
+
+        private char charAt() {
+            return text.charAt(pos);
+        }
+    }
+}
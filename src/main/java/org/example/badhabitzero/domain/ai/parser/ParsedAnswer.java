@@ -0,0 +1,144 @@
+package org.example.badhabitzero.domain.ai.parser;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 답변에서 추출한 수치 (없는 항목은 NaN)
+ */
+@Getter
+@Setter(AccessLevel.PACKAGE)
+public class ParsedAnswer {
+
+    private static final double DAY_WEEKS = 1.0 / 7;
+    private static final double MONTH_WEEKS = 30.4375 / 7;
+    private static final double YEAR_WEEKS = 365.25 / 7;
+
+    private double money = Double.NaN;               // 금액 (원)
+    private double moneyPeriodWeeks = Double.NaN;    // 금액이 기간 합계일 때 그 기간 (주 단위), 1회 금액이면 NaN
+    private double minutes = Double.NaN;             // 소요 시간 (분)
+    private double occurrences = Double.NaN;         // 횟수 (기간을 모르는 경우 포함)
+    private double frequencyPerWeek = Double.NaN;    // 주당 횟수 (기간을 알 때만)
+    private double quantity = Double.NaN;            // 수량
+    private String quantityUnit;                     // 수량 단위 (갑, 병, 잔 ...)
+    private double quantityPeriodWeeks = Double.NaN; // 수량이 기간 합계일 때 그 기간 (주 단위), 1회 수량이면 NaN
+
+    public boolean hasMoney() {
+        return !Double.isNaN(money);
+    }
+
+    public boolean hasMinutes() {
+        return !Double.isNaN(minutes);
+    }
+
+    public boolean hasFrequency() {
+        return !Double.isNaN(occurrences);
+    }
+
+    public boolean hasQuantity() {
+        return !Double.isNaN(quantity);
+    }
+
+    public boolean isEmpty() {
+        return !hasMoney() && !hasMinutes() && !hasFrequency() && !hasQuantity();
+    }
+
+    /**
+     * 주당 횟수 (기간 없이 횟수만 답했으면 주 단위 질문에 대한 답으로 간주)
+     */
+    public double weeklyFrequency() {
+        return Double.isNaN(frequencyPerWeek) ? occurrences : frequencyPerWeek;
+    }
+
+    /**
+     * 1회 금액 (기간 합계로 답했으면 주당 횟수로 나눔, 횟수를 모르면 NaN)
+     */
+    public double moneyPerUse() {
+        return perUse(money, moneyPeriodWeeks);
+    }
+
+    /**
+     * 1회 수량 (기간 합계로 답했으면 주당 횟수로 나눔, 횟수를 모르면 NaN)
+     */
+    public double quantityPerUse() {
+        return perUse(quantity, quantityPeriodWeeks);
+    }
+
+    private double perUse(double amount, double periodWeeks) {
+        if (Double.isNaN(periodWeeks)) {
+            return amount;
+        }
+        double frequency = weeklyFrequency();
+        if (Double.isNaN(frequency) || frequency <= 0) {
+            return Double.NaN;
+        }
+        return amount / (periodWeeks * frequency);
+    }
+
+    /**
+     * 비어있는 항목만 다른 답변 값으로 채움 (먼저 나온 답변 우선)
+     */
+    public ParsedAnswer mergeMissing(ParsedAnswer other) {
+        if (!hasMoney() && other.hasMoney()) {
+            money = other.money;
+            moneyPeriodWeeks = other.moneyPeriodWeeks;
+        }
+        if (!hasMinutes() && other.hasMinutes()) {
+            minutes = other.minutes;
+        }
+        if (!hasFrequency() && other.hasFrequency()) {
+            occurrences = other.occurrences;
+            frequencyPerWeek = other.frequencyPerWeek;
+        }
+        if (!hasQuantity() && other.hasQuantity()) {
+            quantity = other.quantity;
+            quantityUnit = other.quantityUnit;
+            quantityPeriodWeeks = other.quantityPeriodWeeks;
+        }
+        return this;
+    }
+
+    /**
+     * 프롬프트용 요약 (한 줄에 한 항목, 없으면 빈 문자열)
+     */
+    public String toPromptLines() {
+        StringBuilder lines = new StringBuilder();
+        if (hasMoney()) {
+            lines.append(String.format("- 금액: %,.0f원%s%n", money, periodSuffix(moneyPeriodWeeks)));
+        }
+        if (hasFrequency()) {
+            if (Double.isNaN(frequencyPerWeek)) {
+                lines.append(String.format("- 횟수: %.1f회 (기간 미상)%n", occurrences));
+            } else {
+                lines.append(String.format("- 빈도: 주당 %.1f회%n", frequencyPerWeek));
+            }
+        }
+        if (hasMinutes()) {
+            lines.append(String.format("- 1회 소요 시간: %.0f분%n", minutes));
+        }
+        if (hasQuantity()) {
+            lines.append(String.format("- 수량: %.1f%s%s%n", quantity, quantityUnit, periodSuffix(quantityPeriodWeeks)));
+        }
+        return lines.toString();
+    }
+
+    private static String periodSuffix(double periodWeeks) {
+        if (Double.isNaN(periodWeeks)) {
+            return " (1회당)";
+        }
+        if (Math.abs(periodWeeks - DAY_WEEKS) < 1e-6) {
+            return " (하루 기준)";
+        }
+        if (Math.abs(periodWeeks - 1) < 1e-6) {
+            return " (1주 기준)";
+        }
+        if (Math.abs(periodWeeks - MONTH_WEEKS) < 1e-6) {
+            return " (1달 기준)";
+        }
+        if (Math.abs(periodWeeks - YEAR_WEEKS) < 1e-6) {
+            return " (1년 기준)";
+        }
+        return String.format(" (%.1f주 기준)", periodWeeks);
+    }
+}
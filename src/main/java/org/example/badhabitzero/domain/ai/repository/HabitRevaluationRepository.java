@@ -0,0 +1,32 @@
+package org.example.badhabitzero.domain.ai.repository;
+
+import org.example.badhabitzero.domain.ai.entity.HabitRevaluation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface HabitRevaluationRepository extends JpaRepository<HabitRevaluation, Long> {
+    // 버전별 진행 상황
+    Optional<HabitRevaluation> findByVersion(String version);
+
+    // 상태별 진행 상황
+    List<HabitRevaluation> findByStatus(HabitRevaluation.Status status);
+
+    // 점유 기한이 없거나 지난 경우만 점유 (1이면 성공)
+    @Modifying
+    @Query("update HabitRevaluation r set r.leaseUntil = :leaseUntil " +
+            "where r.id = :id " +
+            "and r.status = org.example.badhabitzero.domain.ai.entity.HabitRevaluation.Status.RUNNING " +
+            "and (r.leaseUntil is null or r.leaseUntil < :now)")
+    int acquireLease(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 점유 해제
+    @Modifying
+    @Query("update HabitRevaluation r set r.leaseUntil = null where r.id = :id")
+    int releaseLease(@Param("id") Long id);
+}
@@ -0,0 +1,55 @@
+package org.example.badhabitzero.domain.ai.repository;
+
+import org.example.badhabitzero.domain.ai.entity.KnowledgeDocument;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface KnowledgeDocumentRepository extends JpaRepository<KnowledgeDocument, Long> {
+    // 문서 ID로 조회
+    Optional<KnowledgeDocument> findByFactId(String factId);
+
+    // 가져오기 배치 단위 조회
+    List<KnowledgeDocument> findByFactIdIn(Collection<String> factIds);
+
+    // Chroma 미반영 문서 (재시도용)
+    List<KnowledgeDocument> findTop100BySyncedFalseOrderByIdAsc();
+
+    // 전체 목록 (임베딩 제외)
+    List<KnowledgeFactView> findAllByOrderByFactIdAsc();
+
+    // 카테고리별 목록 (임베딩 제외)
+    List<KnowledgeFactView> findByCategoryOrderByFactIdAsc(String category);
+
+    // 시작 시 전체 반영용 페이지 조회
+    Page<KnowledgeDocument> findAllBy(Pageable pageable);
+
+    // 재구축 중 변경된 문서 (따라잡기용)
+    Page<KnowledgeDocument> findByUpdatedAtGreaterThanEqual(LocalDateTime updatedAfter, Pageable pageable);
+
+    /**
+     * 임베딩 컬럼을 읽지 않는 조회용 프로젝션
+     */
+    interface KnowledgeFactView {
+        String getFactId();
+
+        String getContent();
+
+        String getCategory();
+
+        String getSource();
+
+        String getCostType();
+
+        String getContentHash();
+
+        Boolean getSynced();
+
+        LocalDateTime getUpdatedAt();
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.badhabitzero.domain.ai.repository;
+
+import org.example.badhabitzero.domain.ai.entity.ValuationCatalog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ValuationCatalogRepository extends JpaRepository<ValuationCatalog, Long> {
+    // 해당 버전의 사전 산정 결과
+    List<ValuationCatalog> findByVersion(String version);
+
+    // 해당 버전이 이미 생성되었는지
+    boolean existsByVersion(String version);
+
+    // 이전 버전 삭제
+    @Modifying
+    @Query("delete from ValuationCatalog c where c.version <> :version")
+    int deleteByVersionNot(@Param("version") String version);
+}
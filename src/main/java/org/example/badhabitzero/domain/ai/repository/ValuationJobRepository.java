@@ -0,0 +1,41 @@
+package org.example.badhabitzero.domain.ai.repository;
+
+import org.example.badhabitzero.domain.ai.entity.ValuationJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ValuationJobRepository extends JpaRepository<ValuationJob, Long> {
+    // 외부 ID로 조회
+    Optional<ValuationJob> findByJobId(String jobId);
+
+    // 같은 요청의 진행 중인 작업
+    Optional<ValuationJob> findByActiveHash(String activeHash);
+
+    // 같은 요청의 최근 완료 작업 (재시도 시 재사용)
+    Optional<ValuationJob> findFirstByRequestHashAndStatusAndFinishedAtAfterOrderByIdDesc(
+            String requestHash, ValuationJob.Status status, LocalDateTime finishedAfter);
+
+    // 대기 중인 작업 가져오기 (다른 워커가 잠근 행은 건너뜀)
+    @Query(value = "SELECT * FROM valuation_jobs WHERE status = 'PENDING' ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<ValuationJob> findPendingForUpdate(@Param("limit") int limit);
+
+    // 오래 멈춘 작업을 대기열로 되돌림 (워커 인스턴스 종료 등)
+    @Modifying
+    @Query("update ValuationJob j " +
+            "set j.status = org.example.badhabitzero.domain.ai.entity.ValuationJob.Status.PENDING, j.startedAt = null " +
+            "where j.status = org.example.badhabitzero.domain.ai.entity.ValuationJob.Status.RUNNING " +
+            "and j.startedAt < :startedBefore")
+    int requeueStale(@Param("startedBefore") LocalDateTime startedBefore);
+
+    // 보관 기간 지난 완료 작업 삭제
+    @Modifying
+    @Query("delete from ValuationJob j where j.finishedAt < :finishedBefore")
+    int deleteFinishedBefore(@Param("finishedBefore") LocalDateTime finishedBefore);
+}
@@ -0,0 +1,30 @@
+package org.example.badhabitzero.domain.ai.repository;
+
+import org.example.badhabitzero.domain.ai.entity.VectorCollection;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface VectorCollectionRepository extends JpaRepository<VectorCollection, Long> {
+    // 별칭이 가리키는 컬렉션
+    Optional<VectorCollection> findByActiveAlias(String activeAlias);
+
+    // 상태별 조회
+    List<VectorCollection> findByStatusIn(Collection<VectorCollection.Status> statuses);
+
+    // 가장 최근 버전
+    Optional<VectorCollection> findTopByOrderByVersionDesc();
+
+    // 유예 기간이 지난 교체/실패 컬렉션
+    List<VectorCollection> findByStatusInAndRetiredAtBefore(Collection<VectorCollection.Status> statuses,
+                                                           LocalDateTime retiredBefore);
+
+    // 오래 멈춘 재구축 (인스턴스 종료 등)
+    List<VectorCollection> findByStatusAndUpdatedAtBefore(VectorCollection.Status status, LocalDateTime updatedBefore);
+
+    // 최근 버전 목록
+    List<VectorCollection> findTop20ByOrderByVersionDesc();
+}
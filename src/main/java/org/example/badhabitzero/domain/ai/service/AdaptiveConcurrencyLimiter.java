@@ -0,0 +1,281 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import org.example.badhabitzero.domain.ai.config.AiLimiterProperties;
+import org.example.badhabitzero.global.error.BusinessException;
+import org.example.badhabitzero.global.error.ErrorCode;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 적응형 동시 호출 제한기 (AIMD + 지연 기울기) + 우선순위 레인
+ *
+ * - 응답이 빠르면 한도를 1/limit 씩 늘리고 (Additive Increase)
+ * - 429/5xx/타임아웃 또는 지연이 최소 지연의 tolerance 배를 넘으면 한도를 줄임 (Multiplicative Decrease)
+ *   (직전 감소 이후에 시작한 호출의 신호만 반영해 RTT 한 번에 최대 한 번만 줄임)
+ * - 지연 샘플은 재시도 대기를 뺀 시도 단위 응답 시간 (Permit.onSuccess(rttNanos))
+ * - 한도를 넘는 요청은 레인별로 maxQueue 까지 FIFO로 대기, 그 이상은 즉시 AI_OVERLOADED
+ * - INTERACTIVE 레인이 먼저, BACKGROUND 레인은 대화형 대기열이 비어 있고
+ *   한도의 backgroundShare 이내일 때만 실행 (starvationThreshold 이상 기다리면 대화형과 동일하게 취급)
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    // 기아 방지 판단을 위해 대기 중인 스레드를 주기적으로 깨우는 간격
+    private static final long WAKE_UP_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Getter
+    private final String name;
+    private final AiLimiterProperties properties;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final Map<AiPriority, Deque<Waiter>> queues = new EnumMap<>(AiPriority.class);
+    private final Map<AiPriority, AtomicInteger> queueDepths = new EnumMap<>(AiPriority.class);
+    private final Map<AiPriority, Timer> queueWaitTimers = new EnumMap<>(AiPriority.class);
+
+    // lock 안에서만 변경, 메트릭 조회용으로 volatile
+    @Getter
+    private volatile double limit;
+    @Getter
+    private volatile int inFlight;
+    @Getter
+    private final LongAdder rejected = new LongAdder();
+
+    // 최소 지연 측정 (rttWindow 샘플마다 갱신)
+    private long minRttNanos = Long.MAX_VALUE;
+    private long windowMinRttNanos = Long.MAX_VALUE;
+    private int windowSamples;
+
+    // 마지막으로 한도를 줄인 시각 (이보다 먼저 시작한 호출의 과부하 신호는 이미 반영된 것으로 봄)
+    private long lastDecreaseNanos;
+
+    public AdaptiveConcurrencyLimiter(String name, AiLimiterProperties properties, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.properties = properties;
+        this.limit = properties.getInitialLimit();
+        this.lastDecreaseNanos = System.nanoTime();
+
+        for (AiPriority lane : AiPriority.values()) {
+            queues.put(lane, new ArrayDeque<>());
+            queueDepths.put(lane, new AtomicInteger());
+            queueWaitTimers.put(lane, Timer.builder("ai.limiter.queue.wait")
+                    .tag("client", name)
+                    .tag("lane", lane.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 현재 스레드의 레인(AiPriority)으로 호출 허가 획득 (한도 초과 시 maxWait 동안 대기)
+     */
+    public Permit acquire(Duration maxWait) {
+        AiPriority lane = AiPriority.current();
+        Deque<Waiter> queue = queues.get(lane);
+        long enqueuedAt = System.nanoTime();
+
+        lock.lock();
+        try {
+            if (queue.isEmpty() && canRun(lane, enqueuedAt)) {
+                return grant(lane, enqueuedAt);
+            }
+
+            if (queue.size() >= properties.getMaxQueue()) {
+                throw overloaded();
+            }
+
+            Waiter waiter = new Waiter(enqueuedAt);
+            queue.addLast(waiter);
+            queueDepths.get(lane).set(queue.size());
+            long deadline = enqueuedAt + maxWait.toNanos();
+            try {
+                // 내 차례(레인 대기열 맨 앞)이면서 실행 조건을 만족할 때까지 대기
+                while (queue.peekFirst() != waiter || !canRun(lane, waiter.enqueuedAt)) {
+                    long left = deadline - System.nanoTime();
+                    if (left <= 0) {
+                        throw overloaded();
+                    }
+                    available.awaitNanos(Math.min(left, WAKE_UP_NANOS));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw overloaded();
+            } finally {
+                queue.remove(waiter);
+                queueDepths.get(lane).set(queue.size());
+                available.signalAll();
+            }
+
+            return grant(lane, enqueuedAt);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Permit grant(AiPriority lane, long enqueuedAt) {
+        inFlight++;
+        queueWaitTimers.get(lane).record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+        return new Permit();
+    }
+
+    private boolean canRun(AiPriority lane, long enqueuedAt) {
+        int currentLimit = currentLimit();
+        if (inFlight >= currentLimit) {
+            return false;
+        }
+        if (lane == AiPriority.INTERACTIVE) {
+            return true;
+        }
+
+        // 오래 기다린 백그라운드 작업은 대화형과 같은 조건으로 실행 (기아 방지)
+        if (System.nanoTime() - enqueuedAt >= properties.getStarvationThreshold().toNanos()) {
+            return true;
+        }
+
+        // 백그라운드는 대화형 대기가 없고, 한도의 일부(backgroundShare)만 사용
+        int backgroundLimit = Math.max(1, (int) (currentLimit * properties.getBackgroundShare()));
+        return queues.get(AiPriority.INTERACTIVE).isEmpty() && inFlight < backgroundLimit;
+    }
+
+    private void release(long startedAt, long rttNanos, Outcome outcome) {
+        lock.lock();
+        try {
+            inFlight--;
+            if (outcome == Outcome.SUCCESS) {
+                onSuccess(startedAt, rttNanos);
+            } else if (outcome == Outcome.DROPPED) {
+                decrease(startedAt);
+            }
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onSuccess(long startedAt, long rttNanos) {
+        // 최소 지연은 윈도우 단위로 갱신 (업스트림 상태 변화 반영)
+        windowMinRttNanos = Math.min(windowMinRttNanos, rttNanos);
+        if (++windowSamples >= properties.getRttWindow()) {
+            minRttNanos = windowMinRttNanos;
+            windowMinRttNanos = Long.MAX_VALUE;
+            windowSamples = 0;
+        }
+        minRttNanos = Math.min(minRttNanos, rttNanos);
+
+        // 지연이 최소 지연 대비 tolerance 배를 넘으면 큐잉이 시작된 것으로 판단
+        if (rttNanos > minRttNanos * properties.getLatencyTolerance()) {
+            decrease(startedAt);
+            return;
+        }
+
+        // 한도를 절반 이상 쓰고 있을 때만 증가 (유휴 상태에서 한도가 무한히 커지는 것 방지)
+        if (inFlight + 1 >= limit / 2) {
+            limit = Math.min(properties.getMaxLimit(), limit + 1.0 / limit);
+        }
+    }
+
+    // 동시에 실패한 호출 N개가 한도를 N번 줄이지 않도록 직전 감소 이후 시작한 호출만 반영
+    private void decrease(long startedAt) {
+        if (startedAt - lastDecreaseNanos < 0) {
+            return;
+        }
+        limit = Math.max(properties.getMinLimit(), limit * properties.getBackoffRatio());
+        lastDecreaseNanos = System.nanoTime();
+    }
+
+    private int currentLimit() {
+        return (int) limit;
+    }
+
+    private BusinessException overloaded() {
+        rejected.increment();
+        return new BusinessException(ErrorCode.AI_OVERLOADED);
+    }
+
+    // 레인별 대기열 길이 (메트릭용)
+    public int getQueueDepth(AiPriority lane) {
+        return queueDepths.get(lane).get();
+    }
+
+    /**
+     * 업스트림 과부하 신호인지 (429, 5xx, 타임아웃)
+     */
+    public static boolean isOverloadSignal(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof WebClientResponseException responseException) {
+                int status = responseException.getStatusCode().value();
+                return status == 429 || status >= 500;
+            }
+            if (t instanceof TimeoutException) {
+                return true;
+            }
+            // block(timeout) 초과 시 IllegalStateException("Timeout on blocking read ...")
+            if (t instanceof IllegalStateException && t.getMessage() != null && t.getMessage().startsWith("Timeout")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private enum Outcome {
+        SUCCESS, DROPPED, IGNORED
+    }
+
+    // 대기열 항목 (동일성 비교로 순서를 판단하므로 record 대신 class 사용)
+    private static final class Waiter {
+
+        private final long enqueuedAt;
+
+        private Waiter(long enqueuedAt) {
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    /**
+     * 호출 허가 - 호출이 끝나면 결과를 기록하고 반드시 close
+     */
+    public class Permit implements AutoCloseable {
+
+        private final long startNanos = System.nanoTime();
+        private long rttNanos;
+        private Outcome outcome = Outcome.IGNORED;
+        private boolean released;
+
+        // 정상 응답 (허가를 얻은 뒤 반납까지의 시간을 지연 샘플로 사용)
+        public void onSuccess() {
+            outcome = Outcome.SUCCESS;
+        }
+
+        // 정상 응답 (재시도가 있었으면 마지막 시도의 응답 시간을 지연 샘플로 사용, 0이면 onSuccess()와 같음)
+        public void onSuccess(long rttNanos) {
+            this.rttNanos = rttNanos;
+            outcome = Outcome.SUCCESS;
+        }
+
+        // 과부하 신호 (한도 감소)
+        public void onDropped() {
+            outcome = Outcome.DROPPED;
+        }
+
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+            release(startNanos, rttNanos > 0 ? rttNanos : System.nanoTime() - startNanos, outcome);
+        }
+    }
+}
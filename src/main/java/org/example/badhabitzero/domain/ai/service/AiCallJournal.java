@@ -0,0 +1,223 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.domain.ai.config.AiJournalProperties;
+import org.example.badhabitzero.global.error.BusinessException;
+import org.example.badhabitzero.global.security.CustomUserDetails;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI 호출 기록 (ai_calls)
+ *
+ * - 요청 스레드는 락 프리 링 버퍼에 넣기만 하고, flushInterval마다 JDBC 배치 INSERT로 저장
+ * - 버퍼가 가득 차면 기록을 버림 (요청 처리를 늦추지 않음, ai.journal.dropped 메트릭)
+ * - 단계는 AiStage, 사용자는 AiCaller (없으면 현재 스레드의 인증 정보) 기준
+ */
+@Slf4j
+@Component
+public class AiCallJournal {
+
+    private static final String INSERT_SQL = "INSERT INTO ai_calls "
+            + "(stage, kind, model, prompt_hash, input_tokens, output_tokens, queue_ms, call_ms, parse_ms, total_ms, "
+            + "outcome, user_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int OUTCOME_LENGTH = 30;
+
+    private final AiJournalProperties journalProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final MpscRingBuffer<Entry> buffer;
+    private final Counter dropped;
+
+    public AiCallJournal(AiJournalProperties journalProperties, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.journalProperties = journalProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new MpscRingBuffer<>(journalProperties.getBufferSize());
+        this.dropped = meterRegistry.counter("ai.journal.dropped");
+        Gauge.builder("ai.journal.buffered", buffer, MpscRingBuffer::size).register(meterRegistry);
+    }
+
+    public enum Kind {
+        GENERATE,   // Gemini 텍스트 생성
+        EMBED,      // Gemini 임베딩
+        RETRIEVE,   // RAG 검색 (임베딩 + Chroma 조회)
+        CACHE,      // 캐시 조회 (outcome = hit / miss)
+        PARSE       // AI 응답 파싱 (outcome = ok / fallback)
+    }
+
+    // 호출을 시작한 스레드의 단계/사용자 (응답이 다른 스레드에서 오는 비동기 호출용)
+    public record Origin(AiStage stage, Long userId) {
+    }
+
+    public record Entry(AiStage stage, Kind kind, String model, String promptHash,
+                        Integer inputTokens, Integer outputTokens,
+                        long queueMs, long callMs, long parseMs,
+                        String outcome, Long userId, LocalDateTime createdAt) {
+    }
+
+    // ==================== 기록 ====================
+
+    public void recordGenerate(String model, String prompt, Integer inputTokens, Integer outputTokens,
+                               long queueMs, long callMs, long parseMs, String outcome) {
+        if (!journalProperties.isEnabled()) {
+            return;
+        }
+        String promptHash = prompt != null ? KnowledgeFacts.hash(prompt).substring(0, 16) : null;
+        offer(Kind.GENERATE, model, promptHash, inputTokens, outputTokens, queueMs, callMs, parseMs, outcome);
+    }
+
+    public void recordEmbedding(Origin origin, String model, long queueMs, long callMs, String outcome) {
+        offer(origin, Kind.EMBED, model, null, null, null, queueMs, callMs, 0, outcome);
+    }
+
+    public void recordRetrieval(String collection, long totalMs, String outcome) {
+        offer(Kind.RETRIEVE, collection, null, null, null, 0, totalMs, 0, outcome);
+    }
+
+    public void recordRetrieval(Origin origin, String collection, long totalMs, String outcome) {
+        offer(origin, Kind.RETRIEVE, collection, null, null, null, 0, totalMs, 0, outcome);
+    }
+
+    public void recordCache(String cache, boolean hit) {
+        offer(Kind.CACHE, cache, null, null, null, 0, 0, 0, hit ? "hit" : "miss");
+    }
+
+    public void recordParse(long parseMs, boolean parsed) {
+        offer(Kind.PARSE, null, null, null, null, 0, 0, parseMs, parsed ? "ok" : "fallback");
+    }
+
+    // 실패 원인을 outcome으로 (BusinessException이면 에러 코드, 아니면 근본 원인 예외 이름)
+    public static String outcomeOf(Throwable error) {
+        if (error == null) {
+            return "ok";
+        }
+        Throwable cause = error;
+        while (!(cause instanceof BusinessException) && cause.getCause() != null && cause.getCause() != cause) {
+            cause = cause.getCause();
+        }
+        String outcome = cause instanceof BusinessException business
+                ? business.getErrorCode().getCode()
+                : cause.getClass().getSimpleName();
+        return outcome.length() > OUTCOME_LENGTH ? outcome.substring(0, OUTCOME_LENGTH) : outcome;
+    }
+
+    public Origin origin() {
+        return new Origin(AiStage.current(), currentUserId());
+    }
+
+    private void offer(Kind kind, String model, String promptHash, Integer inputTokens, Integer outputTokens,
+                       long queueMs, long callMs, long parseMs, String outcome) {
+        if (journalProperties.isEnabled()) {
+            offer(origin(), kind, model, promptHash, inputTokens, outputTokens, queueMs, callMs, parseMs, outcome);
+        }
+    }
+
+    private void offer(Origin origin, Kind kind, String model, String promptHash, Integer inputTokens,
+                       Integer outputTokens, long queueMs, long callMs, long parseMs, String outcome) {
+        if (!journalProperties.isEnabled()) {
+            return;
+        }
+        Entry entry = new Entry(origin.stage(), kind, model, promptHash, inputTokens, outputTokens,
+                queueMs, callMs, parseMs, outcome, origin.userId(), LocalDateTime.now());
+        if (!buffer.offer(entry)) {
+            dropped.increment();
+        }
+    }
+
+    private Long currentUserId() {
+        AiCaller caller = AiCaller.current();
+        if (caller != null) {
+            return caller.userId();
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        return null;
+    }
+
+    // ==================== 저장 ====================
+
+    /**
+     * 버퍼에 쌓인 기록을 batchSize 단위로 저장 (스케줄러 스레드 1개에서만 실행)
+     */
+    @Scheduled(fixedDelayString = "${ai.journal.flush-interval:1s}")
+    public synchronized void flush() {
+        List<Entry> batch = new ArrayList<>(journalProperties.getBatchSize());
+        while (buffer.drain(batch, journalProperties.getBatchSize()) > 0) {
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, entry) -> {
+                    Timestamp createdAt = Timestamp.valueOf(entry.createdAt());
+                    ps.setString(1, entry.stage().name());
+                    ps.setString(2, entry.kind().name());
+                    ps.setString(3, entry.model());
+                    ps.setString(4, entry.promptHash());
+                    setInteger(ps, 5, entry.inputTokens());
+                    setInteger(ps, 6, entry.outputTokens());
+                    ps.setInt(7, (int) entry.queueMs());
+                    ps.setInt(8, (int) entry.callMs());
+                    ps.setInt(9, (int) entry.parseMs());
+                    ps.setInt(10, (int) (entry.queueMs() + entry.callMs() + entry.parseMs()));
+                    ps.setString(11, entry.outcome());
+                    if (entry.userId() != null) {
+                        ps.setLong(12, entry.userId());
+                    } else {
+                        ps.setNull(12, Types.BIGINT);
+                    }
+                    ps.setTimestamp(13, createdAt);
+                    ps.setTimestamp(14, createdAt);
+                });
+            } catch (Exception e) {
+                // 기록 실패로 요청 처리에 영향을 주지 않도록 이번 배치는 버림
+                log.warn("AI 호출 기록 저장 실패, {}건 버림: {}", batch.size(), e.getMessage());
+                dropped.increment(batch.size());
+            }
+            batch.clear();
+        }
+    }
+
+    private static void setInteger(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 보관 기간 지난 기록 삭제 (한 번에 너무 많이 지우지 않도록 나눠서)
+     */
+    @Scheduled(cron = "${ai.journal.cleanup-cron:0 30 4 * * *}")
+    public void cleanup() {
+        Timestamp before = Timestamp.valueOf(LocalDateTime.now().minus(journalProperties.getRetention()));
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update("DELETE FROM ai_calls WHERE created_at < ? LIMIT 10000", before);
+            total += deleted;
+        } while (deleted > 0);
+        if (total > 0) {
+            log.info("AI 호출 기록 정리: {}건 삭제", total);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.badhabitzero.domain.ai.config.AiJournalProperties;
+import org.example.badhabitzero.domain.ai.dto.AiCallCostResponse;
+import org.example.badhabitzero.domain.ai.dto.AiCallLatencyResponse;
+import org.example.badhabitzero.global.error.BusinessException;
+import org.example.badhabitzero.global.error.ErrorCode;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * AI 호출 기록(ai_calls) 단계별 집계
+ */
+@Service
+@RequiredArgsConstructor
+public class AiCallStatsService {
+
+    private static final int MAX_HOURS = 24 * 31;
+
+    // 원격 호출 기록만 (RAG 생략은 지연 시간 집계에서 제외)
+    private static final String LATENCY_SQL = """
+            SELECT stage, kind, COUNT(*) AS calls, SUM(outcome <> 'ok') AS errors,
+                   AVG(queue_ms) AS avg_queue, AVG(call_ms) AS avg_call, AVG(parse_ms) AS avg_parse,
+                   MAX(total_ms) AS max_total
+            FROM ai_calls
+            WHERE created_at >= ? AND kind IN ('GENERATE', 'EMBED', 'RETRIEVE') AND outcome <> 'skipped'
+            GROUP BY stage, kind
+            ORDER BY stage, kind
+            """;
+
+    private static final String P95_SQL = """
+            SELECT stage, kind, MIN(total_ms) AS p95
+            FROM (SELECT stage, kind, total_ms,
+                         PERCENT_RANK() OVER (PARTITION BY stage, kind ORDER BY total_ms) AS rank_pct
+                  FROM ai_calls
+                  WHERE created_at >= ? AND kind IN ('GENERATE', 'EMBED', 'RETRIEVE') AND outcome <> 'skipped') ranked
+            WHERE rank_pct >= 0.95
+            GROUP BY stage, kind
+            """;
+
+    private static final String COST_SQL = """
+            SELECT stage, kind, model, outcome, COUNT(*) AS calls,
+                   COALESCE(SUM(input_tokens), 0) AS input_tokens, COALESCE(SUM(output_tokens), 0) AS output_tokens
+            FROM ai_calls
+            WHERE created_at >= ?
+            GROUP BY stage, kind, model, outcome
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AiJournalProperties journalProperties;
+
+    /**
+     * 최근 hours시간 단계/종류별 지연 시간
+     */
+    public List<AiCallLatencyResponse> getLatency(int hours) {
+        Timestamp since = since(hours);
+
+        Map<String, Long> p95 = new HashMap<>();
+        jdbcTemplate.query(P95_SQL, rs -> {
+            p95.put(rs.getString("stage") + ":" + rs.getString("kind"), rs.getLong("p95"));
+        }, since);
+
+        return jdbcTemplate.query(LATENCY_SQL, (rs, rowNum) -> AiCallLatencyResponse.builder()
+                .stage(rs.getString("stage"))
+                .kind(rs.getString("kind"))
+                .calls(rs.getLong("calls"))
+                .errors(rs.getLong("errors"))
+                .avgQueueMs(rs.getDouble("avg_queue"))
+                .avgCallMs(rs.getDouble("avg_call"))
+                .avgParseMs(rs.getDouble("avg_parse"))
+                .p95TotalMs(p95.get(rs.getString("stage") + ":" + rs.getString("kind")))
+                .maxTotalMs(rs.getLong("max_total"))
+                .build(), since);
+    }
+
+    /**
+     * 최근 hours시간 단계별 토큰/비용/캐시 적중/파싱 실패
+     */
+    public List<AiCallCostResponse> getCost(int hours) {
+        Map<String, CostTotals> totals = new TreeMap<>();
+        jdbcTemplate.query(COST_SQL, rs -> {
+            CostTotals stage = totals.computeIfAbsent(rs.getString("stage"), key -> new CostTotals());
+            String outcome = rs.getString("outcome");
+            long calls = rs.getLong("calls");
+            switch (AiCallJournal.Kind.valueOf(rs.getString("kind"))) {
+                case GENERATE -> {
+                    long input = rs.getLong("input_tokens");
+                    long output = rs.getLong("output_tokens");
+                    stage.generateCalls += calls;
+                    stage.inputTokens += input;
+                    stage.outputTokens += output;
+                    AiJournalProperties.Price price = journalProperties.getPrices().get(rs.getString("model"));
+                    if (price != null) {
+                        stage.costUsd += (input * price.getInput() + output * price.getOutput()) / 1_000_000d;
+                    }
+                }
+                case EMBED -> stage.embeddingCalls += calls;
+                case RETRIEVE -> stage.retrievals += calls;
+                case CACHE -> {
+                    if ("hit".equals(outcome)) {
+                        stage.cacheHits += calls;
+                    } else {
+                        stage.cacheMisses += calls;
+                    }
+                }
+                case PARSE -> {
+                    if (!"ok".equals(outcome)) {
+                        stage.parseFallbacks += calls;
+                    }
+                }
+            }
+        }, since(hours));
+
+        List<AiCallCostResponse> responses = new ArrayList<>();
+        totals.forEach((stage, t) -> responses.add(AiCallCostResponse.builder()
+                .stage(stage)
+                .generateCalls(t.generateCalls)
+                .inputTokens(t.inputTokens)
+                .outputTokens(t.outputTokens)
+                .costUsd(Math.round(t.costUsd * 10_000) / 10_000d)
+                .embeddingCalls(t.embeddingCalls)
+                .retrievals(t.retrievals)
+                .cacheHits(t.cacheHits)
+                .cacheMisses(t.cacheMisses)
+                .parseFallbacks(t.parseFallbacks)
+                .build()));
+        return responses;
+    }
+
+    private Timestamp since(int hours) {
+        if (hours < 1 || hours > MAX_HOURS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return Timestamp.valueOf(LocalDateTime.now().minusHours(hours));
+    }
+
+    private static class CostTotals {
+        long generateCalls;
+        long inputTokens;
+        long outputTokens;
+        double costUsd;
+        long embeddingCalls;
+        long retrievals;
+        long cacheHits;
+        long cacheMisses;
+        long parseFallbacks;
+    }
+}
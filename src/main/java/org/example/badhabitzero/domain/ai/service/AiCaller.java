@@ -0,0 +1,56 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import java.util.function.Supplier;
+
+/**
+ * AI 호출 주체 (사용량/쿼터 계산 기준)
+ *
+ * 로그인 사용자는 userId, 비로그인 요청은 클라이언트 IP 기준으로 계산합니다.
+ * 요청 필터와 WebSocket 핸들러에서 ThreadLocal로 설정되며, 주체가 없는 배치 작업에는 쿼터를 적용하지 않습니다.
+ */
+public record AiCaller(Long userId, String ip) {
+
+    private static final ThreadLocal<AiCaller> CURRENT = new ThreadLocal<>();
+
+    public static AiCaller current() {
+        return CURRENT.get();
+    }
+
+    // 사용량 집계 키 (user:1 / ip:127.0.0.1)
+    public String subject() {
+        return userId != null ? "user:" + userId : "ip:" + ip;
+    }
+
+    /**
+     * 지정한 주체로 작업 실행 (끝나면 이전 주체 복원)
+     */
+    public static <T> T callAs(AiCaller caller, Supplier<T> task) {
+        AiCaller previous = CURRENT.get();
+        restore(caller);
+        try {
+            return task.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static void runAs(AiCaller caller, Runnable task) {
+        callAs(caller, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    // 비동기 작업으로 넘길 때 사용 (설정되지 않았으면 null)
+    public static AiCaller capture() {
+        return CURRENT.get();
+    }
+
+    public static void restore(AiCaller caller) {
+        if (caller == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(caller);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.example.badhabitzero.domain.ai.config.AiLimiterProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Gemini 호출용 동시성 제한기 모음 (우선순위 레인별 대기열 포함)
+ *
+ * - generate: 텍스트 생성 (GeminiService)
+ * - embedding: 임베딩 생성 (ChromaService)
+ */
+@Component
+public class AiConcurrencyLimiters {
+
+    private final AiLimiterProperties limiterProperties;
+
+    @Getter
+    private final AdaptiveConcurrencyLimiter generate;
+    @Getter
+    private final AdaptiveConcurrencyLimiter embedding;
+
+    public AiConcurrencyLimiters(AiLimiterProperties limiterProperties, MeterRegistry meterRegistry) {
+        this.limiterProperties = limiterProperties;
+        this.generate = register(new AdaptiveConcurrencyLimiter("generate", limiterProperties, meterRegistry), meterRegistry);
+        this.embedding = register(new AdaptiveConcurrencyLimiter("embedding", limiterProperties, meterRegistry), meterRegistry);
+    }
+
+    /**
+     * 대기열 대기 시간
+     * - 대화형: 설정값과 요청 남은 시간 중 작은 값
+     * - 백그라운드: 사용자가 기다리지 않으므로 길게
+     */
+    public Duration queueTimeout() {
+        if (AiPriority.current() == AiPriority.BACKGROUND) {
+            return limiterProperties.getBackgroundMaxQueueWait();
+        }
+        return RequestDeadline.timeout(limiterProperties.getMaxQueueWait());
+    }
+
+    private AdaptiveConcurrencyLimiter register(AdaptiveConcurrencyLimiter limiter, MeterRegistry meterRegistry) {
+        Gauge.builder("ai.limiter.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("client", limiter.getName())
+                .register(meterRegistry);
+        Gauge.builder("ai.limiter.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("client", limiter.getName())
+                .register(meterRegistry);
+        for (AiPriority lane : AiPriority.values()) {
+            Gauge.builder("ai.limiter.queue", limiter, l -> l.getQueueDepth(lane))
+                    .tag("client", limiter.getName())
+                    .tag("lane", lane.name())
+                    .register(meterRegistry);
+        }
+        FunctionCounter.builder("ai.limiter.rejected", limiter, l -> l.getRejected().sum())
+                .tag("client", limiter.getName())
+                .register(meterRegistry);
+        return limiter;
+    }
+}
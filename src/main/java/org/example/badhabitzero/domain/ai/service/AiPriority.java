@@ -0,0 +1,54 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Gemini 호출 우선순위 (스케줄링 레인)
+ *
+ * 사용자 요청(채팅, 가치 산정)은 INTERACTIVE, 지식 베이스 적재·워밍업 같은 배치 작업은 BACKGROUND.
+ * 현재 스레드의 레인은 ThreadLocal로 전달되며 기본값은 INTERACTIVE 입니다.
+ */
+public enum AiPriority {
+    INTERACTIVE,    // 사용자 대기 중인 요청
+    BACKGROUND;     // 남는 처리량에서만 실행되는 배치 작업
+
+    private static final ThreadLocal<AiPriority> CURRENT = new ThreadLocal<>();
+
+    public static AiPriority current() {
+        AiPriority priority = CURRENT.get();
+        return priority != null ? priority : INTERACTIVE;
+    }
+
+    /**
+     * 지정한 레인으로 작업 실행 (끝나면 이전 레인 복원)
+     */
+    public static <T> T callAs(AiPriority priority, Supplier<T> task) {
+        AiPriority previous = CURRENT.get();
+        restore(priority);
+        try {
+            return task.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static void runAs(AiPriority priority, Runnable task) {
+        callAs(priority, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    // 비동기 작업으로 넘길 때 사용 (설정되지 않았으면 null)
+    public static AiPriority capture() {
+        return CURRENT.get();
+    }
+
+    public static void restore(AiPriority priority) {
+        if (priority == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(priority);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.domain.ai.config.AiQuotaProperties;
+import org.example.badhabitzero.domain.user.entity.User;
+import org.example.badhabitzero.domain.user.repository.UserRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 주체(사용자/IP)별 AI 사용량 집계와 쿼터 적용
+ *
+ * - 분/일 단위 창마다 호출 수, 토큰, 임베딩 건수를 LongAdder로 집계 (요청 스레드는 DB를 보지 않음)
+ * - 임베딩은 생성 호출과 별도 한도 (RAG 검색 한 번에 생성 호출 한도가 줄지 않도록)
+ * - 한도는 User.Role별 (비로그인은 anonymous), 0이면 무제한
+ * - 일 단위 사용량은 flushInterval마다 증가분만 ai_usage에 upsert, 기동 시 오늘 사용량을 다시 읽음
+ * - 인스턴스별로 집계하므로 여러 대로 띄우면 실제 한도는 인스턴스 수만큼 늘어남
+ */
+@Slf4j
+@Service
+public class AiQuotaService {
+
+    private static final String UPSERT_SQL = "INSERT INTO ai_usage "
+            + "(subject, usage_date, calls, tokens, embeddings, rejected, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE calls = calls + VALUES(calls), tokens = tokens + VALUES(tokens), "
+            + "embeddings = embeddings + VALUES(embeddings), rejected = rejected + VALUES(rejected), "
+            + "updated_at = VALUES(updated_at)";
+
+    private static final String LOAD_SQL =
+            "SELECT subject, calls, tokens, embeddings, rejected FROM ai_usage WHERE usage_date = ?";
+
+    private final AiQuotaProperties quotaProperties;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter rejectedCounter;
+
+    // 주체 → 현재 분 창
+    private final Map<String, Window> minuteWindows = new ConcurrentHashMap<>();
+    // (주체, 날짜) → 일 창 (DB 반영 전까지 지난 날짜도 유지)
+    private final Map<DayKey, Window> dayWindows = new ConcurrentHashMap<>();
+    // 사용자 ID → 권한 (권한 변경은 roleCacheTtl 뒤에 반영)
+    private final Map<Long, CachedRole> roles = new ConcurrentHashMap<>();
+
+    public AiQuotaService(AiQuotaProperties quotaProperties, UserRepository userRepository,
+                          JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.quotaProperties = quotaProperties;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.rejectedCounter = meterRegistry.counter("ai.quota.rejected");
+    }
+
+    private record DayKey(String subject, LocalDate date) {
+    }
+
+    private record CachedRole(User.Role role, long expiresAt) {
+    }
+
+    private static final class Window {
+        final long index;                       // 분 창: epoch 분
+        final LongAdder calls = new LongAdder();
+        final LongAdder tokens = new LongAdder();
+        final LongAdder embeddings = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+
+        // DB에 반영한 누적값 (flush 스레드에서만 사용)
+        long flushedCalls;
+        long flushedTokens;
+        long flushedEmbeddings;
+        long flushedRejected;
+
+        Window(long index) {
+            this.index = index;
+        }
+
+        boolean isFlushed() {
+            return calls.sum() == flushedCalls && tokens.sum() == flushedTokens
+                    && embeddings.sum() == flushedEmbeddings && rejected.sum() == flushedRejected;
+        }
+    }
+
+    // ==================== 적용 ====================
+
+    /**
+     * 요청 진입 시 빠른 거절 (이미 한도를 다 쓴 주체인지만 확인, 호출 수는 늘리지 않음)
+     *
+     * @return 0이면 허용, 아니면 다시 시도할 수 있을 때까지 남은 초
+     */
+    public long checkAdmission(AiCaller caller) {
+        if (!quotaProperties.isEnabled() || caller == null) {
+            return 0;
+        }
+        long retryAfter = retryAfter(caller);
+        if (retryAfter > 0) {
+            reject(caller);
+        }
+        return retryAfter;
+    }
+
+    /**
+     * Gemini 호출 직전 호출 수 차감 (한도를 넘었으면 false, 원격 호출 없이 거절)
+     *
+     * 확인과 차감 사이에 동시에 들어온 호출만큼은 한도를 조금 넘을 수 있음
+     */
+    public boolean tryAcquire() {
+        AiCaller caller = AiCaller.current();
+        if (!quotaProperties.isEnabled() || caller == null) {
+            return true;
+        }
+        if (retryAfter(caller) > 0) {
+            reject(caller);
+            return false;
+        }
+        minuteWindow(caller.subject()).calls.increment();
+        dayWindow(caller.subject()).calls.increment();
+        return true;
+    }
+
+    /**
+     * 임베딩 호출 직전 텍스트 건수만큼 차감 (생성 호출 한도를 넘었거나 임베딩 한도를 넘었으면 false)
+     *
+     * 임베딩 Mono는 구독 시점에 호출되므로 주체는 조립 시점에 잡아서 넘김
+     */
+    public boolean tryAcquireEmbedding(AiCaller caller, int texts) {
+        if (!quotaProperties.isEnabled() || caller == null) {
+            return true;
+        }
+        AiQuotaProperties.Limit limit = limitOf(caller);
+        if (retryAfter(caller) > 0
+                || reached(dayWindow(caller.subject()).embeddings.sum(), limit.getEmbeddingsPerDay())
+                || reached(minuteWindow(caller.subject()).embeddings.sum(), limit.getEmbeddingsPerMinute())) {
+            reject(caller);
+            return false;
+        }
+        minuteWindow(caller.subject()).embeddings.add(texts);
+        dayWindow(caller.subject()).embeddings.add(texts);
+        return true;
+    }
+
+    /**
+     * 응답의 토큰 사용량 반영 (토큰 한도는 다음 호출부터 적용)
+     */
+    public void recordTokens(long tokens) {
+        AiCaller caller = AiCaller.current();
+        if (!quotaProperties.isEnabled() || caller == null || tokens <= 0) {
+            return;
+        }
+        minuteWindow(caller.subject()).tokens.add(tokens);
+        dayWindow(caller.subject()).tokens.add(tokens);
+    }
+
+    // 한도를 넘었으면 다시 시도할 수 있을 때까지 남은 초 (일 한도 → 자정, 분 한도 → 다음 분)
+    private long retryAfter(AiCaller caller) {
+        AiQuotaProperties.Limit limit = limitOf(caller);
+        Window day = dayWindow(caller.subject());
+        if (reached(day.calls.sum(), limit.getCallsPerDay()) || reached(day.tokens.sum(), limit.getTokensPerDay())) {
+            LocalDateTime now = LocalDateTime.now();
+            return Math.max(1, Duration.between(now, now.toLocalDate().plusDays(1).atStartOfDay()).toSeconds());
+        }
+        Window minute = minuteWindow(caller.subject());
+        if (reached(minute.calls.sum(), limit.getCallsPerMinute())
+                || reached(minute.tokens.sum(), limit.getTokensPerMinute())) {
+            return Math.max(1, 60 - TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() % 60_000));
+        }
+        return 0;
+    }
+
+    private static boolean reached(long used, long limit) {
+        return limit > 0 && used >= limit;
+    }
+
+    private void reject(AiCaller caller) {
+        dayWindow(caller.subject()).rejected.increment();
+        rejectedCounter.increment();
+    }
+
+    private AiQuotaProperties.Limit limitOf(AiCaller caller) {
+        if (caller.userId() == null) {
+            return quotaProperties.getAnonymous();
+        }
+        return quotaProperties.limitOf(roleOf(caller.userId()));
+    }
+
+    private User.Role roleOf(Long userId) {
+        long now = System.nanoTime();
+        CachedRole cached = roles.get(userId);
+        if (cached != null && cached.expiresAt() - now > 0) {
+            return cached.role();
+        }
+        User.Role role = userRepository.findById(userId).map(User::getRole).orElse(User.Role.USER);
+        roles.put(userId, new CachedRole(role, now + quotaProperties.getRoleCacheTtl().toNanos()));
+        return role;
+    }
+
+    private Window minuteWindow(String subject) {
+        long minute = currentMinute();
+        Window window = minuteWindows.get(subject);
+        if (window != null && window.index == minute) {
+            return window;
+        }
+        return minuteWindows.compute(subject,
+                (key, current) -> current == null || current.index < minute ? new Window(minute) : current);
+    }
+
+    private Window dayWindow(String subject) {
+        return dayWindows.computeIfAbsent(new DayKey(subject, LocalDate.now()), key -> new Window(0));
+    }
+
+    private static long currentMinute() {
+        return TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+    }
+
+    // ==================== 저장 ====================
+
+    /**
+     * 기동 시 오늘 사용량 복원 (재시작으로 일 한도가 초기화되지 않도록)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadToday() {
+        if (!quotaProperties.isEnabled()) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        try {
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                Window window = new Window(0);
+                window.calls.add(rs.getLong("calls"));
+                window.tokens.add(rs.getLong("tokens"));
+                window.embeddings.add(rs.getLong("embeddings"));
+                window.rejected.add(rs.getLong("rejected"));
+                window.flushedCalls = window.calls.sum();
+                window.flushedTokens = window.tokens.sum();
+                window.flushedEmbeddings = window.embeddings.sum();
+                window.flushedRejected = window.rejected.sum();
+                dayWindows.putIfAbsent(new DayKey(rs.getString("subject"), today), window);
+            }, Date.valueOf(today));
+            log.info("AI 사용량 복원: {}건", dayWindows.size());
+        } catch (Exception e) {
+            log.warn("AI 사용량 복원 실패 (오늘 사용량 0부터 집계): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 일 창 증가분을 ai_usage에 반영하고 지난 창 정리 (스케줄러 스레드 1개에서만 실행)
+     */
+    @Scheduled(fixedDelayString = "${ai.quota.flush-interval:10s}")
+    public synchronized void flush() {
+        record Snapshot(Window window, long calls, long tokens, long embeddings, long rejected) {
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        List<Snapshot> snapshots = new ArrayList<>();
+        dayWindows.forEach((key, window) -> {
+            Snapshot snapshot = new Snapshot(window, window.calls.sum(), window.tokens.sum(),
+                    window.embeddings.sum(), window.rejected.sum());
+            long calls = snapshot.calls() - window.flushedCalls;
+            long tokens = snapshot.tokens() - window.flushedTokens;
+            long embeddings = snapshot.embeddings() - window.flushedEmbeddings;
+            long rejected = snapshot.rejected() - window.flushedRejected;
+            if (calls != 0 || tokens != 0 || embeddings != 0 || rejected != 0) {
+                rows.add(new Object[]{key.subject(), Date.valueOf(key.date()), calls, tokens, embeddings, rejected,
+                        now, now});
+                snapshots.add(snapshot);
+            }
+        });
+
+        if (!rows.isEmpty()) {
+            try {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+            } catch (Exception e) {
+                // 반영하지 못한 증가분은 다음 주기에 다시 시도
+                log.warn("AI 사용량 저장 실패 ({}건): {}", rows.size(), e.getMessage());
+                return;
+            }
+            for (Snapshot snapshot : snapshots) {
+                snapshot.window().flushedCalls = snapshot.calls();
+                snapshot.window().flushedTokens = snapshot.tokens();
+                snapshot.window().flushedEmbeddings = snapshot.embeddings();
+                snapshot.window().flushedRejected = snapshot.rejected();
+            }
+        }
+
+        LocalDate today = LocalDate.now();
+        long minute = currentMinute();
+        long nanos = System.nanoTime();
+        dayWindows.entrySet().removeIf(entry -> entry.getKey().date().isBefore(today) && entry.getValue().isFlushed());
+        minuteWindows.values().removeIf(window -> window.index < minute);
+        roles.values().removeIf(cached -> cached.expiresAt() - nanos <= 0);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import java.util.function.Supplier;
+
+/**
+ * AI 호출 단계 (호출 기록의 집계 단위)
+ *
+ * 현재 스레드의 단계는 ThreadLocal로 전달되며, 지정되지 않은 호출은 OTHER로 기록됩니다.
+ */
+public enum AiStage {
+    QUESTIONS,          // 추가 질문 생성 (analyze)
+    VALUE,              // 가치 산정
+    VALUE_BATCH,        // 일괄 가치 산정 (온보딩)
+    VALUE_JOB,          // 비동기 가치 산정 작업
+    BASELINE,           // 카탈로그 사전 산정 / 저장된 악습 재산정
+    EXPLANATION,        // 규칙 기반 산정 설명 문구
+    CHAT_QUESTIONS,     // 챗봇 질문 생성
+    CHAT_VALUE,         // 챗봇 가치 산정
+    KNOWLEDGE,          // 지식 베이스 임베딩/색인
+    OTHER;
+
+    private static final ThreadLocal<AiStage> CURRENT = new ThreadLocal<>();
+
+    public static AiStage current() {
+        AiStage stage = CURRENT.get();
+        return stage != null ? stage : OTHER;
+    }
+
+    /**
+     * 지정한 단계로 작업 실행 (끝나면 이전 단계 복원)
+     */
+    public static <T> T callAs(AiStage stage, Supplier<T> task) {
+        AiStage previous = CURRENT.get();
+        restore(stage);
+        try {
+            return task.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static void runAs(AiStage stage, Runnable task) {
+        callAs(stage, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    // 비동기 작업으로 넘길 때 사용 (설정되지 않았으면 null)
+    public static AiStage capture() {
+        return CURRENT.get();
+    }
+
+    public static void restore(AiStage stage) {
+        if (stage == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(stage);
+        }
+    }
+}
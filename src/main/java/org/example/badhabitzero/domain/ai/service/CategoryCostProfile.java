@@ -0,0 +1,72 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리별 비용 파라미터 (HabitDataInitializer 참고 데이터 기반)
+ *
+ * - directCost: 답변이 없을 때 1회 직접 비용
+ * - unitPrices: 답변 수량 단위별 가격 (예: 담배 1갑 4,500원)
+ * - singleUnitUse: 수량 1단위를 1회로 보는지 (흡연은 1개비 = 1회)
+ * - annualHealthCost: 연간 추가 의료비 (주당 횟수로 나눠 1회 건강 비용 산정)
+ * - extraOpportunityCost: 소요 시간 외 1회당 생산성 손실 (예: 숙취)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CategoryCostProfile {
+
+    SMOKING(225, Map.of("개비", 225, "개피", 225, "갑", 4_500, "보루", 45_000), true,
+            500_000, 0, 5, 70, 1_000,
+            List.of("기획재정부, 2024", "국민건강보험공단, 2023")),
+    DRINKING(10_000, Map.of("병", 5_000, "잔", 714, "캔", 2_500), false,
+            400_000, 30_000, 120, 2, 2_000,
+            List.of("통계청, 2024", "한국보건사회연구원, 2022", "국민건강보험공단, 2023")),
+    EATING(15_000, Map.of("인분", 15_000, "그릇", 10_000), false,
+            300_000, 0, 30, 3, 1_500,
+            List.of("통계청, 2023", "국민건강보험공단, 2023")),
+    SPENDING(35_000, Map.of(), false,
+            0, 0, 30, 1, 3_000,
+            List.of("한국소비자원, 2023")),
+    LAZINESS(0, Map.of(), false,
+            0, 0, 60, 5, 2_000,
+            List.of("통계청, 2023")),
+    DIGITAL(0, Map.of(), false,
+            0, 0, 60, 7, 2_000,
+            List.of("과학기술정보통신부, 2023")),
+    CAFFEINE(4_500, Map.of("잔", 4_500, "컵", 4_500, "캔", 2_500), false,
+            120_000, 0, 10, 7, 1_000,
+            List.of("한국소비자원, 2023", "건강보험심사평가원, 2023")),
+    GAMBLING(50_000, Map.of(), false,
+            0, 0, 60, 1, 5_000,
+            List.of("중독관리통합지원센터, 2023")),
+    OTHER(10_000, Map.of(), false,
+            0, 0, 30, 3, 2_000,
+            List.of());
+
+    public static final int HOURLY_WAGE = 25_000;   // 기회 비용 시급 (한국 직장인 평균)
+
+    private final int directCost;
+    private final Map<String, Integer> unitPrices;
+    private final boolean singleUnitUse;
+    private final int annualHealthCost;
+    private final int extraOpportunityCost;
+    private final int defaultMinutes;
+    private final double defaultWeeklyFrequency;
+    private final int psychologicalCost;
+    private final List<String> sources;
+
+    public static CategoryCostProfile from(String category) {
+        if (category == null) {
+            return OTHER;
+        }
+        try {
+            return valueOf(category.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return OTHER;
+        }
+    }
+}
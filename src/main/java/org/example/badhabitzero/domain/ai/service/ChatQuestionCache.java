@@ -0,0 +1,111 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.domain.ai.config.AiQuestionCacheProperties;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 챗봇 질문 목록 캐시 (카테고리 + 정규화한 악습 이름 기준)
+ *
+ * - 캐시에 있으면 바로 반환, refreshAfter가 지났으면 반환 후 백그라운드 풀(BACKGROUND 레인)에서 갱신
+ * - 없으면 loader로 생성 후 저장
+ * - 빈 목록(파싱 실패)은 저장하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatQuestionCache {
+
+    private final AiQuestionCacheProperties cacheProperties;
+    private final ThreadPoolTaskExecutor aiBackgroundExecutor;
+    private final AiCallJournal aiCallJournal;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private record Entry(List<String> questions, Instant loadedAt) {
+    }
+
+    public List<String> getOrLoad(String category, String habitName, Supplier<List<String>> loader) {
+        if (!cacheProperties.isEnabled()) {
+            return loader.get();
+        }
+
+        String key = key(category, habitName);
+        Entry entry = entries.get(key);
+        aiCallJournal.recordCache("chat_questions", entry != null);
+        if (entry != null) {
+            if (entry.loadedAt().plus(cacheProperties.getRefreshAfter()).isBefore(Instant.now())) {
+                refreshAsync(category, habitName, loader);
+            }
+            return entry.questions();
+        }
+
+        List<String> questions = loader.get();
+        put(key, questions);
+        return questions;
+    }
+
+    /**
+     * 백그라운드에서 생성/갱신 (같은 키는 동시에 하나만)
+     */
+    public void refreshAsync(String category, String habitName, Supplier<List<String>> loader) {
+        String key = key(category, habitName);
+        if (!cacheProperties.isEnabled() || !refreshing.add(key)) {
+            return;
+        }
+
+        try {
+            aiBackgroundExecutor.execute(() -> {
+                try {
+                    List<String> questions = AiPriority.callAs(AiPriority.BACKGROUND,
+                            () -> RequestDeadline.callWithin(cacheProperties.getLoadTimeout(), loader));
+                    put(key, questions);
+                    log.debug("질문 캐시 갱신: key={}", key);
+                } catch (Exception e) {
+                    log.warn("질문 캐시 갱신 실패 (기존 값 유지): key={}, {}", key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // 백그라운드 풀 포화: 이번 갱신은 생략 (다음 조회 때 다시 시도)
+            refreshing.remove(key);
+            log.debug("질문 캐시 갱신 생략 (백그라운드 대기열 포화): key={}", key);
+        }
+    }
+
+    private void put(String key, List<String> questions) {
+        if (questions == null || questions.isEmpty()) {
+            return;
+        }
+        if (!entries.containsKey(key) && entries.size() >= cacheProperties.getMaxEntries()) {
+            evictOldest();
+        }
+        entries.put(key, new Entry(List.copyOf(questions), Instant.now()));
+    }
+
+    private void evictOldest() {
+        entries.entrySet().stream()
+                .min(Comparator.comparing(e -> e.getValue().loadedAt()))
+                .ifPresent(oldest -> entries.remove(oldest.getKey()));
+    }
+
+    // "  전자 담배! " → "SMOKING:전자담배"
+    static String key(String category, String habitName) {
+        String normalizedCategory = category != null ? category.trim().toUpperCase(Locale.ROOT) : "OTHER";
+        return normalizedCategory + ":" + HabitNameMatcher.normalize(habitName);
+    }
+}
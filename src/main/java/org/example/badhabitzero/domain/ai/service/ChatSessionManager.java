@@ -2,15 +2,24 @@ package org.example.badhabitzero.domain.ai.service;
 
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.domain.ai.dto.ChatMessageResponse;
+import org.example.badhabitzero.domain.ai.parser.KoreanQuantityParser;
+import org.example.badhabitzero.domain.ai.dto.ValueResult;
+import org.example.badhabitzero.domain.ai.parser.ParsedAnswer;
+import org.example.badhabitzero.global.error.BusinessException;
+import org.example.badhabitzero.global.error.ErrorCode;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Component
@@ -19,6 +28,8 @@ public class ChatSessionManager {
     private final Map<String, ChatSession> sessions = new ConcurrentHashMap<>();
     private static final int SESSION_TIMEOUT_MINUTES = 30;
 
+    private volatile boolean accepting = true;     // 종료 중이면 새 세션 거절
+
     @Data
     public static class ChatSession {
         private String sessionId;
@@ -27,18 +38,57 @@ public class ChatSessionManager {
         private String reason;
         private List<String> questions;         // AI가 생성한 질문 목록
         private List<String> answers;           // 사용자 답변 목록
-        private int currentQuestionIndex;       // 현재 질문 인덱스 (0부터)
+        private List<ParsedAnswer> parsedAnswers;   // 답변별 추출 수치
+        private ParsedAnswer parsed;            // 답변 전체에서 추출한 수치 (먼저 나온 값 우선)
+        private boolean fast;                   // 규칙 기반 결과만 반환 (AI 설명 생략)
+        private CompletableFuture<ValueResult> speculativeValue;    // 마지막 답변 전에 미리 시작한 최종 산정
+        private int speculativeEstimate;        // 선행 산정 시작 시점의 임시 추정치 (입력 변화 비교용)
+        private CompletableFuture<List<Map<String, Object>>> ragResults;    // 세션 시작 시 미리 시작한 RAG 검색 (최종 산정에서 재사용)
+        private volatile int currentQuestionIndex;  // 현재 질문 인덱스 (0부터) = 처리 완료한 메시지 수
+        // 메시지 순번별 응답 (먼저 등록한 요청만 처리, 재전송은 같은 응답 반환)
+        private final Map<Integer, CompletableFuture<ChatMessageResponse>> turns = new ConcurrentHashMap<>();
+        private final AtomicInteger inFlightSeq = new AtomicInteger();     // 처리 중인 순번 (0이면 없음)
         private LocalDateTime createdAt;
         private LocalDateTime expiresAt;
 
         public ChatSession() {
             this.questions = new ArrayList<>();
             this.answers = new ArrayList<>();
+            this.parsedAnswers = new ArrayList<>();
+            this.parsed = new ParsedAnswer();
             this.currentQuestionIndex = 0;
         }
+
+        public boolean isCompleted() {
+            return currentQuestionIndex >= questions.size();
+        }
+
+        /**
+         * 백그라운드 작업용 복사본 (이후 답변 추가의 영향을 받지 않음)
+         */
+        public ChatSession snapshot() {
+            ChatSession copy = new ChatSession();
+            copy.setSessionId(sessionId);
+            copy.setHabitName(habitName);
+            copy.setCategory(category);
+            copy.setReason(reason);
+            copy.setQuestions(List.copyOf(questions));
+            copy.setAnswers(new ArrayList<>(answers));
+            copy.setParsedAnswers(new ArrayList<>(parsedAnswers));
+            copy.setParsed(new ParsedAnswer().mergeMissing(parsed));
+            copy.setFast(fast);
+            copy.setRagResults(ragResults);
+            copy.setCurrentQuestionIndex(currentQuestionIndex);
+            copy.setCreatedAt(createdAt);
+            copy.setExpiresAt(expiresAt);
+            return copy;
+        }
     }
 
     public ChatSession createSession(String habitName, String category, String reason, List<String> questions) {
+        if (!accepting) {
+            throw new BusinessException(ErrorCode.AI_UNAVAILABLE);
+        }
         String sessionId = UUID.randomUUID().toString();
 
         ChatSession session = new ChatSession();
@@ -73,15 +123,77 @@ public class ChatSessionManager {
         return session;
     }
 
+    /**
+     * 스냅샷에서 복원 (추출 수치는 답변을 다시 파싱해 채움)
+     */
+    public void restoreSession(ChatSession session) {
+        session.setParsedAnswers(new ArrayList<>());
+        session.setParsed(new ParsedAnswer());
+        for (String answer : session.getAnswers()) {
+            ParsedAnswer parsed = KoreanQuantityParser.parse(answer);
+            session.getParsedAnswers().add(parsed);
+            session.getParsed().mergeMissing(parsed);
+        }
+        sessions.putIfAbsent(session.getSessionId(), session);
+    }
+
+    // 스냅샷 대상 (진행 중인 세션)
+    public Collection<ChatSession> liveSessions() {
+        return sessions.values();
+    }
+
+    // 종료 시작: 새 세션 거절 (진행 중인 세션은 계속 처리)
+    public void stopAccepting() {
+        accepting = false;
+    }
+
     public void addAnswer(String sessionId, String answer) {
         ChatSession session = sessions.get(sessionId);
         if (session != null) {
             session.getAnswers().add(answer);
+
+            // 금액/빈도/시간/수량 추출
+            ParsedAnswer parsed = KoreanQuantityParser.parse(answer);
+            session.getParsedAnswers().add(parsed);
+            session.getParsed().mergeMissing(parsed);
+
             session.setCurrentQuestionIndex(session.getCurrentQuestionIndex() + 1);
             log.debug("답변 추가: sessionId={}, questionIndex={}", sessionId, session.getCurrentQuestionIndex());
         }
     }
 
+    /**
+     * 마지막 답변 취소 (처리 중 실패한 순번을 다시 보낼 수 있도록 답변, 추출 수치, 질문 인덱스 복원)
+     */
+    public void removeLastAnswer(String sessionId) {
+        ChatSession session = sessions.get(sessionId);
+        if (session == null || session.getAnswers().isEmpty()) {
+            return;
+        }
+        int last = session.getAnswers().size() - 1;
+        session.getAnswers().remove(last);
+        session.getParsedAnswers().remove(last);
+
+        // 먼저 나온 값 우선이므로 남은 답변으로 다시 합침
+        ParsedAnswer parsed = new ParsedAnswer();
+        session.getParsedAnswers().forEach(parsed::mergeMissing);
+        session.setParsed(parsed);
+
+        session.setCurrentQuestionIndex(session.getCurrentQuestionIndex() - 1);
+        log.debug("답변 취소: sessionId={}, questionIndex={}", sessionId, session.getCurrentQuestionIndex());
+    }
+
+    /**
+     * 대화 완료 후 정리: 재전송된 마지막 메시지에 같은 응답을 주도록 세션은 만료 시까지 유지
+     */
+    public void completeSession(String sessionId) {
+        ChatSession session = sessions.get(sessionId);
+        if (session != null) {
+            session.setSpeculativeValue(null);
+            log.info("챗봇 세션 완료: sessionId={}", sessionId);
+        }
+    }
+
     public void removeSession(String sessionId) {
         sessions.remove(sessionId);
         log.info("세션 제거: sessionId={}", sessionId);
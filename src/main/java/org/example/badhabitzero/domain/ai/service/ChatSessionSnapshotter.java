@@ -0,0 +1,433 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.domain.ai.config.AiSessionSnapshotProperties;
+import org.example.badhabitzero.domain.ai.dto.ChatMessageResponse;
+import org.example.badhabitzero.domain.ai.dto.ValueResult;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.CRC32;
+
+/**
+ * 배포(재시작) 간 챗봇 세션 유지
+ *
+ * - 종료 시작 시 새 세션을 거절하고, 진행 중인 AI 호출이 끝나길 drainTimeout까지 기다린 뒤 세션을 파일로 저장
+ * - 인스턴스마다 directory 안에 자기 파일(chat-sessions-{인스턴스 ID}.bin)로 저장하므로 여러 대가 동시에 종료해도 덮어쓰지 않음
+ * - 시작할 때 웹 서버가 요청을 받기 전에 디렉터리의 스냅샷을 모두 복원하고,
+ *   이후에도 pollInterval마다 확인해 늦게 종료한 인스턴스의 스냅샷을 가져옴
+ * - 스냅샷은 이름을 바꿔 점유한 뒤 읽으므로 여러 인스턴스가 같은 파일을 두 번 복원하지 않음 (복원 후 삭제)
+ * - 웹 서버보다 낮은 phase: 시작은 웹 서버보다 먼저, 종료는 웹 서버 graceful shutdown이 끝난 뒤
+ *
+ * 파일 형식 (v2, big-endian, 메모리 맵):
+ * magic(int) version(short) savedAt(long) count(int)
+ * [sessionId, habitName, category, reason(str) fast(byte) index(int) createdAt, expiresAt(long)
+ *  questions(int + str...) answers(int + str...) lastTurn] × count
+ * crc32(int, 앞부분 전체)
+ * str = 길이(int, null이면 -1) + UTF-8 바이트
+ * lastTurn = 있음(byte) [seq, questionNumber, totalQuestions(int) message(str) complete(byte)
+ *            valueResult, estimate(str, JSON)] (v2부터, 마지막 응답 재전송용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatSessionSnapshotter implements SmartLifecycle {
+
+    private static final int MAGIC = 0x425A4353;   // "BZCS"
+    private static final short VERSION = 2;
+    private static final short MIN_VERSION = 1;     // v1은 lastTurn 없음
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Long.BYTES + Integer.BYTES;
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    private static final String PREFIX = "chat-sessions-";
+    private static final String SUFFIX = ".bin";
+
+    private final ChatSessionManager chatSessionManager;
+    private final AiSessionSnapshotProperties snapshotProperties;
+    private final ThreadPoolTaskExecutor aiTaskExecutor;
+    private final ObjectMapper objectMapper;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        if (snapshotProperties.isEnabled()) {
+            restoreAll();
+        }
+        running = true;
+    }
+
+    /**
+     * 늦게 종료한 인스턴스의 스냅샷 가져오기 (롤링 배포 시 새 인스턴스가 먼저 뜨는 경우)
+     */
+    @Scheduled(fixedDelayString = "${ai.session-snapshot.poll-interval:5s}")
+    public void poll() {
+        if (running && snapshotProperties.isEnabled()) {
+            restoreAll();
+        }
+    }
+
+    /**
+     * 종료 시작: 요청 처리 중에도 새 세션은 바로 거절
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void onShutdown() {
+        chatSessionManager.stopAccepting();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (!snapshotProperties.isEnabled()) {
+            return;
+        }
+        chatSessionManager.stopAccepting();
+        drain();
+        save();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    // 선행 산정/정밀 산정 등 백그라운드 AI 호출이 끝날 때까지 대기
+    private void drain() {
+        long deadline = System.nanoTime() + snapshotProperties.getDrainTimeout().toNanos();
+        while (aiTaskExecutor.getActiveCount() > 0 && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        if (aiTaskExecutor.getActiveCount() > 0) {
+            log.warn("종료 대기 시간 초과, 진행 중인 AI 작업 {}건", aiTaskExecutor.getActiveCount());
+        }
+    }
+
+    // 완료된 세션도 마지막 응답 재전송을 위해 만료 전까지 저장
+    private void save() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ChatSessionManager.ChatSession> live = new ArrayList<>();
+        for (ChatSessionManager.ChatSession session : chatSessionManager.liveSessions()) {
+            ChatMessageResponse lastTurn = lastTurn(session);
+            if (!now.isBefore(session.getExpiresAt()) || (session.isCompleted() && lastTurn == null)) {
+                continue;
+            }
+            ChatSessionManager.ChatSession copy = session.snapshot();
+            if (lastTurn != null) {
+                copy.getTurns().put(lastTurn.getSeq(), CompletableFuture.completedFuture(lastTurn));
+            }
+            live.add(copy);
+        }
+
+        Path path = Path.of(snapshotProperties.getDirectory(), PREFIX + instanceId + SUFFIX);
+        try {
+            write(path, live);
+            log.info("챗봇 세션 스냅샷 저장: {}건 → {}", live.size(), path);
+        } catch (IOException e) {
+            log.error("챗봇 세션 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // 디렉터리의 스냅샷 전부 복원 (다른 인스턴스가 먼저 점유한 파일은 건너뜀)
+    private void restoreAll() {
+        Path directory = Path.of(snapshotProperties.getDirectory());
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            stream.forEach(files::add);
+        } catch (IOException e) {
+            log.warn("챗봇 세션 스냅샷 목록 조회 실패: {}", e.getMessage());
+            return;
+        }
+        for (Path file : files) {
+            if (!file.getFileName().toString().equals(PREFIX + instanceId + SUFFIX)) {
+                restore(file);
+            }
+        }
+    }
+
+    private void restore(Path path) {
+        // 이름을 바꿔 점유 (동시에 확인한 다른 인스턴스는 실패하고 건너뜀)
+        Path claimed = path.resolveSibling(path.getFileName() + "." + instanceId + ".restoring");
+        try {
+            Files.move(path, claimed, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            return;
+        }
+
+        try {
+            List<ChatSessionManager.ChatSession> sessions = read(claimed);
+            LocalDateTime now = LocalDateTime.now();
+            int restored = 0;
+            for (ChatSessionManager.ChatSession session : sessions) {
+                if (now.isBefore(session.getExpiresAt())) {
+                    chatSessionManager.restoreSession(session);
+                    restored++;
+                }
+            }
+            log.info("챗봇 세션 복원: {} → {}건 (만료 {}건 제외)", path.getFileName(), restored, sessions.size() - restored);
+        } catch (IOException | RuntimeException e) {
+            log.error("챗봇 세션 스냅샷 복원 실패, 무시: {} - {}", path.getFileName(), e.getMessage());
+        } finally {
+            // 같은 스냅샷을 두 번 복원하지 않도록 삭제
+            try {
+                Files.deleteIfExists(claimed);
+            } catch (IOException e) {
+                log.warn("챗봇 세션 스냅샷 삭제 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    // 마지막으로 처리한 순번의 응답 (처리 중이거나 실패했으면 null)
+    private ChatMessageResponse lastTurn(ChatSessionManager.ChatSession session) {
+        CompletableFuture<ChatMessageResponse> turn = session.getTurns().get(session.getCurrentQuestionIndex());
+        if (turn == null || !turn.isDone() || turn.isCompletedExceptionally()) {
+            return null;
+        }
+        return turn.join();
+    }
+
+    // ========== 파일 형식 ==========
+
+    void write(Path path, List<ChatSessionManager.ChatSession> sessions) throws IOException {
+        List<TurnRecord> turns = new ArrayList<>(sessions.size());
+        long size = HEADER_SIZE + Integer.BYTES;
+        for (ChatSessionManager.ChatSession session : sessions) {
+            TurnRecord turn = TurnRecord.of(lastTurn(session), objectMapper);
+            turns.add(turn);
+            size += sizeOf(session) + sizeOf(turn);
+        }
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(MAGIC).putShort(VERSION).putLong(System.currentTimeMillis()).putInt(sessions.size());
+            for (int i = 0; i < sessions.size(); i++) {
+                ChatSessionManager.ChatSession session = sessions.get(i);
+                putString(buffer, session.getSessionId());
+                putString(buffer, session.getHabitName());
+                putString(buffer, session.getCategory());
+                putString(buffer, session.getReason());
+                buffer.put((byte) (session.isFast() ? 1 : 0));
+                buffer.putInt(session.getCurrentQuestionIndex());
+                buffer.putLong(toEpochMilli(session.getCreatedAt()));
+                buffer.putLong(toEpochMilli(session.getExpiresAt()));
+                putStrings(buffer, session.getQuestions());
+                putStrings(buffer, session.getAnswers());
+                putTurn(buffer, turns.get(i));
+            }
+            buffer.putInt((int) crc(buffer, buffer.position()));
+            buffer.force();
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    List<ChatSessionManager.ChatSession> read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + Integer.BYTES) {
+                throw new IOException("스냅샷 파일이 너무 작음: " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            int dataSize = (int) size - Integer.BYTES;
+            if ((int) crc(buffer, dataSize) != buffer.getInt(dataSize)) {
+                throw new IOException("스냅샷 CRC 불일치");
+            }
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("스냅샷 형식 아님");
+            }
+            short version = buffer.getShort();
+            if (version < MIN_VERSION || version > VERSION) {
+                throw new IOException("지원하지 않는 스냅샷 버전: " + version);
+            }
+            buffer.getLong();   // savedAt
+            int count = buffer.getInt();
+
+            List<ChatSessionManager.ChatSession> sessions = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ChatSessionManager.ChatSession session = new ChatSessionManager.ChatSession();
+                session.setSessionId(getString(buffer));
+                session.setHabitName(getString(buffer));
+                session.setCategory(getString(buffer));
+                session.setReason(getString(buffer));
+                session.setFast(buffer.get() == 1);
+                session.setCurrentQuestionIndex(buffer.getInt());
+                session.setCreatedAt(fromEpochMilli(buffer.getLong()));
+                session.setExpiresAt(fromEpochMilli(buffer.getLong()));
+                session.setQuestions(getStrings(buffer));
+                session.setAnswers(getStrings(buffer));
+                if (version >= 2) {
+                    ChatMessageResponse turn = getTurn(buffer);
+                    if (turn != null) {
+                        session.getTurns().put(turn.getSeq(), CompletableFuture.completedFuture(turn));
+                    }
+                }
+                sessions.add(session);
+            }
+            return sessions;
+        }
+    }
+
+    private long sizeOf(ChatSessionManager.ChatSession session) {
+        long size = sizeOf(session.getSessionId()) + sizeOf(session.getHabitName())
+                + sizeOf(session.getCategory()) + sizeOf(session.getReason())
+                + 1 + Integer.BYTES + Long.BYTES * 2;
+        size += Integer.BYTES;
+        for (String question : session.getQuestions()) {
+            size += sizeOf(question);
+        }
+        size += Integer.BYTES;
+        for (String answer : session.getAnswers()) {
+            size += sizeOf(answer);
+        }
+        return size;
+    }
+
+    private long sizeOf(TurnRecord turn) {
+        if (turn == null) {
+            return 1;
+        }
+        return 1 + Integer.BYTES * 3 + sizeOf(turn.response().getMessage()) + 1
+                + sizeOf(turn.valueResult()) + sizeOf(turn.estimate());
+    }
+
+    private int sizeOf(String value) {
+        return Integer.BYTES + (value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private void putString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    private void putStrings(ByteBuffer buffer, List<String> values) {
+        buffer.putInt(values.size());
+        for (String value : values) {
+            putString(buffer, value);
+        }
+    }
+
+    private void putTurn(ByteBuffer buffer, TurnRecord turn) {
+        if (turn == null) {
+            buffer.put((byte) 0);
+            return;
+        }
+        ChatMessageResponse response = turn.response();
+        buffer.put((byte) 1);
+        buffer.putInt(response.getSeq()).putInt(response.getQuestionNumber()).putInt(response.getTotalQuestions());
+        putString(buffer, response.getMessage());
+        buffer.put((byte) (response.isComplete() ? 1 : 0));
+        putString(buffer, turn.valueResult());
+        putString(buffer, turn.estimate());
+    }
+
+    private ChatMessageResponse getTurn(ByteBuffer buffer) throws IOException {
+        if (buffer.get() == 0) {
+            return null;
+        }
+        return ChatMessageResponse.builder()
+                .seq(buffer.getInt())
+                .questionNumber(buffer.getInt())
+                .totalQuestions(buffer.getInt())
+                .message(getString(buffer))
+                .isComplete(buffer.get() == 1)
+                .valueResult(fromJson(getString(buffer)))
+                .estimate(fromJson(getString(buffer)))
+                .build();
+    }
+
+    private ValueResult fromJson(String json) throws IOException {
+        return json == null ? null : objectMapper.readValue(json, ValueResult.class);
+    }
+
+    // 응답 + 미리 직렬화한 ValueResult JSON (파일 크기 계산과 쓰기에 같은 문자열 사용)
+    private record TurnRecord(ChatMessageResponse response, String valueResult, String estimate) {
+
+        static TurnRecord of(ChatMessageResponse response, ObjectMapper objectMapper) throws IOException {
+            if (response == null) {
+                return null;
+            }
+            return new TurnRecord(response,
+                    response.getValueResult() == null ? null : objectMapper.writeValueAsString(response.getValueResult()),
+                    response.getEstimate() == null ? null : objectMapper.writeValueAsString(response.getEstimate()));
+        }
+    }
+
+    private String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private List<String> getStrings(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(getString(buffer));
+        }
+        return values;
+    }
+
+    private long crc(ByteBuffer buffer, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(0).limit(length));
+        return crc.getValue();
+    }
+
+    private long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private LocalDateTime fromEpochMilli(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+}
@@ -2,22 +2,29 @@ package org.example.badhabitzero.domain.ai.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.netty.handler.timeout.ReadTimeoutHandler;
-import io.netty.handler.timeout.WriteTimeoutHandler;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.domain.ai.config.AiDeadlineProperties;
+import org.example.badhabitzero.domain.ai.config.AiRetryFilters;
 import org.example.badhabitzero.domain.ai.config.ChromaProperties;
 import org.example.badhabitzero.domain.ai.config.GeminiProperties;
+import org.example.badhabitzero.domain.habit.entity.Habit;
+import org.example.badhabitzero.global.error.BusinessException;
+import org.example.badhabitzero.global.error.ErrorCode;
 import org.springframework.http.MediaType;
-import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.netty.http.client.HttpClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
@@ -28,47 +35,74 @@ public class ChromaService {
     private final GeminiService geminiService;        // 임베딩 생성용
     private final ObjectMapper objectMapper;          // JSON 파싱용
     private final GeminiProperties geminiProperties;
+    private final AiDeadlineProperties aiDeadlineProperties;
     private final WebClient chromaWebClient;          // WebConfig에서 주입
+    private final WebClient geminiEmbeddingWebClient; // WebConfig에서 주입 (Gemini Embedding API용)
+    private final AiConcurrencyLimiters concurrencyLimiters;  // 임베딩 동시 호출 제한
+    private final VectorCollectionRegistry collectionRegistry; // 검색/쓰기 대상 컬렉션 (habit_facts_v{n})
+    private final AiCallJournal aiCallJournal;                // 호출 기록
+    private final AiQuotaService aiQuotaService;              // 사용자별 임베딩 한도
 
-    // HTTP 클라이언트 (Gemini Embedding API용)
-    private WebClient geminiEmbeddingWebClient;
+    // 컬렉션 이름 → ID (버전마다 이름이 달라 이름이 같으면 ID도 같음)
+    private final Map<String, String> collectionIds = new ConcurrentHashMap<>();
 
-    // 컬렉션 이름 (테이블 이름 같은 것)
-    private static final String COLLECTION_NAME = "habit_facts";
+    // 카테고리별 샤드 (한 버전 = 카테고리마다 컬렉션 하나, habit_facts_v{n}_smoking)
+    private static final List<String> SHARD_CATEGORIES =
+            Arrays.stream(Habit.Category.values()).map(Enum::name).toList();
+
+    // 임베딩 모델 (스냅샷 파일 호환 여부 판단에도 사용)
+    public static final String EMBEDDING_MODEL = "models/gemini-embedding-001";
+
+    // batchEmbedContents 1회 최대 요청 수
+    private static final int EMBEDDING_BATCH_SIZE = 100;
+
+    // 단계별 최대 대기 시간 (요청 마감 시간이 더 짧으면 그쪽을 따름)
+    private static final Duration CHROMA_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration EMBEDDING_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration MIN_STAGE_TIMEOUT = Duration.ofMillis(100);
 
     /**
-     * 서비스 시작 시 Gemini Embedding WebClient 초기화
+     * 서비스 시작 로그
      * @PostConstruct: 빈 생성 후 자동 실행
      */
     @PostConstruct
     public void init() {
         log.info("ChromaService 초기화 완료. 서버: {}", chromaProperties.getHost());
+    }
 
-        // Gemini Embedding API용 별도 WebClient 설정
-        HttpClient httpClient = HttpClient.create()
-                .responseTimeout(Duration.ofSeconds(10))
-                .doOnConnected(conn ->
-                        conn.addHandlerLast(new ReadTimeoutHandler(10, TimeUnit.SECONDS))
-                                .addHandlerLast(new WriteTimeoutHandler(5, TimeUnit.SECONDS))
-                );
-
-        this.geminiEmbeddingWebClient = WebClient.builder()
-                .clientConnector(new ReactorClientHttpConnector(httpClient))
-                .build();
+    /**
+     * 카테고리 샤드 이름 (알 수 없는 카테고리면 null)
+     */
+    static String shardName(String collection, String category) {
+        if (category == null || !SHARD_CATEGORIES.contains(category)) {
+            return null;
+        }
+        return collection + "_" + category.toLowerCase();
     }
 
     /**
      * 컬렉션 생성 (테이블 만드는 것과 비슷)
      *
-     * 컬렉션이 없으면 새로 만들고,
+     * 카테고리별 샤드 컬렉션이 없으면 새로 만들고,
      * 이미 있으면 무시합니다.
      */
     public void createCollection() {
+        createCollection(collectionRegistry.activeCollection());
+    }
+
+    public void createCollection(String collection) {
+        for (String category : SHARD_CATEGORIES) {
+            createShard(shardName(collection, category));
+        }
+    }
+
+    private void createShard(String name) {
+        collectionIds.remove(name);
         try {
             // Chroma API에 보낼 데이터
             Map<String, Object> body = Map.of(
-                    "name", COLLECTION_NAME,  // 컬렉션 이름: "habit_facts"
-                    "metadata", Map.of("description", "악습 관련 사실 데이터")
+                    "name", name,  // 컬렉션 이름: "habit_facts_v{n}"
+                    "metadata", Map.of("description", "악습 관련 사실 데이터", "embeddingModel", EMBEDDING_MODEL)
             );
 
             // POST 요청으로 컬렉션 생성
@@ -79,9 +113,9 @@ public class ChromaService {
                     .bodyValue(body)
                     .retrieve()
                     .bodyToMono(String.class)
-                    .block(Duration.ofSeconds(10));  // 명시적 타임아웃
+                    .block(CHROMA_TIMEOUT);  // 명시적 타임아웃
 
-            log.info("컬렉션 생성 완료: {}", COLLECTION_NAME);
+            log.info("컬렉션 생성 완료: {}", name);
 
         } catch (Exception e) {
             log.info("컬렉션이 이미 존재하거나 생성 실패: {}", e.getMessage());
@@ -89,32 +123,90 @@ public class ChromaService {
     }
 
     /**
-     * 컬렉션 ID 조회
+     * 컬렉션 삭제 (교체 후 유예 기간이 지난 버전 정리용)
      *
-     * Chroma에서 문서를 추가하거나 검색할 때
-     * 컬렉션 이름이 아닌 ID가 필요합니다.
+     * 샤드 전체와 샤딩 전 단일 컬렉션(같은 이름)을 지우고, 이미 없는 것은 무시
      */
-    private String getCollectionId() {
-        try {
-            // GET 요청으로 컬렉션 정보 조회
-            // URL: http://localhost:8000/api/v2/tenants/default_tenant/databases/default_database/collections/habit_facts
-            String response = chromaWebClient.get()
-                    .uri("/api/v2/tenants/default_tenant/databases/default_database/collections/{name}", COLLECTION_NAME)
+    public void deleteCollection(String collection) {
+        List<String> names = new ArrayList<>();
+        names.add(collection);
+        SHARD_CATEGORIES.forEach(category -> names.add(shardName(collection, category)));
+
+        for (String name : names) {
+            collectionIds.remove(name);
+            try {
+                chromaWebClient.delete()
+                        .uri("/api/v2/tenants/default_tenant/databases/default_database/collections/{name}", name)
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .block(CHROMA_TIMEOUT);
+            } catch (WebClientResponseException.NotFound e) {
+                // 이미 없음
+            }
+        }
+        log.info("컬렉션 삭제 완료: {}", collection);
+    }
+
+    /**
+     * 컬렉션 문서 수 (샤드 합계)
+     */
+    public long countDocuments(String collection) {
+        long total = 0;
+        for (String category : SHARD_CATEGORIES) {
+            String count = chromaWebClient.get()
+                    .uri("/api/v2/tenants/default_tenant/databases/default_database/collections/{collectionId}/count",
+                            getCollectionId(shardName(collection, category)))
                     .retrieve()
                     .bodyToMono(String.class)
-                    .block(Duration.ofSeconds(10));
-
-            // JSON 응답에서 id 추출
-            // 응답 예시: {"id": "abc-123", "name": "habit_facts", ...}
-            JsonNode root = objectMapper.readTree(response);
-            return root.path("id").asText();
+                    .block(CHROMA_TIMEOUT);
+            total += Long.parseLong(count.trim());
+        }
+        return total;
+    }
 
+    /**
+     * 컬렉션 ID 조회
+     *
+     * Chroma에서 문서를 추가하거나 검색할 때
+     * 컬렉션 이름이 아닌 ID가 필요합니다. (한 번 찾으면 캐시)
+     */
+    private String getCollectionId(String name) {
+        try {
+            return collectionIdMono(name)
+                    .contextWrite(RequestDeadline.propagate())
+                    .block(ragTimeout(CHROMA_TIMEOUT));
         } catch (Exception e) {
             log.error("컬렉션 ID 조회 실패: {}", e.getMessage());
             throw new RuntimeException("컬렉션을 찾을 수 없습니다.");
         }
     }
 
+    // 컬렉션 ID 조회 (캐시에 있으면 바로 반환, 검색 시 임베딩 생성과 동시에 진행)
+    private Mono<String> collectionIdMono(String name) {
+        String cached = collectionIds.get(name);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        // GET 요청으로 컬렉션 정보 조회
+        // URL: http://localhost:8000/api/v2/tenants/default_tenant/databases/default_database/collections/habit_facts_v1_smoking
+        return chromaWebClient.get()
+                .uri("/api/v2/tenants/default_tenant/databases/default_database/collections/{name}", name)
+                .retrieve()
+                .bodyToMono(String.class)
+                .handle((response, sink) -> {
+                    try {
+                        // JSON 응답에서 id 추출
+                        // 응답 예시: {"id": "abc-123", "name": "habit_facts_v1_smoking", ...}
+                        String id = objectMapper.readTree(response).path("id").asText();
+                        collectionIds.put(name, id);
+                        sink.next(id);
+                    } catch (Exception e) {
+                        sink.error(e);
+                    }
+                });
+    }
+
     /**
      * Gemini Embedding API로 임베딩 생성
      *
@@ -125,54 +217,173 @@ public class ChromaService {
      * @return 임베딩 벡터 (숫자 리스트)
      */
     private List<Float> generateEmbedding(String text) {
+        try {
+            return embeddingMono(text)
+                    .contextWrite(RequestDeadline.propagate())
+                    .block();
+        } catch (Exception e) {
+            log.error("임베딩 생성 실패: {}", e.getMessage());
+            throw new RuntimeException("임베딩 생성에 실패했습니다.");
+        }
+    }
+
+    // 임베딩 생성 (구독 시 호출 시작, 취소되면 HTTP 요청도 취소)
+    private Mono<List<Float>> embeddingMono(String text) {
         // Gemini Embedding API URL
-        // text-embedding-004 모델 사용
         String url = String.format(
-                "https://generativelanguage.googleapis.com/v1beta/models/gemini-embedding-001:embedContent?key=%s",
-                geminiService.getApiKey()
+                "https://generativelanguage.googleapis.com/v1beta/%s:embedContent?key=%s",
+                EMBEDDING_MODEL, geminiService.getApiKey()
         );
 
         // API 요청 본문
         Map<String, Object> body = Map.of(
-                "model", "models/gemini-embedding-001",
+                "model", EMBEDDING_MODEL,
                 "content", Map.of(
                         "parts", List.of(Map.of("text", text))
                 )
         );
 
+        return requestEmbedding(url, body, 1).handle((response, sink) -> {
+            try {
+                // 응답에서 임베딩 값 추출
+                // 응답 예시:
+                // {
+                //   "embedding": {
+                //     "values": [0.12, -0.45, 0.78, ...]
+                //   }
+                // }
+                JsonNode values = objectMapper.readTree(response).path("embedding").path("values");
+
+                // JsonNode를 List<Float>로 변환
+                List<Float> embedding = new ArrayList<>();
+                for (JsonNode value : values) {
+                    embedding.add(value.floatValue());
+                }
+
+                log.debug("임베딩 생성 완료. 차원: {}", embedding.size());
+                sink.next(embedding);
+            } catch (Exception e) {
+                sink.error(e);
+            }
+        });
+    }
+
+    /**
+     * 여러 텍스트 임베딩을 한 번에 생성 (batchEmbedContents, 100건 단위)
+     *
+     * @param texts 변환할 텍스트 목록
+     * @return 텍스트 순서대로 임베딩 벡터
+     */
+    public List<List<Float>> generateEmbeddings(List<String> texts) {
         try {
-            // Gemini API 호출
-            String response = geminiEmbeddingWebClient.post()
-                    .uri(url)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(body)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block(Duration.ofSeconds(10));
+            return embeddingsMono(texts)
+                    .contextWrite(RequestDeadline.propagate())
+                    .block();
+        } catch (Exception e) {
+            log.error("일괄 임베딩 생성 실패: {}", e.getMessage());
+            throw new RuntimeException("임베딩 생성에 실패했습니다.");
+        }
+    }
 
-            // 응답에서 임베딩 값 추출
-            // 응답 예시:
-            // {
-            //   "embedding": {
-            //     "values": [0.12, -0.45, 0.78, ...]
-            //   }
-            // }
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode values = root.path("embedding").path("values");
+    // 100건 단위로 요청해 순서대로 이어 붙임
+    // (동시 호출 한도는 구독 스레드의 우선순위로 얻으므로 모든 청크를 호출 스레드에서 구독)
+    private Mono<List<List<Float>>> embeddingsMono(List<String> texts) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < texts.size(); from += EMBEDDING_BATCH_SIZE) {
+            chunks.add(texts.subList(from, Math.min(texts.size(), from + EMBEDDING_BATCH_SIZE)));
+        }
+        return Flux.fromIterable(chunks)
+                .flatMapSequential(this::embeddingBatchMono, Math.max(1, chunks.size()))
+                .flatMapIterable(batch -> batch)
+                .collectList();
+    }
 
-            // JsonNode를 List<Float>로 변환
-            List<Float> embedding = new ArrayList<>();
-            for (JsonNode value : values) {
-                embedding.add(value.floatValue());
+    private Mono<List<List<Float>>> embeddingBatchMono(List<String> texts) {
+        String url = String.format(
+                "https://generativelanguage.googleapis.com/v1beta/%s:batchEmbedContents?key=%s",
+                EMBEDDING_MODEL, geminiService.getApiKey()
+        );
+
+        // embedContent 요청 본문을 requests 배열로 묶음
+        List<Map<String, Object>> requests = new ArrayList<>();
+        for (String text : texts) {
+            requests.add(Map.of(
+                    "model", EMBEDDING_MODEL,
+                    "content", Map.of("parts", List.of(Map.of("text", text)))
+            ));
+        }
+
+        return requestEmbedding(url, Map.of("requests", requests), texts.size()).handle((response, sink) -> {
+            try {
+                // 응답 예시: { "embeddings": [ { "values": [...] }, { "values": [...] } ] }
+                List<List<Float>> embeddings = new ArrayList<>();
+                for (JsonNode embeddingNode : objectMapper.readTree(response).path("embeddings")) {
+                    List<Float> embedding = new ArrayList<>();
+                    for (JsonNode value : embeddingNode.path("values")) {
+                        embedding.add(value.floatValue());
+                    }
+                    embeddings.add(embedding);
+                }
+
+                if (embeddings.size() != texts.size()) {
+                    throw new IllegalStateException("임베딩 개수 불일치: " + embeddings.size() + "/" + texts.size());
+                }
+                log.debug("일괄 임베딩 생성 완료. {}건", embeddings.size());
+                sink.next(embeddings);
+            } catch (Exception e) {
+                sink.error(e);
             }
+        });
+    }
 
-            log.debug("임베딩 생성 완료. 차원: {}", embedding.size());
-            return embedding;
+    /**
+     * Gemini Embedding API 호출 (사용자 임베딩 쿼터, 동시 호출 한도 적용)
+     *
+     * 구독 시점에 한도를 얻고 응답/실패/취소 시 반납합니다.
+     * 타임아웃은 요청 마감 시간 기준 (LLM 호출 시간은 남겨둠)
+     */
+    private Mono<String> requestEmbedding(String url, Object body, int texts) {
+        AiCaller caller = AiCaller.current();
+        return Mono.defer(() -> {
+            Duration timeout = ragTimeout(EMBEDDING_TIMEOUT);
+            AiCallJournal.Origin origin = aiCallJournal.origin();
+            if (!aiQuotaService.tryAcquireEmbedding(caller, texts)) {
+                aiCallJournal.recordEmbedding(origin, EMBEDDING_MODEL, 0, 0, ErrorCode.AI_QUOTA_EXCEEDED.getCode());
+                return Mono.error(new BusinessException(ErrorCode.AI_QUOTA_EXCEEDED));
+            }
+            long startedAt = System.nanoTime();
+            AdaptiveConcurrencyLimiter.Permit permit;
+            try {
+                permit = concurrencyLimiters.getEmbedding().acquire(concurrencyLimiters.queueTimeout());
+            } catch (RuntimeException e) {
+                aiCallJournal.recordEmbedding(origin, EMBEDDING_MODEL, millisSince(startedAt), 0, AiCallJournal.outcomeOf(e));
+                throw e;
+            }
+            long acquiredAt = System.nanoTime();
+            long queueMs = TimeUnit.NANOSECONDS.toMillis(acquiredAt - startedAt);
+            AtomicLong attemptNanos = new AtomicLong();
 
-        } catch (Exception e) {
-            log.error("임베딩 생성 실패: {}", e.getMessage());
-            throw new RuntimeException("임베딩 생성에 실패했습니다.");
-        }
+            return geminiEmbeddingWebClient.post()
+                    .uri(url)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(body)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .timeout(timeout)
+                    .contextWrite(AiRetryFilters.recordAttemptNanos(attemptNanos))
+                    .doOnSuccess(response -> {
+                        permit.onSuccess(attemptNanos.get());
+                        aiCallJournal.recordEmbedding(origin, EMBEDDING_MODEL, queueMs, millisSince(acquiredAt), "ok");
+                    })
+                    .doOnError(e -> {
+                        if (AdaptiveConcurrencyLimiter.isOverloadSignal(e)) {
+                            permit.onDropped();
+                        }
+                        aiCallJournal.recordEmbedding(origin, EMBEDDING_MODEL, queueMs, millisSince(acquiredAt),
+                                AiCallJournal.outcomeOf(e));
+                    })
+                    .doFinally(signal -> permit.close());
+        });
     }
 
     /**
@@ -188,8 +399,13 @@ public class ChromaService {
      * @param costType 비용 유형 (예: "direct", "health", "opportunity")
      */
     public void addDocument(String id, String content, String category, String source, String costType) {
-        // 1. 컬렉션 ID 가져오기
-        String collectionId = getCollectionId();
+        // 1. 카테고리 샤드의 컬렉션 ID 가져오기
+        String shard = shardName(collectionRegistry.activeCollection(), category);
+        if (shard == null) {
+            log.warn("알 수 없는 카테고리, 문서 추가 생략: {} - {}", id, category);
+            return;
+        }
+        String collectionId = getCollectionId(shard);
 
         // 2. Gemini로 임베딩 생성
         //    "담배 1갑 가격은 4,500원이다" → [0.12, -0.45, ...]
@@ -216,7 +432,8 @@ public class ChromaService {
                     .bodyValue(body)
                     .retrieve()
                     .bodyToMono(String.class)
-                    .block(Duration.ofSeconds(10));
+                    .contextWrite(RequestDeadline.propagate())
+                    .block(ragTimeout(CHROMA_TIMEOUT));
 
             log.info("문서 추가 완료: {} - {}", id, content.substring(0, Math.min(30, content.length())));
 
@@ -226,56 +443,204 @@ public class ChromaService {
     }
 
     /**
-     * 유사 문서 검색
+     * 임베딩이 준비된 문서 일괄 저장 (있으면 갱신)
      *
-     * 1. 검색어를 임베딩으로 변환 (Gemini)
-     * 2. Chroma에서 비슷한 임베딩을 가진 문서 찾기
-     * 3. 유사도 높은 순서대로 반환
+     * 재구축 중이면 새 버전 컬렉션에도 같이 반영
      *
-     * @param query 검색어 (예: "담배 끊고 싶어요")
-     * @param topK 가져올 문서 개수 (예: 3)
-     * @return 검색 결과 리스트
+     * @param facts 문서 목록
+     * @param embeddings facts 순서대로 임베딩
      */
-    public List<Map<String, Object>> search(String query, int topK) {
-        // 1. 컬렉션 ID 가져오기
-        String collectionId = getCollectionId();
+    public void upsertDocuments(List<KnowledgeFacts.KnowledgeFact> facts, List<List<Float>> embeddings) {
+        for (String name : collectionRegistry.writeCollections()) {
+            upsertDocuments(name, facts, embeddings);
+        }
+    }
+
+    public void upsertDocuments(String collectionName, List<KnowledgeFacts.KnowledgeFact> facts, List<List<Float>> embeddings) {
+        // 카테고리 샤드별로 나눠 저장
+        Map<String, List<Integer>> indexesByShard = new LinkedHashMap<>();
+        for (int i = 0; i < facts.size(); i++) {
+            String shard = shardName(collectionName, facts.get(i).category());
+            if (shard == null) {
+                throw new IllegalArgumentException("알 수 없는 카테고리: " + facts.get(i).category());
+            }
+            indexesByShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(i);
+        }
+        indexesByShard.forEach((shard, indexes) -> upsertShard(shard,
+                indexes.stream().map(facts::get).toList(),
+                indexes.stream().map(embeddings::get).toList()));
+    }
+
+    private void upsertShard(String shard, List<KnowledgeFacts.KnowledgeFact> facts, List<List<Float>> embeddings) {
+        String collectionId = getCollectionId(shard);
+
+        List<String> ids = new ArrayList<>();
+        List<String> documents = new ArrayList<>();
+        List<Map<String, Object>> metadatas = new ArrayList<>();
+        for (KnowledgeFacts.KnowledgeFact fact : facts) {
+            ids.add(fact.id());
+            documents.add(fact.content());
+            metadatas.add(Map.of(
+                    "category", fact.category(),
+                    "source", fact.source(),
+                    "costType", fact.costType()
+            ));
+        }
+
+        Map<String, Object> body = Map.of(
+                "ids", ids,
+                "documents", documents,
+                "metadatas", metadatas,
+                "embeddings", embeddings
+        );
+
+        chromaWebClient.post()
+                .uri("/api/v2/tenants/default_tenant/databases/default_database/collections/{collectionId}/upsert", collectionId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(String.class)
+                .contextWrite(RequestDeadline.propagate())
+                .block(CHROMA_TIMEOUT);
 
-        // 2. 검색어를 임베딩으로 변환
-        //    "담배 끊고 싶어요" → [0.11, -0.43, 0.76, ...]
-        List<Float> queryEmbedding = generateEmbedding(query);
+        log.info("문서 일괄 저장 완료: {} {}건", shard, facts.size());
+    }
 
-        // 3. Chroma 검색 요청 데이터
+    /**
+     * 카테고리 샤드에서 문서 일괄 삭제 (재구축 중이면 새 버전 컬렉션에서도 삭제)
+     */
+    public void deleteDocuments(String category, List<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        for (String name : collectionRegistry.writeCollections()) {
+            String shard = shardName(name, category);
+            if (shard != null) {
+                deleteShardDocuments(shard, ids);
+            }
+        }
+    }
+
+    private void deleteShardDocuments(String shard, List<String> ids) {
+        String collectionId = getCollectionId(shard);
+
+        chromaWebClient.post()
+                .uri("/api/v2/tenants/default_tenant/databases/default_database/collections/{collectionId}/delete", collectionId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("ids", ids))
+                .retrieve()
+                .bodyToMono(String.class)
+                .contextWrite(RequestDeadline.propagate())
+                .block(CHROMA_TIMEOUT);
+
+        log.info("문서 일괄 삭제 완료: {} {}건", shard, ids.size());
+    }
+
+    /**
+     * 임베딩마다 카테고리 샤드에서 가장 가까운 문서 ID (재구축 검증용)
+     */
+    public List<String> nearestIds(String collectionName, String category, List<List<Float>> embeddings) {
         Map<String, Object> body = Map.of(
-                "query_embeddings", List.of(queryEmbedding),  // 검색할 임베딩
-                "n_results", topK,                             // 가져올 개수
-                "include", List.of("documents", "metadatas", "distances")  // 포함할 정보
+                "query_embeddings", embeddings,
+                "n_results", 1,
+                "include", List.of("distances")
         );
 
+        String response = chromaWebClient.post()
+                .uri("/api/v2/tenants/default_tenant/databases/default_database/collections/{collectionId}/query",
+                        getCollectionId(shardName(collectionName, category)))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(String.class)
+                .block(CHROMA_TIMEOUT);
+
         try {
-            // 4. Chroma에 검색 요청
-            // URL: http://localhost:8000/api/v2/tenants/default_tenant/databases/default_database/collections/{collectionId}/query
-            String response = chromaWebClient.post()
-                    .uri("/api/v2/tenants/default_tenant/databases/default_database/collections/{collectionId}/query", collectionId)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(body)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block(Duration.ofSeconds(10));
+            // 응답 예시: { "ids": [["smoking_001"], ["drinking_002"]], ... }
+            List<String> ids = new ArrayList<>();
+            for (JsonNode queryIds : objectMapper.readTree(response).path("ids")) {
+                ids.add(queryIds.isEmpty() ? null : queryIds.get(0).asText());
+            }
+            return ids;
+        } catch (Exception e) {
+            throw new IllegalStateException("검증 검색 결과 파싱 실패: " + e.getMessage());
+        }
+    }
 
-            // 5. 검색 결과 파싱
-            return parseSearchResults(response);
+    /**
+     * 유사 문서 검색 (전체 카테고리)
+     *
+     * 1. 샤드 ID 확인 ‖ 검색어 임베딩 변환 (Gemini) 을 동시에 진행
+     * 2. 카테고리 샤드마다 동시에 검색
+     * 3. 거리순으로 합쳐 상위 topK개 반환
+     *
+     * @param query 검색어 (예: "담배 끊고 싶어요")
+     * @param topK 가져올 문서 개수 (예: 3)
+     * @return 검색 결과 리스트
+     */
+    public List<Map<String, Object>> search(String query, int topK) {
+        // 0. LLM 호출할 시간이 부족하면 RAG 생략
+        if (shouldSkipRetrieval()) {
+            aiCallJournal.recordRetrieval(null, 0, "skipped");
+            return Collections.emptyList();
+        }
+
+        String collection = collectionRegistry.activeCollection();
+        long startedAt = System.nanoTime();
+        AtomicInteger failedShards = new AtomicInteger();
+        try {
+            Duration shardTimeout = ragTimeout(CHROMA_TIMEOUT);
+
+            // 1. 샤드 ID 확인 (한 번 찾으면 캐시)
+            Mono<Map<String, String>> shardIds = Flux.fromIterable(SHARD_CATEGORIES)
+                    .map(category -> shardName(collection, category))
+                    .flatMap(shard -> collectionIdMono(shard).map(id -> Map.entry(shard, id)))
+                    .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+
+            // 2. 검색어를 임베딩으로 변환 (샤드 ID 확인과 동시에, 한쪽이 실패하면 다른 쪽 취소)
+            //    "담배 끊고 싶어요" → [0.11, -0.43, 0.76, ...]
+            List<Map<String, Object>> merged = Mono.zip(shardIds, embeddingMono(query))
+                    .flatMapMany(tuple -> {
+                        // 3. Chroma 검색 요청 데이터 (샤드마다 topK개씩 받아 합침)
+                        Map<String, Object> body = Map.of(
+                                "query_embeddings", List.of(tuple.getT2()),   // 검색할 임베딩
+                                "n_results", topK,                              // 가져올 개수
+                                "include", List.of("documents", "metadatas", "distances")  // 포함할 정보
+                        );
+
+                        // 4. 샤드별 검색을 동시에 보내고 거리순 병합 (실패/지연된 샤드는 빈 결과, 기록은 partial)
+                        return Flux.fromIterable(tuple.getT1().entrySet())
+                                .flatMap(shard -> queryCollection(shard.getValue(), body)
+                                        .timeout(shardTimeout)
+                                        .map(response -> parseSearchResults(response, 0))
+                                        .onErrorResume(e -> {
+                                            log.warn("샤드 검색 실패: {} - {}", shard.getKey(), e.getMessage());
+                                            failedShards.incrementAndGet();
+                                            return Mono.just(List.of());
+                                        }));
+                    })
+                    .flatMapIterable(results -> results)
+                    .sort(Comparator.comparingDouble(result -> ((Number) result.get("distance")).doubleValue()))
+                    .take(topK)
+                    .collectList()
+                    .contextWrite(RequestDeadline.propagate())
+                    .block(ragTimeout(EMBEDDING_TIMEOUT.plus(CHROMA_TIMEOUT)));
+
+            aiCallJournal.recordRetrieval(collection, millisSince(startedAt), retrievalOutcome(failedShards));
+            return merged == null ? Collections.emptyList() : merged;
 
         } catch (Exception e) {
             log.error("검색 실패: {}", e.getMessage());
+            aiCallJournal.recordRetrieval(collection, millisSince(startedAt), AiCallJournal.outcomeOf(e));
             return Collections.emptyList();
         }
     }
 
     /**
-     * 카테고리로 필터링하여 검색
+     * 카테고리 샤드에서 검색
      *
-     * 특정 카테고리 내에서만 검색합니다.
-     * 예: "SMOKING" 카테고리에서만 검색
+     * 해당 카테고리 컬렉션 하나만 검색합니다. (where 필터 없이 색인 크기가 카테고리 하나로 제한됨)
+     * 예: "SMOKING" → habit_facts_v{n}_smoking
      *
      * @param query 검색어
      * @param category 카테고리 (예: "SMOKING")
@@ -283,32 +648,194 @@ public class ChromaService {
      * @return 검색 결과 리스트
      */
     public List<Map<String, Object>> searchByCategory(String query, String category, int topK) {
-        String collectionId = getCollectionId();
-        List<Float> queryEmbedding = generateEmbedding(query);
+        List<Map<String, Object>> results = searchByCategoryAsync(query, category, topK).block();
+        return results != null ? results : Collections.emptyList();
+    }
 
-        // where 조건 추가: category가 일치하는 문서만 검색
-        Map<String, Object> body = Map.of(
-                "query_embeddings", List.of(queryEmbedding),
-                "n_results", topK,
-                "include", List.of("documents", "metadatas", "distances"),
-                "where", Map.of("category", category)  // 필터 조건!
-        );
+    /**
+     * 카테고리 샤드 검색 (논블로킹)
+     *
+     * 구독할 때 시작하고 구독을 취소하면 임베딩/조회 요청도 취소됩니다. 실패하면 빈 결과로 완료합니다.
+     * 마감 시간과 호출 기록 단계는 이 메서드를 호출한 스레드 기준입니다.
+     */
+    public Mono<List<Map<String, Object>>> searchByCategoryAsync(String query, String category, int topK) {
+        // LLM 호출할 시간이 부족하면 RAG 생략
+        if (shouldSkipRetrieval()) {
+            aiCallJournal.recordRetrieval(null, 0, "skipped");
+            return Mono.just(Collections.emptyList());
+        }
+
+        String shard = shardName(collectionRegistry.activeCollection(), category);
+        if (shard == null) {
+            log.warn("알 수 없는 카테고리, 검색 생략: {}", category);
+            return Mono.just(Collections.emptyList());
+        }
 
+        AiCallJournal.Origin origin = aiCallJournal.origin();
+        // 마감 시간은 호출한 스레드 기준이라 여기서 계산 (부족하면 예외 대신 빈 결과)
+        Duration timeout;
+        Duration queryTimeout;
         try {
-            String response = chromaWebClient.post()
-                    .uri("/api/v2/tenants/default_tenant/databases/default_database/collections/{collectionId}/query", collectionId)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(body)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block(Duration.ofSeconds(10));
+            timeout = ragTimeout(EMBEDDING_TIMEOUT.plus(CHROMA_TIMEOUT));
+            queryTimeout = ragTimeout(CHROMA_TIMEOUT);
+        } catch (IllegalStateException e) {
+            log.debug("카테고리 검색 생략: {}", e.getMessage());
+            aiCallJournal.recordRetrieval(origin, shard, 0, "skipped");
+            return Mono.just(Collections.emptyList());
+        }
+        return Mono.defer(() -> {
+                    long startedAt = System.nanoTime();
+                    // 컬렉션 ID 조회 ‖ 검색어 임베딩 (서로 독립적이라 동시에 진행, 한쪽이 실패하면 다른 쪽 취소)
+                    return Mono.zip(collectionIdMono(shard), embeddingMono(query))
+                            .flatMap(tuple -> queryCollection(tuple.getT1(), Map.of(
+                                    "query_embeddings", List.of(tuple.getT2()),
+                                    "n_results", topK,
+                                    "include", List.of("documents", "metadatas", "distances")
+                            )).timeout(queryTimeout))
+                            .timeout(timeout)
+                            .map(response -> {
+                                aiCallJournal.recordRetrieval(origin, shard, millisSince(startedAt), "ok");
+                                return parseSearchResults(response, 0);
+                            })
+                            .onErrorResume(e -> {
+                                log.error("카테고리 검색 실패: {}", e.getMessage());
+                                aiCallJournal.recordRetrieval(origin, shard, millisSince(startedAt),
+                                        AiCallJournal.outcomeOf(e));
+                                return Mono.just(Collections.emptyList());
+                            })
+                            .doOnCancel(() -> aiCallJournal.recordRetrieval(origin, shard, millisSince(startedAt),
+                                    "cancelled"));
+                })
+                .contextWrite(RequestDeadline.propagate());
+    }
 
-            return parseSearchResults(response);
+    // Chroma query 요청
+    private Mono<String> queryCollection(String collectionId, Map<String, Object> body) {
+        // URL: http://localhost:8000/api/v2/tenants/default_tenant/databases/default_database/collections/{collectionId}/query
+        return chromaWebClient.post()
+                .uri("/api/v2/tenants/default_tenant/databases/default_database/collections/{collectionId}/query", collectionId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(String.class);
+    }
 
+    /**
+     * 여러 검색어를 카테고리별로 한 번에 검색 (일괄 가치 산정용)
+     *
+     * 임베딩은 batchEmbedContents 1회, Chroma 조회는 카테고리 샤드마다 1회
+     * (같은 카테고리끼리 query_embeddings 여러 개로 묶음)
+     * 샤드 ID 확인 ‖ 임베딩, 샤드별 조회끼리는 동시에 진행
+     *
+     * @param queries 검색어 목록
+     * @param categories 검색어별 카테고리 (queries와 같은 순서)
+     * @param topK 검색어당 가져올 문서 개수
+     * @return 검색어 순서대로 검색 결과 (실패한 검색어는 빈 리스트)
+     */
+    public List<List<Map<String, Object>>> searchByCategoryBatch(List<String> queries, List<String> categories, int topK) {
+        List<List<Map<String, Object>>> results = new ArrayList<>(Collections.nCopies(queries.size(), List.of()));
+        if (queries.isEmpty()) {
+            return results;
+        }
+        if (shouldSkipRetrieval()) {
+            aiCallJournal.recordRetrieval(null, 0, "skipped");
+            return results;
+        }
+
+        // 카테고리별로 검색어 묶기 (알 수 없는 카테고리는 빈 결과)
+        String collection = collectionRegistry.activeCollection();
+        Map<String, List<Integer>> indexesByShard = new LinkedHashMap<>();
+        for (int i = 0; i < queries.size(); i++) {
+            String shard = shardName(collection, categories.get(i));
+            if (shard != null) {
+                indexesByShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(i);
+            }
+        }
+        if (indexesByShard.isEmpty()) {
+            return results;
+        }
+
+        long startedAt = System.nanoTime();
+        AtomicInteger failedShards = new AtomicInteger();
+        try {
+            Duration shardTimeout = ragTimeout(CHROMA_TIMEOUT);
+            Mono<Map<String, String>> shardIds = Flux.fromIterable(indexesByShard.keySet())
+                    .flatMap(shard -> collectionIdMono(shard).map(id -> Map.entry(shard, id)))
+                    .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+
+            Mono.zip(shardIds, embeddingsMono(queries))
+                    .flatMapMany(tuple -> Flux.fromIterable(indexesByShard.entrySet())
+                            .flatMap(group -> {
+                                List<Integer> indexes = group.getValue();
+                                Map<String, Object> body = Map.of(
+                                        "query_embeddings", indexes.stream().map(tuple.getT2()::get).toList(),
+                                        "n_results", topK,
+                                        "include", List.of("documents", "metadatas", "distances")
+                                );
+                                return queryCollection(tuple.getT1().get(group.getKey()), body)
+                                        .timeout(shardTimeout)
+                                        .doOnNext(response -> {
+                                            // 응답의 n번째 결과가 n번째 query_embedding에 대응
+                                            for (int n = 0; n < indexes.size(); n++) {
+                                                results.set(indexes.get(n), parseSearchResults(response, n));
+                                            }
+                                        })
+                                        .onErrorResume(e -> {
+                                            log.error("카테고리 일괄 검색 실패: shard={}, {}", group.getKey(), e.getMessage());
+                                            failedShards.incrementAndGet();
+                                            return Mono.empty();
+                                        });
+                            }))
+                    .then()
+                    .contextWrite(RequestDeadline.propagate())
+                    .block(ragTimeout(EMBEDDING_TIMEOUT.plus(CHROMA_TIMEOUT)));
+
+            aiCallJournal.recordRetrieval(collection, millisSince(startedAt), retrievalOutcome(failedShards));
         } catch (Exception e) {
-            log.error("카테고리 검색 실패: {}", e.getMessage());
-            return Collections.emptyList();
+            log.error("일괄 검색 실패: {}", e.getMessage());
+            aiCallJournal.recordRetrieval(collection, millisSince(startedAt), AiCallJournal.outcomeOf(e));
+        }
+        return results;
+    }
+
+    // 일부 샤드만 실패하면 결과는 돌려주되 기록은 partial
+    private static String retrievalOutcome(AtomicInteger failedShards) {
+        return failedShards.get() > 0 ? "partial" : "ok";
+    }
+
+    private static long millisSince(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    /**
+     * 요청 마감 시간 기준으로 RAG 검색 생략 여부 판단
+     *
+     * 검색 후 LLM 호출에 쓸 시간(llmReserve)조차 남지 않았다면
+     * 참고 데이터 없이 바로 LLM을 호출하는 편이 낫습니다.
+     */
+    private boolean shouldSkipRetrieval() {
+        if (RequestDeadline.hasAtLeast(aiDeadlineProperties.getLlmReserve())) {
+            return false;
+        }
+        log.warn("요청 마감 시간 부족으로 RAG 검색 생략. 남은 시간: {}", RequestDeadline.remaining());
+        return true;
+    }
+
+    /**
+     * RAG 단계별 타임아웃: LLM 호출용 시간(llmReserve)을 남겨둔 범위에서만 대기
+     */
+    private Duration ragTimeout(Duration stageMax) {
+        Duration remaining = RequestDeadline.remaining();
+        if (remaining == null) {
+            return stageMax;
+        }
+
+        Duration available = remaining.minus(aiDeadlineProperties.getLlmReserve());
+        if (available.compareTo(MIN_STAGE_TIMEOUT) < 0) {
+            // 검색 메서드의 catch에서 빈 결과로 처리됨
+            throw new IllegalStateException("요청 마감 시간 부족으로 RAG 단계 생략");
         }
+        return available.compareTo(stageMax) < 0 ? available : stageMax;
     }
 
     /**
@@ -316,7 +843,7 @@ public class ChromaService {
      *
      * Chroma 응답을 우리가 사용하기 쉬운 형태로 변환합니다.
      */
-    private List<Map<String, Object>> parseSearchResults(String response) {
+    private List<Map<String, Object>> parseSearchResults(String response, int queryIndex) {
         List<Map<String, Object>> results = new ArrayList<>();
 
         try {
@@ -328,11 +855,11 @@ public class ChromaService {
             //   "metadatas": [[{...}, {...}, {...}]],
             //   "distances": [[0.1, 0.2, 0.3]]
             // }
-            // 첫 번째 [0]은 첫 번째 쿼리 결과 (우리는 쿼리 1개만 보냄)
+            // 바깥 배열은 쿼리(query_embeddings) 순서, [queryIndex]가 해당 쿼리의 결과
 
-            JsonNode documents = root.path("documents").get(0);
-            JsonNode metadatas = root.path("metadatas").get(0);
-            JsonNode distances = root.path("distances").get(0);
+            JsonNode documents = root.path("documents").get(queryIndex);
+            JsonNode metadatas = root.path("metadatas").get(queryIndex);
+            JsonNode distances = root.path("distances").get(queryIndex);
 
             // 각 결과를 Map으로 변환
             for (int i = 0; i < documents.size(); i++) {
@@ -0,0 +1,94 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.domain.ai.config.AiDegradedProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Gemini 서킷 브레이커
+ *
+ * - CLOSED: 정상 호출
+ * - OPEN: 연속 실패가 failureThreshold 이상이면 openDuration 동안 호출 차단
+ * - HALF_OPEN: openDuration 이후 시험 호출 1건만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+@Slf4j
+@Component
+public class GeminiCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final AiDegradedProperties degradedProperties;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAtNanos;
+
+    public GeminiCircuitBreaker(AiDegradedProperties degradedProperties, MeterRegistry meterRegistry) {
+        this.degradedProperties = degradedProperties;
+        Gauge.builder("ai.circuit.state", state, s -> s.get().ordinal())
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                .tag("client", "gemini")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 가능 여부 (OPEN 상태에서 대기 시간이 지나면 시험 호출 1건 허용)
+     *
+     * @return CLOSED면 일반 호출, HALF_OPEN이면 이 호출이 시험 호출, OPEN이면 차단
+     */
+    public State tryAcquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return State.CLOSED;
+        }
+        if (current == State.OPEN && cooldownElapsed() && state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            return State.HALF_OPEN;
+        }
+        return State.OPEN;
+    }
+
+    /**
+     * 호출해도 바로 차단될 상태인지 (저하 모드 판단용)
+     */
+    public boolean isOpen() {
+        State current = state.get();
+        return current == State.HALF_OPEN || (current == State.OPEN && !cooldownElapsed());
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.getAndSet(State.CLOSED) != State.CLOSED) {
+            log.info("Gemini 서킷 브레이커 닫힘 (정상 복구)");
+        }
+    }
+
+    public void onFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+        if (state.get() == State.HALF_OPEN || failures >= degradedProperties.getFailureThreshold()) {
+            openedAtNanos = System.nanoTime();
+            if (state.getAndSet(State.OPEN) != State.OPEN) {
+                log.warn("Gemini 서킷 브레이커 열림: 연속 실패 {}회", failures);
+            }
+        }
+    }
+
+    /**
+     * 원격 호출 없이 끝난 시험 호출 취소 (한도 대기 실패 등)
+     * 다시 OPEN으로 돌려 다음 호출이 시험 호출을 맡도록 함 (대기 시간은 이미 지났으므로 바로 가능)
+     */
+    public void releaseProbe() {
+        if (state.compareAndSet(State.HALF_OPEN, State.OPEN)) {
+            log.debug("Gemini 서킷 시험 호출 취소 (원격 호출 전 실패)");
+        }
+    }
+
+    private boolean cooldownElapsed() {
+        return System.nanoTime() - openedAtNanos >= degradedProperties.getOpenDuration().toNanos();
+    }
+}
@@ -4,13 +4,20 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.domain.ai.config.AiRetryFilters;
 import org.example.badhabitzero.domain.ai.config.GeminiProperties;
+import org.example.badhabitzero.global.error.BusinessException;
+import org.example.badhabitzero.global.error.ErrorCode;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
@@ -20,14 +27,33 @@ public class GeminiService {
     private final GeminiProperties geminiProperties;
     private final ObjectMapper objectMapper;
     private final WebClient geminiWebClient;
+    private final AiConcurrencyLimiters concurrencyLimiters;
+    private final GeminiCircuitBreaker circuitBreaker;
+    private final AiCallJournal aiCallJournal;
+    private final AiQuotaService aiQuotaService;
 
     private static final String GEMINI_API_URL =
             "https://generativelanguage.googleapis.com/v1beta/models/%s:generateContent?key=%s";
 
+    // 단일 호출 최대 대기 시간 (요청 마감 시간이 더 짧으면 그쪽을 따름)
+    private static final Duration GENERATE_TIMEOUT = Duration.ofSeconds(60);
+
     /**
      * Gemini API 호출
      */
     public String generate(String prompt) {
+        // 요청 마감 시간이 이미 지났으면 호출하지 않음
+        if (RequestDeadline.isExpired()) {
+            throw new BusinessException(ErrorCode.AI_DEADLINE_EXCEEDED);
+        }
+
+        // 사용자/IP별 호출 한도를 넘었으면 호출하지 않음
+        if (!aiQuotaService.tryAcquire()) {
+            aiCallJournal.recordGenerate(geminiProperties.getModel(), prompt, null, null, 0, 0, 0,
+                    ErrorCode.AI_QUOTA_EXCEEDED.getCode());
+            throw new BusinessException(ErrorCode.AI_QUOTA_EXCEEDED);
+        }
+
         String url = String.format(GEMINI_API_URL,
                 geminiProperties.getModel(),
                 geminiProperties.getApiKey());
@@ -45,30 +71,103 @@ public class GeminiService {
                 )
         );
 
+        // 호출 기록용 단계별 시각 (한도 대기 → 원격 호출 → 응답 파싱)
+        long startedAt = System.nanoTime();
+        long acquiredAt = 0;
+        long respondedAt = 0;
+        JsonNode usage = null;
+        String outcome = "ok";
+
+        // 연속 실패로 서킷이 열려 있으면 호출하지 않음
+        GeminiCircuitBreaker.State circuit = circuitBreaker.tryAcquire();
+        if (circuit == GeminiCircuitBreaker.State.OPEN) {
+            aiCallJournal.recordGenerate(geminiProperties.getModel(), prompt, null, null, 0, 0, 0,
+                    ErrorCode.AI_UNAVAILABLE.getCode());
+            throw new BusinessException(ErrorCode.AI_UNAVAILABLE);
+        }
+        // 시험 호출인데 원격 호출 전에 실패하면 (한도 대기 실패 등) 시험 호출 기회를 되돌려야 함
+        boolean circuitSettled = circuit != GeminiCircuitBreaker.State.HALF_OPEN;
+
         try {
-            String response = geminiWebClient.post()
-                    .uri(url)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block(java.time.Duration.ofSeconds(60));
+            String response;
+
+            // 동시 호출 한도 내에서만 호출 (초과 시 대기, 대기열이 꽉 차면 AI_OVERLOADED)
+            try (AdaptiveConcurrencyLimiter.Permit permit =
+                         concurrencyLimiters.getGenerate().acquire(concurrencyLimiters.queueTimeout())) {
+                acquiredAt = System.nanoTime();
+                AtomicLong attemptNanos = new AtomicLong();
+                try {
+                    response = geminiWebClient.post()
+                            .uri(url)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(requestBody)
+                            .retrieve()
+                            .bodyToMono(String.class)
+                            .contextWrite(AiRetryFilters.recordAttemptNanos(attemptNanos))
+                            .contextWrite(RequestDeadline.propagate())
+                            .block(RequestDeadline.timeout(GENERATE_TIMEOUT));
+                    permit.onSuccess(attemptNanos.get());
+                    circuitBreaker.onSuccess();
+                    circuitSettled = true;
+
+                } catch (Exception e) {
+                    log.error("Gemini API 호출 실패: {}", e.getMessage());
+                    if (AdaptiveConcurrencyLimiter.isOverloadSignal(e) || e instanceof WebClientRequestException) {
+                        permit.onDropped();
+                        circuitBreaker.onFailure();
+                    } else {
+                        // 4xx 등은 업스트림이 살아있다는 의미
+                        circuitBreaker.onSuccess();
+                    }
+                    circuitSettled = true;
+                    if (RequestDeadline.isExpired()) {
+                        throw new BusinessException(ErrorCode.AI_DEADLINE_EXCEEDED);
+                    }
+                    throw new RuntimeException("AI 서비스 호출에 실패했습니다.", e);
+                } finally {
+                    respondedAt = System.nanoTime();
+                }
+            }
 
             // 응답에서 텍스트 추출
-            return extractTextFromResponse(response);
+            JsonNode root = readResponse(response);
+            usage = root.path("usageMetadata");
+            return extractTextFromResponse(root);
+
+        } catch (RuntimeException e) {
+            outcome = AiCallJournal.outcomeOf(e);
+            throw e;
+        } finally {
+            if (!circuitSettled) {
+                circuitBreaker.releaseProbe();
+            }
+            long endedAt = System.nanoTime();
+            long queueNanos = (acquiredAt != 0 ? acquiredAt : endedAt) - startedAt;
+            long callNanos = acquiredAt != 0 ? (respondedAt != 0 ? respondedAt : endedAt) - acquiredAt : 0;
+            long parseNanos = respondedAt != 0 ? endedAt - respondedAt : 0;
+            Integer inputTokens = tokenCount(usage, "promptTokenCount");
+            Integer outputTokens = outputTokenCount(usage);
+            aiCallJournal.recordGenerate(geminiProperties.getModel(), prompt, inputTokens, outputTokens,
+                    toMillis(queueNanos), toMillis(callNanos), toMillis(parseNanos), outcome);
+            aiQuotaService.recordTokens((inputTokens != null ? inputTokens : 0)
+                    + (outputTokens != null ? outputTokens : 0));
+        }
+    }
 
+    private JsonNode readResponse(String response) {
+        try {
+            return objectMapper.readTree(response);
         } catch (Exception e) {
-            log.error("Gemini API 호출 실패: {}", e.getMessage());
-            throw new RuntimeException("AI 서비스 호출에 실패했습니다.", e);
+            log.error("응답 파싱 실패: {}", e.getMessage());
+            throw new RuntimeException("AI 응답 처리에 실패했습니다.", e);
         }
     }
 
     /**
      * Gemini 응답에서 텍스트 추출
      */
-    private String extractTextFromResponse(String response) {
+    private String extractTextFromResponse(JsonNode root) {
         try {
-            JsonNode root = objectMapper.readTree(response);
             return root
                     .path("candidates")
                     .get(0)
@@ -83,6 +182,27 @@ public class GeminiService {
         }
     }
 
+    // 출력 토큰 = 응답 + 사고(thinking) 토큰 (둘 다 출력 가격으로 과금)
+    private Integer outputTokenCount(JsonNode usage) {
+        Integer candidates = tokenCount(usage, "candidatesTokenCount");
+        Integer thoughts = tokenCount(usage, "thoughtsTokenCount");
+        if (candidates == null && thoughts == null) {
+            return null;
+        }
+        return (candidates != null ? candidates : 0) + (thoughts != null ? thoughts : 0);
+    }
+
+    private Integer tokenCount(JsonNode usage, String field) {
+        if (usage == null || !usage.path(field).isNumber()) {
+            return null;
+        }
+        return usage.path(field).asInt();
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
     public String getApiKey() {
         return geminiProperties.getApiKey();
     }
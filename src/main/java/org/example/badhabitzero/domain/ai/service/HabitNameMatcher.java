@@ -0,0 +1,110 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import java.util.Arrays;
+
+/**
+ * 악습 이름 유사도 (자모 단위 3-gram)
+ *
+ * 한글 음절을 초성/중성/종성으로 분해해 비교하므로 "담배"와 "담배피기", "전자담배"처럼
+ * 표기가 조금 달라도 유사도가 높게 나옵니다.
+ * 점수는 Dice 계수와 포함도(짧은 쪽 기준 겹침 비율)의 평균입니다.
+ */
+public final class HabitNameMatcher {
+
+    private static final int HANGUL_BASE = 0xAC00;
+    private static final int HANGUL_LAST = 0xD7A3;
+    private static final int BOUNDARY = 0;      // 문자열 시작/끝 표시 (짧은 이름도 n-gram이 생기도록)
+    private static final int JAMO_OFFSET = 1;   // 초성 1~19, 중성 20~40, 종성 41~68
+    private static final int OTHER_OFFSET = 100;
+
+    private HabitNameMatcher() {
+    }
+
+    /**
+     * "  전자 담배! " → "전자담배" (공백/기호 제거, 소문자)
+     */
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * 정규화된 이름의 자모 3-gram (정렬된 배열, 중복 제거)
+     */
+    public static long[] ngrams(String normalizedName) {
+        int[] jamo = new int[normalizedName.length() * 3 + 2];
+        int length = 0;
+        jamo[length++] = BOUNDARY;
+        for (int i = 0; i < normalizedName.length(); i++) {
+            char c = normalizedName.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                int index = c - HANGUL_BASE;
+                jamo[length++] = JAMO_OFFSET + index / 588;
+                jamo[length++] = JAMO_OFFSET + 19 + (index % 588) / 28;
+                int jong = index % 28;
+                if (jong > 0) {
+                    jamo[length++] = JAMO_OFFSET + 40 + jong;
+                }
+            } else {
+                jamo[length++] = OTHER_OFFSET + c;
+            }
+        }
+        jamo[length++] = BOUNDARY;
+
+        int count = Math.max(0, length - 2);
+        long[] grams = new long[count];
+        for (int i = 0; i < count; i++) {
+            grams[i] = ((long) jamo[i] << 40) | ((long) jamo[i + 1] << 20) | jamo[i + 2];
+        }
+        Arrays.sort(grams);
+        return dedupe(grams);
+    }
+
+    /**
+     * 유사도 (0~1)
+     */
+    public static double similarity(long[] a, long[] b) {
+        if (a.length == 0 || b.length == 0) {
+            return 0;
+        }
+        int i = 0;
+        int j = 0;
+        int common = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        double dice = 2.0 * common / (a.length + b.length);
+        double overlap = (double) common / Math.min(a.length, b.length);
+        return (dice + overlap) / 2;
+    }
+
+    private static long[] dedupe(long[] sorted) {
+        if (sorted.length < 2) {
+            return sorted;
+        }
+        int unique = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[unique - 1]) {
+                sorted[unique++] = sorted[i];
+            }
+        }
+        return unique == sorted.length ? sorted : Arrays.copyOf(sorted, unique);
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.domain.ai.dto.ValueResult;
+import org.example.badhabitzero.domain.ai.entity.HabitRevaluation;
+import org.example.badhabitzero.domain.ai.repository.HabitRevaluationRepository;
+import org.example.badhabitzero.domain.habit.entity.Habit;
+import org.example.badhabitzero.domain.habit.repository.HabitRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 악습 가치 재산정 체크포인트 관리
+ *
+ * 페이지 결과 반영과 체크포인트 저장을 한 트랜잭션으로 처리하므로
+ * 중간에 죽어도 반영된 페이지까지만 체크포인트가 남습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HabitRevaluationService {
+
+    private final HabitRevaluationRepository revaluationRepository;
+    private final HabitRepository habitRepository;
+
+    public record Checkpoint(Long id, String version, long lastHabitId) {
+    }
+
+    /**
+     * 버전의 재산정을 점유 (이미 끝났거나 다른 인스턴스가 진행 중이면 empty)
+     *
+     * 기록이 하나도 없으면(최초 기동) 현재 버전을 기준으로만 기록하고 재산정하지 않음
+     */
+    @Transactional
+    public Optional<Checkpoint> acquire(String version, Duration lease) {
+        HabitRevaluation revaluation = revaluationRepository.findByVersion(version).orElse(null);
+        if (revaluation == null) {
+            boolean first = revaluationRepository.count() == 0;
+            for (HabitRevaluation previous : revaluationRepository.findByStatus(HabitRevaluation.Status.RUNNING)) {
+                previous.supersede();
+                log.info("악습 재산정 중단 (새 버전): version={}", previous.getVersion());
+            }
+            revaluation = revaluationRepository.saveAndFlush(HabitRevaluation.builder()
+                    .version(version)
+                    .status(first ? HabitRevaluation.Status.DONE : HabitRevaluation.Status.RUNNING)
+                    .build());
+            log.info(first ? "악습 재산정 기준 버전 기록: version={}" : "악습 재산정 시작: version={}", version);
+        }
+        if (revaluation.getStatus() != HabitRevaluation.Status.RUNNING) {
+            return Optional.empty();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (revaluationRepository.acquireLease(revaluation.getId(), now, now.plus(lease)) == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new Checkpoint(revaluation.getId(), version, revaluation.getLastHabitId()));
+    }
+
+    /**
+     * 체크포인트 다음 페이지 (키셋 페이징)
+     */
+    @Transactional(readOnly = true)
+    public List<Habit> nextPage(long afterHabitId, int size) {
+        return habitRepository.findByIdGreaterThanAndAiValueIsNotNullOrderByIdAsc(afterHabitId, PageRequest.of(0, size));
+    }
+
+    /**
+     * 그룹별 기준 가치를 페이지 악습에 반영하고 체크포인트 저장 (점유 해제)
+     *
+     * 그룹 결과는 사용자 답변 없이 산정한 기준 가치이므로 각 악습의 AI 가치는
+     * 이전 기준 대비 비율로만 조정 (Habit.rebaseAiValue). 처음 기록되는 악습은 기준만 저장.
+     * 읽은 뒤 이름/카테고리가 바뀐 악습은 그룹이 달라지므로 반영하지 않음
+     *
+     * @return 갱신한 악습 수
+     */
+    @Transactional
+    public int apply(Long revaluationId, List<Long> habitIds, Map<String, ValueResult> results, int failed) {
+        int updated = 0;
+        for (Habit habit : habitRepository.findAllById(habitIds)) {
+            ValueResult result = results.get(groupKey(habit));
+            if (result != null && habit.getAiValue() != null && habit.rebaseAiValue(result.getValue())) {
+                updated++;
+            }
+        }
+
+        HabitRevaluation revaluation = revaluationRepository.findById(revaluationId).orElse(null);
+        if (revaluation != null) {
+            revaluation.checkpoint(habitIds.get(habitIds.size() - 1), habitIds.size(), updated, failed);
+        }
+        return updated;
+    }
+
+    /**
+     * 마지막 페이지까지 완료
+     */
+    @Transactional
+    public void finish(Long revaluationId) {
+        revaluationRepository.findById(revaluationId).ifPresent(revaluation -> {
+            revaluation.finish();
+            log.info("악습 재산정 완료: version={}, 확인 {}건, 갱신 {}건, 유지 {}건",
+                    revaluation.getVersion(), revaluation.getScanned(), revaluation.getUpdated(), revaluation.getFailed());
+        });
+    }
+
+    /**
+     * 점유 해제 (다음 주기에 같은 체크포인트부터 다시 시도)
+     */
+    @Transactional
+    public void release(Long revaluationId) {
+        revaluationRepository.releaseLease(revaluationId);
+    }
+
+    // 카테고리 + 정규화한 이름 (같은 그룹은 AI 호출 1회)
+    public static String groupKey(Habit habit) {
+        return habit.getCategory().name() + ":" + HabitNameMatcher.normalize(habit.getName());
+    }
+}
@@ -0,0 +1,154 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.domain.ai.config.AiRevaluationProperties;
+import org.example.badhabitzero.domain.ai.config.GeminiProperties;
+import org.example.badhabitzero.domain.ai.dto.AnalyzeCompleteRequest;
+import org.example.badhabitzero.domain.ai.dto.ValueResult;
+import org.example.badhabitzero.domain.habit.entity.Habit;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 저장된 악습 가치 재산정 배치
+ *
+ * - 지식 베이스/프롬프트(카탈로그 버전)나 Gemini 모델이 바뀌면 ai_value가 있는 악습을 다시 산정
+ * - 주기마다 키셋 페이지 1개만 처리하고, 페이지 안에서는 (카테고리, 정규화한 이름) 그룹당 AI 호출 1회
+ * - 그룹 호출은 이유/답변 없이 기준 가치만 산정하고, 각 악습 가치는 기준이 바뀐 비율로만 조정 (설명은 유지)
+ * - 백그라운드 우선순위로 실행되어 사용자 요청이 몰리면 뒤로 밀림
+ * - 규칙 기반 카테고리는 지식 베이스/모델과 무관하고 사용자 답변으로 계산된 값이므로 제외
+ * - 페이지 반영과 체크포인트는 한 트랜잭션, 중간에 죽으면 다음 주기에 마지막 체크포인트부터 이어서 진행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HabitRevaluationWorker {
+
+    private final HabitRevaluationService revaluationService;
+    private final ValueAnalysisService valueAnalysisService;
+    private final ValuationCatalogService catalogService;
+    private final RuleBasedValuationEngine valuationEngine;
+    private final GeminiCircuitBreaker circuitBreaker;
+    private final GeminiProperties geminiProperties;
+    private final AiRevaluationProperties revaluationProperties;
+    private final ThreadPoolTaskExecutor aiBackgroundExecutor;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // 같은 버전에서 이미 산정한 그룹 결과 (페이지를 넘어 같은 이름이 나오면 재사용)
+    private String memoVersion;
+    private Map<String, ValueResult> memo = new LinkedHashMap<>();
+
+    @Scheduled(fixedDelayString = "${ai.revaluation.interval:1m}")
+    public void poll() {
+        if (!revaluationProperties.isEnabled() || circuitBreaker.isOpen()) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            String version = catalogService.currentVersion() + ":" + geminiProperties.getModel();
+            Optional<HabitRevaluationService.Checkpoint> checkpoint =
+                    revaluationService.acquire(version, revaluationProperties.getLease());
+            if (checkpoint.isEmpty()) {
+                running.set(false);
+                return;
+            }
+            aiBackgroundExecutor.execute(() -> {
+                try {
+                    AiPriority.runAs(AiPriority.BACKGROUND, () -> runPage(checkpoint.get()));
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.debug("악습 재산정 생략 (실행 대기열 포화)");
+            running.set(false);
+        } catch (Exception e) {
+            log.warn("악습 재산정 준비 실패: {}", e.getMessage());
+            running.set(false);
+        }
+    }
+
+    private void runPage(HabitRevaluationService.Checkpoint checkpoint) {
+        try {
+            List<Habit> page = revaluationService.nextPage(checkpoint.lastHabitId(), revaluationProperties.getPageSize());
+            if (page.isEmpty()) {
+                revaluationService.finish(checkpoint.id());
+                return;
+            }
+
+            // 그룹별 대표 악습 (이름/카테고리만 사용)
+            Map<String, Habit> groups = new LinkedHashMap<>();
+            for (Habit habit : page) {
+                groups.putIfAbsent(HabitRevaluationService.groupKey(habit), habit);
+            }
+
+            Map<String, ValueResult> results = new HashMap<>();
+            int failed = 0;
+            for (Map.Entry<String, Habit> group : groups.entrySet()) {
+                Habit habit = group.getValue();
+                if (valuationEngine.supports(habit.getCategory().name())) {
+                    continue;
+                }
+                ValueResult result = revalue(checkpoint.version(), group.getKey(), habit);
+                if (result != null) {
+                    results.put(group.getKey(), result);
+                } else {
+                    failed++;
+                }
+            }
+
+            List<Long> habitIds = page.stream().map(Habit::getId).toList();
+            int updated = revaluationService.apply(checkpoint.id(), habitIds, results, failed);
+            log.info("악습 재산정: version={}, lastHabitId={}, {}건 중 {}건 갱신 (그룹 {}개, 산정 실패 {}개)",
+                    checkpoint.version(), habitIds.get(habitIds.size() - 1), page.size(), updated, groups.size(), failed);
+        } catch (Exception e) {
+            // AI 장애 등: 체크포인트를 남기지 않고 다음 주기에 같은 페이지부터 다시 시도
+            log.warn("악습 재산정 중단, 다음 주기에 재시도: {}", e.getMessage());
+            try {
+                revaluationService.release(checkpoint.id());
+            } catch (Exception releaseError) {
+                log.warn("악습 재산정 점유 해제 실패 (기한 만료 후 재시도): {}", releaseError.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 그룹 1개 산정 (파싱 실패 시 null → 기존 값 유지, AI 호출 실패는 예외로 페이지 중단)
+     */
+    private ValueResult revalue(String version, String groupKey, Habit habit) {
+        if (!version.equals(memoVersion)) {
+            memoVersion = version;
+            memo = new LinkedHashMap<>();
+        }
+        ValueResult cached = memo.get(groupKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        AnalyzeCompleteRequest request = new AnalyzeCompleteRequest();
+        request.setHabitName(habit.getName());
+        request.setCategory(habit.getCategory().name());
+        request.setAnswers(Map.of());       // 개인 이유/답변 없이 그룹 공통 기준만 산정
+
+        ValueResult result = RequestDeadline.callWithin(revaluationProperties.getGroupTimeout(),
+                () -> valueAnalysisService.calculateBaseline(request));
+        if (result == null || result.getBreakdown() == null) {
+            return null;
+        }
+
+        if (memo.size() >= revaluationProperties.getMemoSize()) {
+            memo.remove(memo.keySet().iterator().next());
+        }
+        memo.put(groupKey, result);
+        return result;
+    }
+}
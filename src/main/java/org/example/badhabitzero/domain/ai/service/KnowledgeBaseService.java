@@ -0,0 +1,575 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.domain.ai.config.AiKnowledgeProperties;
+import org.example.badhabitzero.domain.ai.dto.KnowledgeFactRequest;
+import org.example.badhabitzero.domain.ai.dto.KnowledgeFactResponse;
+import org.example.badhabitzero.domain.ai.dto.KnowledgeImportResponse;
+import org.example.badhabitzero.domain.ai.entity.KnowledgeDocument;
+import org.example.badhabitzero.domain.ai.repository.KnowledgeDocumentRepository;
+import org.example.badhabitzero.domain.habit.entity.Habit;
+import org.example.badhabitzero.global.error.BusinessException;
+import org.example.badhabitzero.global.error.ErrorCode;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 지식 베이스 관리 (DB가 원본, Chroma는 검색용 복제본)
+ *
+ * - 생성/수정/삭제/일괄 가져오기 후 바뀐 문서만 Chroma에 반영
+ * - 임베딩은 내용 해시가 바뀐 문서만 batchEmbedContents로 다시 생성
+ * - 가져오기는 한 줄씩 읽어 importBatchSize 단위로 임베딩/반영을 끝낸 뒤 다음 줄을 읽음
+ *   (메모리는 배치 크기만큼만 쓰고, Gemini/Chroma가 느리면 읽기도 같이 느려짐)
+ * - Chroma 반영에 실패한 문서는 synced = false로 남겨 주기적으로 다시 시도
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KnowledgeBaseService {
+
+    private static final Set<String> COST_TYPES = Set.of("direct", "health", "opportunity", "psychological");
+    private static final Pattern FACT_ID_PATTERN = Pattern.compile("[a-z0-9_-]{1,100}");
+    private static final List<String> CSV_COLUMNS = List.of("factId", "content", "category", "source", "costType");
+
+    private final KnowledgeDocumentRepository documentRepository;
+    private final ChromaService chromaService;
+    private final AiKnowledgeProperties knowledgeProperties;
+    private final ObjectMapper objectMapper;
+
+    // ==================== 조회 ====================
+
+    @Transactional(readOnly = true)
+    public List<KnowledgeFactResponse> getFacts(String category) {
+        List<KnowledgeDocumentRepository.KnowledgeFactView> views = category == null || category.isBlank()
+                ? documentRepository.findAllByOrderByFactIdAsc()
+                : documentRepository.findByCategoryOrderByFactIdAsc(category.trim().toUpperCase());
+        return views.stream().map(this::toResponse).toList();
+    }
+
+    /**
+     * 지식 베이스 내용 해시 (사전 산정 카탈로그 버전에 사용)
+     */
+    @Transactional(readOnly = true)
+    public String contentHash() {
+        List<KnowledgeFacts.KnowledgeFact> facts = documentRepository.findAllByOrderByFactIdAsc().stream()
+                .map(view -> new KnowledgeFacts.KnowledgeFact(view.getFactId(), view.getContentHash(),
+                        view.getCategory(), view.getSource(), view.getCostType()))
+                .toList();
+        return KnowledgeFacts.contentHash(facts);
+    }
+
+    // ==================== 생성/수정/삭제 ====================
+
+    public KnowledgeFactResponse createFact(KnowledgeFactRequest request) {
+        validate(request);
+        if (documentRepository.findByFactId(request.getFactId()).isPresent()) {
+            throw new BusinessException(ErrorCode.DUPLICATE_KNOWLEDGE_FACT);
+        }
+
+        KnowledgeDocument document;
+        try {
+            document = documentRepository.save(toDocument(request));
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(ErrorCode.DUPLICATE_KNOWLEDGE_FACT);
+        }
+        sync(List.of(document));
+        return toResponse(document);
+    }
+
+    public KnowledgeFactResponse updateFact(String factId, KnowledgeFactRequest request) {
+        request.setFactId(factId);
+        validate(request);
+        KnowledgeDocument document = documentRepository.findByFactId(factId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.KNOWLEDGE_FACT_NOT_FOUND));
+
+        if (document.update(request.getContent().trim(), request.getCategory(),
+                request.getSource().trim(), request.getCostType())) {
+            sync(List.of(document));
+        }
+        return toResponse(document);
+    }
+
+    /**
+     * Chroma 카테고리 샤드에서 먼저 지운 뒤 DB에서 삭제 (Chroma 실패 시 DB는 그대로 남음)
+     */
+    public void deleteFact(String factId) {
+        KnowledgeDocument document = documentRepository.findByFactId(factId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.KNOWLEDGE_FACT_NOT_FOUND));
+
+        try {
+            String category = document.getSyncedCategory() != null ? document.getSyncedCategory() : document.getCategory();
+            chromaService.deleteDocuments(category, List.of(factId));
+        } catch (Exception e) {
+            log.warn("Chroma 문서 삭제 실패: {} - {}", factId, e.getMessage());
+            throw new BusinessException(ErrorCode.AI_UNAVAILABLE);
+        }
+        documentRepository.delete(document);
+        log.info("지식 문서 삭제: {}", factId);
+    }
+
+    // ==================== 일괄 가져오기 ====================
+
+    /**
+     * JSONL(한 줄에 JSON 하나) 또는 CSV(첫 줄 헤더: factId,content,category,source,costType) 가져오기
+     *
+     * CSV 값은 쌍따옴표로 감쌀 수 있지만 값 안에 줄바꿈은 허용하지 않습니다.
+     * 같은 factId가 있으면 수정, 없으면 생성합니다. 잘못된 줄은 건너뛰고 사유를 모아 반환합니다.
+     */
+    public KnowledgeImportResponse importFacts(InputStream input, String format) {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        if (!csv && !"jsonl".equalsIgnoreCase(format)) {
+            throw new BusinessException(ErrorCode.INVALID_KNOWLEDGE_FACT, "format은 jsonl 또는 csv여야 합니다.");
+        }
+
+        ImportStats stats = new ImportStats(knowledgeProperties.getMaxImportErrors());
+        int batchSize = Math.max(1, knowledgeProperties.getImportBatchSize());
+        Map<String, KnowledgeFactRequest> batch = new LinkedHashMap<>();
+        long startedAt = System.currentTimeMillis();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            List<String> header = null;
+            String line;
+            int lineNumber = 0;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (csv && header == null) {
+                    header = parseHeader(line);
+                    continue;
+                }
+
+                stats.total++;
+                KnowledgeFactRequest request;
+                try {
+                    request = csv ? fromCsv(header, line) : objectMapper.readValue(line, KnowledgeFactRequest.class);
+                    validate(request);
+                } catch (Exception e) {
+                    stats.fail(lineNumber, e);
+                    continue;
+                }
+
+                // 같은 배치 안에서 factId가 겹치면 앞 배치를 먼저 반영 (순서대로 마지막 값이 남도록)
+                if (batch.containsKey(request.getFactId()) || batch.size() >= batchSize) {
+                    applyBatch(batch, stats);
+                    batch.clear();
+                }
+                batch.put(request.getFactId(), request);
+            }
+            applyBatch(batch, stats);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INVALID_KNOWLEDGE_FACT, "가져오기 본문을 읽지 못했습니다.");
+        }
+
+        log.info("지식 베이스 가져오기 완료: total={}, created={}, updated={}, unchanged={}, embedded={}, failed={}, {}ms",
+                stats.total, stats.created, stats.updated, stats.unchanged, stats.embedded, stats.failed,
+                System.currentTimeMillis() - startedAt);
+
+        return KnowledgeImportResponse.builder()
+                .total(stats.total)
+                .created(stats.created)
+                .updated(stats.updated)
+                .unchanged(stats.unchanged)
+                .embedded(stats.embedded)
+                .failed(stats.failed)
+                .errors(stats.errors)
+                .build();
+    }
+
+    private void applyBatch(Map<String, KnowledgeFactRequest> batch, ImportStats stats) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Map<String, KnowledgeDocument> existing = documentRepository.findByFactIdIn(batch.keySet()).stream()
+                .collect(Collectors.toMap(KnowledgeDocument::getFactId, Function.identity()));
+
+        List<KnowledgeDocument> changed = new ArrayList<>();
+        int created = 0;
+        int updated = 0;
+        for (KnowledgeFactRequest request : batch.values()) {
+            KnowledgeDocument document = existing.get(request.getFactId());
+            if (document == null) {
+                changed.add(toDocument(request));
+                created++;
+            } else if (document.update(request.getContent().trim(), request.getCategory(),
+                    request.getSource().trim(), request.getCostType())) {
+                changed.add(document);
+                updated++;
+            } else {
+                stats.unchanged++;
+            }
+        }
+
+        try {
+            stats.embedded += sync(changed);
+            stats.created += created;
+            stats.updated += updated;
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 factId가 생성된 경우 → 이 배치는 실패 처리
+            stats.failBatch(changed.size(), "배치 저장 실패(중복 factId): " + batch.keySet().iterator().next() + " 외");
+        }
+    }
+
+    // ==================== Chroma 반영 ====================
+
+    /**
+     * 내용이 바뀐 문서만 임베딩 → DB 저장 → Chroma upsert
+     *
+     * 임베딩/Chroma가 실패해도 DB에는 저장하고 synced = false로 남겨 retryPending에서 다시 시도
+     *
+     * @return 새로 임베딩한 문서 수
+     */
+    private int sync(List<KnowledgeDocument> documents) {
+        if (documents.isEmpty()) {
+            return 0;
+        }
+
+        int embedded = 0;
+        List<KnowledgeDocument> stale = documents.stream().filter(KnowledgeDocument::needsEmbedding).toList();
+        if (!stale.isEmpty()) {
+            try {
+                List<List<Float>> embeddings = AiPriority.callAs(AiPriority.BACKGROUND,
+                        () -> AiStage.callAs(AiStage.KNOWLEDGE,
+                                () -> chromaService.generateEmbeddings(stale.stream().map(KnowledgeDocument::getContent).toList())));
+                for (int i = 0; i < stale.size(); i++) {
+                    stale.get(i).applyEmbedding(embeddings.get(i));
+                }
+                embedded = stale.size();
+            } catch (Exception e) {
+                log.warn("지식 문서 임베딩 실패, 나중에 다시 시도: {}건 - {}", stale.size(), e.getMessage());
+            }
+        }
+
+        List<KnowledgeDocument> saved = documentRepository.saveAll(documents);
+
+        List<KnowledgeDocument> ready = saved.stream().filter(document -> !document.needsEmbedding()).toList();
+        if (!ready.isEmpty()) {
+            try {
+                // 카테고리가 바뀐 문서는 이전 샤드에서 먼저 삭제
+                ready.stream()
+                        .filter(KnowledgeDocument::isMovedFromSyncedCategory)
+                        .collect(Collectors.groupingBy(KnowledgeDocument::getSyncedCategory,
+                                Collectors.mapping(KnowledgeDocument::getFactId, Collectors.toList())))
+                        .forEach(chromaService::deleteDocuments);
+                chromaService.upsertDocuments(
+                        ready.stream().map(KnowledgeDocument::toFact).toList(),
+                        ready.stream().map(KnowledgeDocument::embeddingVector).toList());
+                ready.forEach(KnowledgeDocument::markSynced);
+                documentRepository.saveAll(ready);
+            } catch (Exception e) {
+                log.warn("Chroma 반영 실패, 나중에 다시 시도: {}건 - {}", ready.size(), e.getMessage());
+            }
+        }
+        return embedded;
+    }
+
+    /**
+     * Chroma에 반영되지 않은 문서 재시도
+     */
+    @Scheduled(fixedDelayString = "${ai.knowledge.retry-interval:1m}", initialDelayString = "${ai.knowledge.retry-interval:1m}")
+    public void retryPending() {
+        List<KnowledgeDocument> pending = documentRepository.findTop100BySyncedFalseOrderByIdAsc();
+        if (!pending.isEmpty()) {
+            log.info("Chroma 미반영 지식 문서 재시도: {}건", pending.size());
+            sync(pending);
+        }
+    }
+
+    // ==================== 시작 시 적재 ====================
+
+    /**
+     * 앱 시작 시 지식 베이스 적재
+     *
+     * 1. DB가 비어 있으면 KnowledgeFacts 기본 데이터로 채움
+     * 2. 임베딩이 없는 문서는 스냅샷에서 같은 내용의 벡터를 재사용, 없으면 새로 임베딩
+     * 3. Chroma가 새로 떴을 수 있으므로 전체를 페이지 단위로 upsert (저장된 임베딩 사용)
+     * 4. 내용이 바뀌었으면 스냅샷 갱신
+     */
+    public void initialize() {
+        chromaService.createCollection();
+
+        if (documentRepository.count() == 0) {
+            documentRepository.saveAll(KnowledgeFacts.ALL.stream()
+                    .map(fact -> KnowledgeDocument.builder()
+                            .factId(fact.id())
+                            .content(fact.content())
+                            .category(fact.category())
+                            .source(fact.source())
+                            .costType(fact.costType())
+                            .build())
+                    .toList());
+            log.info("지식 베이스 기본 데이터 저장: {}건", KnowledgeFacts.ALL.size());
+        }
+
+        String contentHash = contentHash();
+        KnowledgeSnapshotFile.Snapshot snapshot = readSnapshot();
+        Map<String, Integer> snapshotIndex = new HashMap<>();
+        if (snapshot != null) {
+            for (int i = 0; i < snapshot.facts().size(); i++) {
+                snapshotIndex.put(snapshot.facts().get(i).id(), i);
+            }
+        }
+
+        // 스냅샷을 새로 쓸 때만 벡터를 모아 둠
+        boolean snapshotStale = knowledgeProperties.isSnapshotEnabled()
+                && (snapshot == null || !contentHash.equals(snapshot.contentHash()));
+        List<KnowledgeFacts.KnowledgeFact> facts = new ArrayList<>();
+        List<List<Float>> vectors = new ArrayList<>();
+        int total = 0;
+        int reused = 0;
+        int embedded = 0;
+        int pageSize = Math.max(1, knowledgeProperties.getImportBatchSize());
+        Page<KnowledgeDocument> page = documentRepository.findAllBy(PageRequest.of(0, pageSize, Sort.by("id")));
+        while (true) {
+            for (KnowledgeDocument document : page.getContent()) {
+                Integer index = snapshotIndex.get(document.getFactId());
+                if (document.needsEmbedding() && index != null
+                        && snapshot.facts().get(index).content().equals(document.getContent())) {
+                    document.applyEmbedding(snapshot.vector(index));
+                    reused++;
+                }
+                document.markUnsynced();
+            }
+            embedded += sync(page.getContent());
+            total += page.getNumberOfElements();
+
+            for (KnowledgeDocument document : page.getContent()) {
+                if (snapshotStale && !document.needsEmbedding()) {
+                    facts.add(document.toFact());
+                    vectors.add(document.embeddingVector());
+                }
+            }
+            if (!page.hasNext()) {
+                break;
+            }
+            page = documentRepository.findAllBy(page.nextPageable());
+        }
+
+        log.info("지식 베이스 적재: {}건 (스냅샷 재사용 {}, 새로 임베딩 {})", total, reused, embedded);
+
+        if (snapshotStale && facts.size() == total) {
+            writeSnapshot(contentHash, facts, vectors);
+        }
+    }
+
+    /**
+     * 현재 임베딩 모델로 만든 스냅샷 (없거나 모델이 다르면 null)
+     */
+    private KnowledgeSnapshotFile.Snapshot readSnapshot() {
+        Path path = Path.of(knowledgeProperties.getSnapshotPath());
+        if (!knowledgeProperties.isSnapshotEnabled() || !Files.exists(path)) {
+            return null;
+        }
+
+        KnowledgeSnapshotFile.Snapshot header = KnowledgeSnapshotFile.readHeader(path);
+        if (header == null || !ChromaService.EMBEDDING_MODEL.equals(header.model())) {
+            log.info("임베딩 스냅샷 모델이 다름, 사용하지 않음");
+            return null;
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            KnowledgeSnapshotFile.Snapshot snapshot = KnowledgeSnapshotFile.read(path);
+            log.info("임베딩 스냅샷 로드: {}건, {}ms", snapshot.facts().size(), System.currentTimeMillis() - startedAt);
+            return snapshot;
+        } catch (Exception e) {
+            log.warn("임베딩 스냅샷 로드 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeSnapshot(String contentHash, List<KnowledgeFacts.KnowledgeFact> facts, List<List<Float>> embeddings) {
+        if (!knowledgeProperties.isSnapshotEnabled() || embeddings.isEmpty()) {
+            return;
+        }
+        int dimension = embeddings.get(0).size();
+        float[] vectors = new float[facts.size() * dimension];
+        for (int i = 0; i < embeddings.size(); i++) {
+            List<Float> embedding = embeddings.get(i);
+            for (int j = 0; j < dimension; j++) {
+                vectors[i * dimension + j] = embedding.get(j);
+            }
+        }
+
+        try {
+            KnowledgeSnapshotFile.write(Path.of(knowledgeProperties.getSnapshotPath()),
+                    new KnowledgeSnapshotFile.Snapshot(ChromaService.EMBEDDING_MODEL, dimension, contentHash, facts, vectors));
+            log.info("임베딩 스냅샷 저장: {}건, 차원 {}", facts.size(), dimension);
+        } catch (Exception e) {
+            log.warn("임베딩 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // ==================== 검증/변환 ====================
+
+    private void validate(KnowledgeFactRequest request) {
+        if (request.getFactId() == null || !FACT_ID_PATTERN.matcher(request.getFactId()).matches()) {
+            throw new BusinessException(ErrorCode.INVALID_KNOWLEDGE_FACT, "factId는 영문 소문자/숫자/_/- 100자 이내여야 합니다.");
+        }
+        if (request.getContent() == null || request.getContent().isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_KNOWLEDGE_FACT, "content가 비어 있습니다.");
+        }
+        if (request.getSource() == null || request.getSource().isBlank() || request.getSource().length() > 200) {
+            throw new BusinessException(ErrorCode.INVALID_KNOWLEDGE_FACT, "source는 1~200자여야 합니다.");
+        }
+
+        String category = request.getCategory() == null ? "" : request.getCategory().trim().toUpperCase();
+        try {
+            Habit.Category.valueOf(category);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_KNOWLEDGE_FACT, "알 수 없는 category: " + request.getCategory());
+        }
+        request.setCategory(category);
+
+        String costType = request.getCostType() == null ? "" : request.getCostType().trim().toLowerCase();
+        if (!COST_TYPES.contains(costType)) {
+            throw new BusinessException(ErrorCode.INVALID_KNOWLEDGE_FACT, "알 수 없는 costType: " + request.getCostType());
+        }
+        request.setCostType(costType);
+    }
+
+    private KnowledgeDocument toDocument(KnowledgeFactRequest request) {
+        return KnowledgeDocument.builder()
+                .factId(request.getFactId())
+                .content(request.getContent().trim())
+                .category(request.getCategory())
+                .source(request.getSource().trim())
+                .costType(request.getCostType())
+                .build();
+    }
+
+    private KnowledgeFactResponse toResponse(KnowledgeDocument document) {
+        return KnowledgeFactResponse.builder()
+                .factId(document.getFactId())
+                .content(document.getContent())
+                .category(document.getCategory())
+                .source(document.getSource())
+                .costType(document.getCostType())
+                .synced(document.getSynced())
+                .updatedAt(document.getUpdatedAt())
+                .build();
+    }
+
+    private KnowledgeFactResponse toResponse(KnowledgeDocumentRepository.KnowledgeFactView view) {
+        return KnowledgeFactResponse.builder()
+                .factId(view.getFactId())
+                .content(view.getContent())
+                .category(view.getCategory())
+                .source(view.getSource())
+                .costType(view.getCostType())
+                .synced(Boolean.TRUE.equals(view.getSynced()))
+                .updatedAt(view.getUpdatedAt())
+                .build();
+    }
+
+    private List<String> parseHeader(String line) {
+        List<String> header = parseCsvLine(line).stream().map(String::trim).toList();
+        if (!header.containsAll(CSV_COLUMNS)) {
+            throw new BusinessException(ErrorCode.INVALID_KNOWLEDGE_FACT,
+                    "CSV 헤더에 " + String.join(",", CSV_COLUMNS) + " 컬럼이 필요합니다.");
+        }
+        return header;
+    }
+
+    private KnowledgeFactRequest fromCsv(List<String> header, String line) {
+        List<String> values = parseCsvLine(line);
+        if (values.size() != header.size()) {
+            throw new IllegalArgumentException("컬럼 수가 헤더와 다릅니다: " + values.size() + "/" + header.size());
+        }
+        KnowledgeFactRequest request = new KnowledgeFactRequest();
+        request.setFactId(values.get(header.indexOf("factId")).trim());
+        request.setContent(values.get(header.indexOf("content")));
+        request.setCategory(values.get(header.indexOf("category")));
+        request.setSource(values.get(header.indexOf("source")));
+        request.setCostType(values.get(header.indexOf("costType")));
+        return request;
+    }
+
+    /**
+     * CSV 한 줄 분리 (쌍따옴표 안의 쉼표, "" 이스케이프 지원)
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    /**
+     * 가져오기 집계
+     */
+    private static class ImportStats {
+
+        private final int maxErrors;
+        private final List<String> errors = new ArrayList<>();
+        private int total;
+        private int created;
+        private int updated;
+        private int unchanged;
+        private int embedded;
+        private int failed;
+
+        ImportStats(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void fail(int lineNumber, Exception e) {
+            failed++;
+            addError(lineNumber + ": " + e.getMessage());
+        }
+
+        void failBatch(int count, String reason) {
+            failed += count;
+            addError(reason);
+        }
+
+        private void addError(String error) {
+            if (errors.size() < maxErrors) {
+                errors.add(error);
+            }
+        }
+    }
+}
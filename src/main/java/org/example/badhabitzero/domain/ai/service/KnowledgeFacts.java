@@ -0,0 +1,155 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 악습 지식 베이스 원본 데이터 (Chroma 적재 / 사전 산정 버전 관리에 사용)
+ */
+public final class KnowledgeFacts {
+
+    /**
+     * @param id       문서 ID
+     * @param content  문서 내용
+     * @param category 카테고리 (예: "SMOKING", "DRINKING")
+     * @param source   출처 (예: "보건복지부, 2023")
+     * @param costType 비용 유형 (예: "direct", "health", "opportunity")
+     */
+    public record KnowledgeFact(String id, String content, String category, String source, String costType) {
+    }
+
+    public static final List<KnowledgeFact> ALL = List.of(
+            // ============ SMOKING (흡연) ============
+            new KnowledgeFact("smoking_001", "담배 1갑 평균 가격은 4,500원이다",
+                    "SMOKING", "기획재정부, 2024", "direct"),
+            new KnowledgeFact("smoking_002", "담배 1개비당 수명이 약 11분 단축된다",
+                    "SMOKING", "WHO, 2020", "health"),
+            new KnowledgeFact("smoking_003", "흡연자는 비흡연자보다 연간 의료비가 약 50만원 더 높다",
+                    "SMOKING", "국민건강보험공단, 2023", "health"),
+            new KnowledgeFact("smoking_004", "흡연은 폐암 발생률을 15배 높인다",
+                    "SMOKING", "대한폐암학회, 2022", "health"),
+            new KnowledgeFact("smoking_005", "금연 시 연간 약 150만원을 절약할 수 있다",
+                    "SMOKING", "보건복지부, 2023", "direct"),
+
+            // ============ DRINKING (음주) ============
+            new KnowledgeFact("drinking_001", "소주 1병 평균 가격은 5,000원이다",
+                    "DRINKING", "통계청, 2024", "direct"),
+            new KnowledgeFact("drinking_002", "음주 후 숙취로 인한 생산성 손실은 1회당 약 3만원이다",
+                    "DRINKING", "한국보건사회연구원, 2022", "opportunity"),
+            new KnowledgeFact("drinking_003", "과음자는 연간 의료비가 약 40만원 더 높다",
+                    "DRINKING", "국민건강보험공단, 2023", "health"),
+            new KnowledgeFact("drinking_004", "알코올 의존 치료비용은 연간 약 200만원이다",
+                    "DRINKING", "중독관리통합지원센터, 2023", "health"),
+            new KnowledgeFact("drinking_005", "음주운전 적발 시 벌금은 최소 300만원이다",
+                    "DRINKING", "도로교통법, 2024", "direct"),
+
+            // ============ EATING (과식/야식) ============
+            new KnowledgeFact("eating_001", "배달음식 1회 평균 주문 금액은 15,000원이다",
+                    "EATING", "통계청, 2023", "direct"),
+            new KnowledgeFact("eating_002", "직접 조리 대비 배달/외식은 평균 10,000원 추가 지출이다",
+                    "EATING", "한국소비자원, 2023", "direct"),
+            new KnowledgeFact("eating_003", "비만으로 인한 연간 추가 의료비는 약 30만원이다",
+                    "EATING", "국민건강보험공단, 2023", "health"),
+            new KnowledgeFact("eating_004", "야식은 수면의 질을 30% 저하시킨다",
+                    "EATING", "대한수면학회, 2022", "health"),
+            new KnowledgeFact("eating_005", "과식으로 인한 소화불량 치료비는 회당 약 2만원이다",
+                    "EATING", "건강보험심사평가원, 2023", "health"),
+
+            // ============ SPENDING (과소비) ============
+            new KnowledgeFact("spending_001", "한국인 월평균 충동구매 금액은 약 15만원이다",
+                    "SPENDING", "한국소비자원, 2023", "direct"),
+            new KnowledgeFact("spending_002", "충동구매 후 후회 비율은 78%이다",
+                    "SPENDING", "대한상공회의소, 2023", "psychological"),
+            new KnowledgeFact("spending_003", "불필요한 구독서비스 평균 지출은 월 3만원이다",
+                    "SPENDING", "금융감독원, 2023", "direct"),
+            new KnowledgeFact("spending_004", "신용카드 연체 시 연이자율은 평균 15%이다",
+                    "SPENDING", "여신금융협회, 2024", "direct"),
+            new KnowledgeFact("spending_005", "과소비자의 스트레스 지수는 평균보다 40% 높다",
+                    "SPENDING", "한국심리학회, 2022", "psychological"),
+
+            // ============ LAZINESS (게으름) ============
+            new KnowledgeFact("laziness_001", "2024년 최저시급은 9,860원이다",
+                    "LAZINESS", "고용노동부, 2024", "opportunity"),
+            new KnowledgeFact("laziness_002", "한국 직장인 평균 시급은 약 25,000원이다",
+                    "LAZINESS", "통계청, 2023", "opportunity"),
+            new KnowledgeFact("laziness_003", "미루기로 인한 생산성 손실은 연간 약 500만원이다",
+                    "LAZINESS", "한국생산성본부, 2023", "opportunity"),
+            new KnowledgeFact("laziness_004", "지각 1회당 평균 손실 비용은 약 2만원이다",
+                    "LAZINESS", "한국경영자총협회, 2022", "opportunity"),
+            new KnowledgeFact("laziness_005", "수면 부족으로 인한 집중력 저하는 업무효율을 25% 감소시킨다",
+                    "LAZINESS", "대한수면학회, 2022", "opportunity"),
+
+            // ============ DIGITAL (디지털) ============
+            new KnowledgeFact("digital_001", "한국인 하루 평균 스마트폰 사용시간은 4시간 23분이다",
+                    "DIGITAL", "과학기술정보통신부, 2023", "opportunity"),
+            new KnowledgeFact("digital_002", "SNS 과다 사용자의 우울감은 평균보다 30% 높다",
+                    "DIGITAL", "한국정보화진흥원, 2023", "psychological"),
+            new KnowledgeFact("digital_003", "게임 과금 월평균 금액은 약 5만원이다",
+                    "DIGITAL", "한국콘텐츠진흥원, 2023", "direct"),
+            new KnowledgeFact("digital_004", "스마트폰 중독자의 수면 질은 평균보다 40% 낮다",
+                    "DIGITAL", "대한수면학회, 2022", "health"),
+            new KnowledgeFact("digital_005", "디지털 디톡스 시 생산성이 평균 20% 향상된다",
+                    "DIGITAL", "한국생산성본부, 2023", "opportunity"),
+
+            // ============ CAFFEINE (카페인) ============
+            new KnowledgeFact("caffeine_001", "커피 1잔 평균 가격은 4,500원이다",
+                    "CAFFEINE", "한국소비자원, 2023", "direct"),
+            new KnowledgeFact("caffeine_002", "에너지드링크 1캔 평균 가격은 2,500원이다",
+                    "CAFFEINE", "편의점 평균가, 2024", "direct"),
+            new KnowledgeFact("caffeine_003", "카페인 과다섭취는 불안장애 위험을 25% 높인다",
+                    "CAFFEINE", "대한정신건강의학회, 2022", "health"),
+            new KnowledgeFact("caffeine_004", "오후 카페인 섭취는 수면 질을 35% 저하시킨다",
+                    "CAFFEINE", "대한수면학회, 2022", "health"),
+            new KnowledgeFact("caffeine_005", "카페인 의존 시 두통약 비용이 월 약 1만원 추가된다",
+                    "CAFFEINE", "건강보험심사평가원, 2023", "health"),
+
+            // ============ GAMBLING (도박) ============
+            new KnowledgeFact("gambling_001", "도박 중독자 월평균 손실 금액은 약 200만원이다",
+                    "GAMBLING", "한국도박문제관리센터, 2023", "direct"),
+            new KnowledgeFact("gambling_002", "도박 중독 치료비용은 연간 약 500만원이다",
+                    "GAMBLING", "중독관리통합지원센터, 2023", "health"),
+            new KnowledgeFact("gambling_003", "주식 투기로 인한 개인 평균 손실은 연 300만원이다",
+                    "GAMBLING", "금융감독원, 2023", "direct"),
+            new KnowledgeFact("gambling_004", "도박 중독자의 가정파탄 비율은 60%이다",
+                    "GAMBLING", "한국도박문제관리센터, 2023", "psychological"),
+            new KnowledgeFact("gambling_005", "도박 충동 1회 참을 시 평균 5만원 절약 효과가 있다",
+                    "GAMBLING", "중독관리통합지원센터, 2023", "direct")
+    );
+
+    private KnowledgeFacts() {
+    }
+
+    /**
+     * 지식 베이스 내용 해시 (내용이 바뀌면 사전 산정 결과를 다시 만듦)
+     */
+    public static String contentHash() {
+        return contentHash(ALL);
+    }
+
+    public static String contentHash(List<KnowledgeFact> facts) {
+        MessageDigest digest = sha256();
+        for (KnowledgeFact fact : facts) {
+            digest.update(String.join("\u0000", fact.id(), fact.content(), fact.category(),
+                    fact.source(), fact.costType(), "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest()).substring(0, 16);
+    }
+
+    /**
+     * 문자열 SHA-256 (hex)
+     */
+    public static String hash(String value) {
+        return HexFormat.of().formatHex(sha256().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
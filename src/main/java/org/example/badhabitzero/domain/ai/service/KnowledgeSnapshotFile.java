@@ -0,0 +1,168 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 임베딩된 지식 베이스 스냅샷 파일 (Gemini 호출 없이 RAG 복원)
+ *
+ * 파일 형식 (v1, big-endian, 메모리 맵):
+ * magic(int) version(short) model(str) dimension(int) contentHash(str) count(int)
+ * vectors(float × count × dimension)
+ * [id, content, category, source, costType (str)] × count
+ * crc32(int, 앞부분 전체)
+ * str = 길이(int) + UTF-8 바이트
+ */
+public final class KnowledgeSnapshotFile {
+
+    private static final int MAGIC = 0x425A4553;   // "BZES"
+    private static final short VERSION = 1;
+
+    /**
+     * @param model       임베딩 모델 (다르면 벡터 공간이 달라 재사용 불가)
+     * @param dimension   벡터 차원
+     * @param contentHash 지식 베이스 내용 해시 (다르면 다시 임베딩)
+     * @param vectors     facts 순서대로 count × dimension
+     */
+    public record Snapshot(String model, int dimension, String contentHash,
+                           List<KnowledgeFacts.KnowledgeFact> facts, float[] vectors) {
+
+        public List<Float> vector(int index) {
+            List<Float> vector = new ArrayList<>(dimension);
+            for (int i = index * dimension; i < (index + 1) * dimension; i++) {
+                vector.add(vectors[i]);
+            }
+            return vector;
+        }
+    }
+
+    private KnowledgeSnapshotFile() {
+    }
+
+    /**
+     * 헤더만 읽기 (모델/해시 비교용, 실패하면 null)
+     */
+    public static Snapshot readHeader(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return readHeader(buffer);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    public static Snapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            int dataSize = (int) size - Integer.BYTES;
+            if (dataSize <= 0 || (int) crc(buffer, dataSize) != buffer.getInt(dataSize)) {
+                throw new IOException("임베딩 스냅샷 CRC 불일치");
+            }
+
+            Snapshot header = readHeader(buffer);
+            int count = buffer.getInt();
+            float[] vectors = new float[count * header.dimension()];
+            buffer.asFloatBuffer().get(vectors);
+            buffer.position(buffer.position() + vectors.length * Float.BYTES);
+
+            List<KnowledgeFacts.KnowledgeFact> facts = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                facts.add(new KnowledgeFacts.KnowledgeFact(getString(buffer), getString(buffer), getString(buffer),
+                        getString(buffer), getString(buffer)));
+            }
+            return new Snapshot(header.model(), header.dimension(), header.contentHash(), facts, vectors);
+        }
+    }
+
+    public static void write(Path path, Snapshot snapshot) throws IOException {
+        List<KnowledgeFacts.KnowledgeFact> facts = snapshot.facts();
+        if (snapshot.vectors().length != facts.size() * snapshot.dimension()) {
+            throw new IllegalArgumentException("벡터 개수 불일치");
+        }
+
+        long size = Integer.BYTES + Short.BYTES + sizeOf(snapshot.model()) + Integer.BYTES
+                + sizeOf(snapshot.contentHash()) + Integer.BYTES
+                + (long) snapshot.vectors().length * Float.BYTES + Integer.BYTES;
+        for (KnowledgeFacts.KnowledgeFact fact : facts) {
+            size += sizeOf(fact.id()) + sizeOf(fact.content()) + sizeOf(fact.category())
+                    + sizeOf(fact.source()) + sizeOf(fact.costType());
+        }
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(MAGIC).putShort(VERSION);
+            putString(buffer, snapshot.model());
+            buffer.putInt(snapshot.dimension());
+            putString(buffer, snapshot.contentHash());
+            buffer.putInt(facts.size());
+
+            buffer.asFloatBuffer().put(snapshot.vectors());
+            buffer.position(buffer.position() + snapshot.vectors().length * Float.BYTES);
+
+            for (KnowledgeFacts.KnowledgeFact fact : facts) {
+                putString(buffer, fact.id());
+                putString(buffer, fact.content());
+                putString(buffer, fact.category());
+                putString(buffer, fact.source());
+                putString(buffer, fact.costType());
+            }
+            buffer.putInt((int) crc(buffer, buffer.position()));
+            buffer.force();
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static Snapshot readHeader(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("임베딩 스냅샷 형식 아님");
+        }
+        short version = buffer.getShort();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 임베딩 스냅샷 버전: " + version);
+        }
+        String model = getString(buffer);
+        int dimension = buffer.getInt();
+        String contentHash = getString(buffer);
+        return new Snapshot(model, dimension, contentHash, List.of(), new float[0]);
+    }
+
+    private static int sizeOf(String value) {
+        return Integer.BYTES + (value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long crc(ByteBuffer buffer, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(0).limit(length));
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 락 프리 링 버퍼 (여러 생산자, 소비자 1개)
+ *
+ * 생산자는 CAS로 자리만 확보하고 바로 반환하므로 요청 스레드가 막히지 않습니다.
+ * 가득 차면 기다리지 않고 버립니다 (offer가 false).
+ * drain은 한 스레드에서만 호출해야 합니다.
+ */
+public class MpscRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();   // 다음에 쓸 위치 (생산자)
+    private volatile long head;                         // 다음에 읽을 위치 (소비자)
+
+    public MpscRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    public boolean offer(T item) {
+        long position;
+        do {
+            position = tail.get();
+            if (position - head >= slots.length()) {
+                return false;
+            }
+        } while (!tail.compareAndSet(position, position + 1));
+        slots.set((int) (position & mask), item);
+        return true;
+    }
+
+    /**
+     * 최대 limit개를 꺼내 target에 추가 (자리만 확보하고 아직 쓰지 않은 칸에서 멈춤)
+     *
+     * @return 꺼낸 개수
+     */
+    public int drain(List<T> target, int limit) {
+        long position = head;
+        int drained = 0;
+        while (drained < limit && position < tail.get()) {
+            int index = (int) (position & mask);
+            T item = slots.get(index);
+            if (item == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            target.add(item);
+            position++;
+            drained++;
+        }
+        head = position;
+        return drained;
+    }
+
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 요청 단위 마감 시간 (End-to-End Deadline)
+ *
+ * AI 요청 하나가 여러 단계(컬렉션 조회 → 임베딩 → 검색 → Gemini)를 거쳐도
+ * 전체 소요 시간이 엔드포인트별 제한을 넘지 않도록, 각 단계는 남은 시간으로 타임아웃을 정합니다.
+ * 요청 스레드에는 ThreadLocal로, WebClient 내부에는 Reactor Context로 전달됩니다.
+ */
+public final class RequestDeadline {
+
+    // Reactor Context 키
+    public static final String CONTEXT_KEY = RequestDeadline.class.getName();
+
+    // 마감 시각 (System.nanoTime 기준)
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    public static void start(Duration budget) {
+        DEADLINE_NANOS.set(System.nanoTime() + budget.toNanos());
+    }
+
+    public static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+
+    /**
+     * 지정한 제한 시간 안에서 작업 실행 (기존 마감 시간은 끝난 뒤 복원)
+     */
+    public static <T> T callWithin(Duration budget, Supplier<T> task) {
+        Long previous = DEADLINE_NANOS.get();
+        start(budget);
+        try {
+            return task.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    // 비동기 작업으로 넘길 때 사용 (마감 시각 원본 값)
+    public static Long capture() {
+        return DEADLINE_NANOS.get();
+    }
+
+    public static void restore(Long deadlineNanos) {
+        if (deadlineNanos == null) {
+            DEADLINE_NANOS.remove();
+        } else {
+            DEADLINE_NANOS.set(deadlineNanos);
+        }
+    }
+
+    /**
+     * 남은 시간 (마감 시간이 없으면 null)
+     */
+    public static Duration remaining() {
+        return remaining(DEADLINE_NANOS.get());
+    }
+
+    /**
+     * 단계별 타임아웃: 단계 최대치와 남은 시간 중 작은 값
+     */
+    public static Duration timeout(Duration stageMax) {
+        Duration remaining = remaining();
+        if (remaining == null || remaining.compareTo(stageMax) > 0) {
+            return stageMax;
+        }
+        return remaining;
+    }
+
+    // 최소 이만큼의 시간이 남았는지 (마감 시간이 없으면 항상 true)
+    public static boolean hasAtLeast(Duration required) {
+        Duration remaining = remaining();
+        return remaining == null || remaining.compareTo(required) >= 0;
+    }
+
+    public static boolean isExpired() {
+        Duration remaining = remaining();
+        return remaining != null && remaining.isZero();
+    }
+
+    /**
+     * 현재 마감 시간을 Reactor Context에 기록 (WebClient 필터에서 사용)
+     */
+    public static Function<Context, Context> propagate() {
+        Long deadlineNanos = DEADLINE_NANOS.get();
+        return context -> deadlineNanos == null ? context : context.put(CONTEXT_KEY, deadlineNanos);
+    }
+
+    /**
+     * Reactor Context에서 남은 시간 조회 (없으면 null)
+     */
+    public static Duration remaining(ContextView context) {
+        return remaining(context.<Long>getOrDefault(CONTEXT_KEY, null));
+    }
+
+    private static Duration remaining(Long deadlineNanos) {
+        if (deadlineNanos == null) {
+            return null;
+        }
+        long left = deadlineNanos - System.nanoTime();
+        return left > 0 ? Duration.ofNanos(left) : Duration.ZERO;
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.badhabitzero.domain.ai.config.AiValuationProperties;
+import org.example.badhabitzero.domain.ai.dto.ValueResult;
+import org.example.badhabitzero.domain.ai.parser.ParsedAnswer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 규칙 기반 가치 산정 (AI 호출 없음)
+ *
+ * - 직접 비용: 답변 금액 → 답변 수량 × 단가 → 카테고리 기본값
+ *   (흡연처럼 1단위 = 1회면 답변 금액을 수량/빈도로 나눈 1단위 가격 → 기본 단가)
+ * - 건강 비용: 연간 추가 의료비 ÷ 연간 횟수
+ * - 기회 비용: 소요 시간 × 시급 25,000원 + 카테고리별 생산성 손실
+ * - 심리 비용: 카테고리별 고정값
+ */
+@Component
+@RequiredArgsConstructor
+public class RuleBasedValuationEngine {
+
+    private static final double WEEKS_PER_YEAR = 365.25 / 7;
+    private static final double MIN_WEEKLY_FREQUENCY = 0.5;    // 빈도가 너무 낮아 건강 비용이 과도해지는 것 방지
+
+    private final AiValuationProperties valuationProperties;
+
+    /**
+     * 규칙 기반 산정 대상 카테고리인지
+     */
+    public boolean supports(String category) {
+        return valuationProperties.getRuleBasedCategories().contains(CategoryCostProfile.from(category).name());
+    }
+
+    /**
+     * 답변 수치로 1회당 가치 계산 (대상 카테고리가 아니면 기본 파라미터 사용)
+     */
+    public ValueResult evaluate(String category, ParsedAnswer parsed) {
+        CategoryCostProfile profile = CategoryCostProfile.from(category);
+        List<String> sources = new ArrayList<>();
+
+        double weeklyFrequency = weeklyFrequency(profile, parsed);
+        int directCost = directCost(profile, parsed, weeklyFrequency, sources);
+        double minutes = parsed.hasMinutes() ? parsed.getMinutes() : profile.getDefaultMinutes();
+        int opportunityCost = (int) Math.round(minutes * CategoryCostProfile.HOURLY_WAGE / 60)
+                + profile.getExtraOpportunityCost();
+        int healthCost = (int) Math.round(profile.getAnnualHealthCost()
+                / (Math.max(weeklyFrequency, MIN_WEEKLY_FREQUENCY) * WEEKS_PER_YEAR));
+        int psychologicalCost = profile.getPsychologicalCost();
+
+        sources.addAll(profile.getSources());
+        if (sources.isEmpty()) {
+            sources.add("기본 추정");
+        }
+
+        return ValueResult.builder()
+                .value(directCost + healthCost + opportunityCost + psychologicalCost)
+                .breakdown(ValueResult.Breakdown.builder()
+                        .directCost(directCost)
+                        .healthCost(healthCost)
+                        .opportunityCost(opportunityCost)
+                        .psychologicalCost(psychologicalCost)
+                        .build())
+                .explanation(String.format("1회 지출 %,d원에 주 %.1f회 기준 건강 비용 %,d원, 시간 비용 %,d원, 심리 비용 %,d원을 더했습니다.",
+                        directCost, weeklyFrequency, healthCost, opportunityCost, psychologicalCost))
+                .sources(sources)
+                .build();
+    }
+
+    /**
+     * 카테고리의 가장 큰 비용 항목을 정하는 입력이 답변에 있는지
+     * (지출형은 금액/수량, 흡연처럼 1단위 = 1회면 빈도/수량, 시간형은 소요 시간)
+     */
+    public boolean hasDominantInputs(String category, ParsedAnswer parsed) {
+        CategoryCostProfile profile = CategoryCostProfile.from(category);
+        if (profile.isSingleUnitUse()) {
+            return parsed.hasFrequency() || parsed.hasQuantity();
+        }
+        int timeCost = profile.getDefaultMinutes() * CategoryCostProfile.HOURLY_WAGE / 60;
+        if (profile.getDirectCost() >= timeCost) {
+            return parsed.hasMoney() || parsed.hasQuantity();
+        }
+        return parsed.hasMinutes();
+    }
+
+    // 주당 횟수: 답변 → (1단위 = 1회인 경우) 수량 → 카테고리 기본값
+    private double weeklyFrequency(CategoryCostProfile profile, ParsedAnswer parsed) {
+        double frequency = parsed.weeklyFrequency();
+        if (!Double.isNaN(frequency) && frequency > 0) {
+            return frequency;
+        }
+
+        // "하루에 한 갑" → 주 140개비
+        if (profile.isSingleUnitUse() && parsed.hasQuantity() && !Double.isNaN(parsed.getQuantityPeriodWeeks())) {
+            Integer unitPrice = profile.getUnitPrices().get(parsed.getQuantityUnit());
+            if (unitPrice != null && profile.getDirectCost() > 0) {
+                return parsed.getQuantity() * unitPrice / profile.getDirectCost() / parsed.getQuantityPeriodWeeks();
+            }
+        }
+        return profile.getDefaultWeeklyFrequency();
+    }
+
+    private int directCost(CategoryCostProfile profile, ParsedAnswer parsed, double weeklyFrequency, List<String> sources) {
+        // 1단위 = 1회면 답변 금액을 1단위 가격으로 환산, 금액이 없으면 기본 단가
+        if (profile.isSingleUnitUse()) {
+            return singleUnitCost(profile, parsed, weeklyFrequency, sources);
+        }
+
+        if (parsed.hasMoney()) {
+            sources.add("사용자 답변");
+            return (int) Math.round(perUse(parsed.getMoney(), parsed.getMoneyPeriodWeeks(), weeklyFrequency));
+        }
+
+        if (parsed.hasQuantity()) {
+            Integer unitPrice = profile.getUnitPrices().get(parsed.getQuantityUnit());
+            if (unitPrice != null) {
+                sources.add("사용자 답변");
+                double quantity = perUse(parsed.getQuantity(), parsed.getQuantityPeriodWeeks(), weeklyFrequency);
+                return (int) Math.round(quantity * unitPrice);
+            }
+        }
+        return profile.getDirectCost();
+    }
+
+    /**
+     * 1단위 = 1회 카테고리의 1회 비용
+     *
+     * - 기간 합계 금액 ("한 달에 10만원") → 금액 ÷ 기간 내 횟수
+     * - 수량과 함께 답한 금액 ("한 갑에 5천원") → 금액 ÷ 그 수량의 단위 수
+     * - 무엇의 가격인지 알 수 없는 금액이거나 금액이 없으면 기본 단가
+     */
+    private int singleUnitCost(CategoryCostProfile profile, ParsedAnswer parsed, double weeklyFrequency,
+                               List<String> sources) {
+        if (!parsed.hasMoney()) {
+            return profile.getDirectCost();
+        }
+
+        if (!Double.isNaN(parsed.getMoneyPeriodWeeks())) {
+            sources.add("사용자 답변");
+            return (int) Math.round(perUse(parsed.getMoney(), parsed.getMoneyPeriodWeeks(), weeklyFrequency));
+        }
+
+        if (parsed.hasQuantity() && Double.isNaN(parsed.getQuantityPeriodWeeks()) && parsed.getQuantity() > 0) {
+            Integer unitPrice = profile.getUnitPrices().get(parsed.getQuantityUnit());
+            double units = unitPrice != null && profile.getDirectCost() > 0
+                    ? parsed.getQuantity() * unitPrice / profile.getDirectCost()
+                    : parsed.getQuantity();
+            sources.add("사용자 답변");
+            return (int) Math.round(parsed.getMoney() / units);
+        }
+        return profile.getDirectCost();
+    }
+
+    // 기간 합계로 답한 값을 1회 값으로 환산 ("한 달에 10만원" ÷ 월 횟수)
+    private double perUse(double amount, double periodWeeks, double weeklyFrequency) {
+        if (Double.isNaN(periodWeeks)) {
+            return amount;
+        }
+        return amount / (periodWeeks * Math.max(weeklyFrequency, MIN_WEEKLY_FREQUENCY));
+    }
+}
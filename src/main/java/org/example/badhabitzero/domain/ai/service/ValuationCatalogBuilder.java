@@ -0,0 +1,161 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.domain.ai.config.AiCatalogProperties;
+import org.example.badhabitzero.domain.ai.dto.AnalyzeCompleteRequest;
+import org.example.badhabitzero.domain.ai.dto.ValueResult;
+import org.example.badhabitzero.domain.ai.entity.ValuationCatalog;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 사전 산정 카탈로그 생성 배치
+ *
+ * - 설정된 악습 이름 × 답변 프로필마다 AI 가치 산정을 백그라운드 우선순위로 실행
+ * - 카탈로그 버전(프롬프트 버전 + 지식 베이스 해시)이 바뀐 경우에만 다시 생성
+ * - 규칙 기반 카테고리는 AI 없이 즉시 계산되므로 제외
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ValuationCatalogBuilder {
+
+    private final ValueAnalysisService valueAnalysisService;
+    private final ValuationCatalogService catalogService;
+    private final RuleBasedValuationEngine valuationEngine;
+    private final AiCatalogProperties catalogProperties;
+    private final ThreadPoolTaskExecutor aiBackgroundExecutor;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (catalogProperties.isEnabled()) {
+            aiBackgroundExecutor.execute(this::rebuildIfStale);
+        }
+    }
+
+    @Scheduled(cron = "${ai.catalog.rebuild-cron:0 0 4 * * *}")
+    public void scheduledRebuild() {
+        if (catalogProperties.isEnabled()) {
+            rebuildIfStale();
+        }
+    }
+
+    /**
+     * 현재 버전 카탈로그가 없으면 생성 후 교체
+     */
+    public void rebuildIfStale() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            String version = catalogService.currentVersion();
+            if (catalogService.exists(version)) {
+                catalogService.reload();
+                return;
+            }
+
+            log.info("카탈로그 생성 시작: version={}", version);
+            List<ValuationCatalog> entries = AiPriority.callAs(AiPriority.BACKGROUND, () -> buildEntries(version));
+            if (entries.isEmpty()) {
+                log.warn("카탈로그 생성 결과 없음, 기존 카탈로그 유지");
+                return;
+            }
+            catalogService.replace(version, entries);
+            catalogService.reload();
+        } catch (Exception e) {
+            log.error("카탈로그 생성 실패: {}", e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private List<ValuationCatalog> buildEntries(String version) {
+        List<ValuationCatalog> entries = new ArrayList<>();
+        catalogProperties.getHabits().forEach((category, habitNames) -> {
+            if (valuationEngine.supports(category)) {
+                return;
+            }
+            CategoryCostProfile costProfile = CategoryCostProfile.from(category);
+            for (String habitName : habitNames) {
+                for (AiCatalogProperties.Profile profile : catalogProperties.getProfiles()) {
+                    ValuationCatalog entry = buildEntry(version, costProfile, habitName, profile);
+                    if (entry != null) {
+                        entries.add(entry);
+                    }
+                }
+            }
+        });
+        return entries;
+    }
+
+    /**
+     * 프로필 답변으로 가치 산정 1건 (실패/파싱 실패 시 null → 해당 항목은 실시간 산정)
+     */
+    private ValuationCatalog buildEntry(String version, CategoryCostProfile costProfile, String habitName,
+                                        AiCatalogProperties.Profile profile) {
+        int money = (int) Math.round(costProfile.getDirectCost() * profile.getAmountFactor());
+        double frequency = costProfile.getDefaultWeeklyFrequency() * profile.getFrequencyFactor();
+        int minutes = (int) Math.round(costProfile.getDefaultMinutes() * profile.getAmountFactor());
+
+        Map<String, Object> answers = new LinkedHashMap<>();
+        answers.put("cost", money > 0 ? String.format("1회 %,d원", money) : "돈은 거의 안 들어요");
+        answers.put("frequency", String.format("주 %s번", formatFrequency(frequency)));
+        answers.put("duration", String.format("1회 %d분", minutes));
+
+        AnalyzeCompleteRequest request = new AnalyzeCompleteRequest();
+        request.setHabitName(habitName);
+        request.setCategory(costProfile.name());
+        request.setAnswers(answers);
+
+        ValueResult result;
+        try {
+            result = RequestDeadline.callWithin(catalogProperties.getItemTimeout(),
+                    () -> valueAnalysisService.calculateBaseline(request));
+        } catch (Exception e) {
+            log.warn("카탈로그 항목 산정 실패: {} / {}: {}", habitName, profile.getName(), e.getMessage());
+            return null;
+        }
+        if (result == null || result.getBreakdown() == null) {
+            return null;
+        }
+
+        return ValuationCatalog.builder()
+                .habitName(habitName)
+                .normalizedName(HabitNameMatcher.normalize(habitName))
+                .category(costProfile.name())
+                .profileName(profile.getName())
+                .profileMoney(money > 0 ? money : null)
+                .profileWeeklyFrequency(frequency)
+                .profileMinutes(minutes)
+                .value(result.getValue())
+                .directCost(result.getBreakdown().getDirectCost())
+                .healthCost(result.getBreakdown().getHealthCost())
+                .opportunityCost(result.getBreakdown().getOpportunityCost())
+                .psychologicalCost(result.getBreakdown().getPsychologicalCost())
+                .explanation(result.getExplanation())
+                .sources(joinSources(result.getSources()))
+                .version(version)
+                .build();
+    }
+
+    private String joinSources(List<String> sources) {
+        if (sources == null) {
+            return null;
+        }
+        String joined = String.join(",", sources);
+        return joined.length() > 500 ? joined.substring(0, 500) : joined;
+    }
+
+    private String formatFrequency(double frequency) {
+        return frequency == Math.rint(frequency) ? String.valueOf((int) frequency) : String.valueOf(frequency);
+    }
+}
@@ -0,0 +1,194 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.domain.ai.config.AiCatalogProperties;
+import org.example.badhabitzero.domain.ai.dto.ValueResult;
+import org.example.badhabitzero.domain.ai.entity.ValuationCatalog;
+import org.example.badhabitzero.domain.ai.parser.ParsedAnswer;
+import org.example.badhabitzero.domain.ai.repository.ValuationCatalogRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 사전 산정 카탈로그 조회
+ *
+ * - 현재 버전 카탈로그를 메모리에 올려두고 악습 이름 자모 유사도로 가장 가까운 항목을 찾음
+ * - 사용자 입력(1회 금액/주당 횟수/소요 시간)이 프로필 값 ± tolerance 이내면 그 결과를 바로 반환
+ * - 1회 금액과 주당 횟수, 프로필에 있는 항목이 모두 입력되어야 적중 (부족하면 AI 산정)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ValuationCatalogService {
+
+    private final ValuationCatalogRepository catalogRepository;
+    private final AiCatalogProperties catalogProperties;
+    private final KnowledgeBaseService knowledgeBaseService;
+    private final AiCallJournal aiCallJournal;
+
+    private volatile List<CatalogItem> items;       // null이면 아직 로드 전
+
+    private record CatalogItem(ValuationCatalog entry, long[] ngrams) {
+    }
+
+    /**
+     * 카탈로그 버전 (프롬프트 버전 + 지식 베이스 해시, 관리 API로 문서가 바뀌면 버전도 바뀜)
+     */
+    public String currentVersion() {
+        return catalogProperties.getPromptVersion() + ":" + knowledgeBaseService.contentHash();
+    }
+
+    /**
+     * 입력에 맞는 사전 산정 결과 (없으면 empty)
+     */
+    public Optional<ValueResult> find(String category, String habitName, ParsedAnswer parsed) {
+        if (!catalogProperties.isEnabled()) {
+            return Optional.empty();
+        }
+        Optional<ValueResult> found = lookup(category, habitName, parsed);
+        aiCallJournal.recordCache("valuation_catalog", found.isPresent());
+        return found;
+    }
+
+    private Optional<ValueResult> lookup(String category, String habitName, ParsedAnswer parsed) {
+        // 금액/횟수 없이는 어떤 프로필인지 알 수 없음
+        if (Double.isNaN(parsed.moneyPerUse()) || Double.isNaN(parsed.weeklyFrequency())) {
+            return Optional.empty();
+        }
+
+        List<CatalogItem> loaded = items;
+        if (loaded == null) {
+            reload();
+            loaded = items;
+        }
+        if (loaded.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // 같은 카테고리에서 이름이 가장 비슷한 악습
+        String categoryName = CategoryCostProfile.from(category).name();
+        long[] grams = HabitNameMatcher.ngrams(HabitNameMatcher.normalize(habitName));
+        String bestName = null;
+        double bestScore = catalogProperties.getNameSimilarity();
+        for (CatalogItem item : loaded) {
+            if (!item.entry().getCategory().equals(categoryName)) {
+                continue;
+            }
+            double score = HabitNameMatcher.similarity(grams, item.ngrams());
+            if (score >= bestScore) {
+                bestScore = score;
+                bestName = item.entry().getNormalizedName();
+            }
+        }
+        if (bestName == null) {
+            return Optional.empty();
+        }
+
+        // 입력이 허용 오차 안에 드는 프로필 중 가장 가까운 것 (동점이면 설정 순서)
+        ValuationCatalog best = null;
+        double bestDistance = Double.MAX_VALUE;
+        for (CatalogItem item : loaded) {
+            ValuationCatalog entry = item.entry();
+            if (!entry.getCategory().equals(categoryName) || !entry.getNormalizedName().equals(bestName)) {
+                continue;
+            }
+            double distance = distance(entry, parsed);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = entry;
+            }
+        }
+        if (best == null) {
+            return Optional.empty();
+        }
+
+        log.debug("카탈로그 적중: {} → {} ({}), score={}", habitName, best.getHabitName(), best.getProfileName(), bestScore);
+        return Optional.of(toValueResult(best));
+    }
+
+    /**
+     * 프로필과 입력의 최대 상대 오차 (허용 오차 밖이거나 프로필 항목이 입력에 없으면 MAX_VALUE)
+     */
+    private double distance(ValuationCatalog entry, ParsedAnswer parsed) {
+        double[] pairs = {
+                parsed.moneyPerUse(), entry.getProfileMoney() == null ? Double.NaN : entry.getProfileMoney(),
+                parsed.weeklyFrequency(), entry.getProfileWeeklyFrequency() == null ? Double.NaN : entry.getProfileWeeklyFrequency(),
+                parsed.getMinutes(), entry.getProfileMinutes() == null ? Double.NaN : entry.getProfileMinutes()
+        };
+
+        double max = 0;
+        for (int i = 0; i < pairs.length; i += 2) {
+            double actual = pairs[i];
+            double expected = pairs[i + 1];
+            if (Double.isNaN(expected) || expected <= 0) {
+                continue;
+            }
+            if (Double.isNaN(actual)) {
+                return Double.MAX_VALUE;
+            }
+            double error = Math.abs(actual - expected) / expected;
+            if (error > catalogProperties.getTolerance()) {
+                return Double.MAX_VALUE;
+            }
+            max = Math.max(max, error);
+        }
+        return max;
+    }
+
+    private ValueResult toValueResult(ValuationCatalog entry) {
+        List<String> sources = entry.getSources() == null || entry.getSources().isBlank()
+                ? List.of()
+                : Arrays.asList(entry.getSources().split(","));
+
+        return ValueResult.builder()
+                .value(entry.getValue())
+                .breakdown(ValueResult.Breakdown.builder()
+                        .directCost(entry.getDirectCost())
+                        .healthCost(entry.getHealthCost())
+                        .opportunityCost(entry.getOpportunityCost())
+                        .psychologicalCost(entry.getPsychologicalCost())
+                        .build())
+                .explanation(entry.getExplanation())
+                .sources(sources)
+                .build();
+    }
+
+    /**
+     * 현재 버전 카탈로그를 다시 읽어 메모리에 반영
+     */
+    public void reload() {
+        List<CatalogItem> loaded = new ArrayList<>();
+        String version = null;
+        try {
+            version = currentVersion();
+            for (ValuationCatalog entry : catalogRepository.findByVersion(version)) {
+                loaded.add(new CatalogItem(entry, HabitNameMatcher.ngrams(entry.getNormalizedName())));
+            }
+        } catch (Exception e) {
+            log.warn("카탈로그 로드 실패: {}", e.getMessage());
+        }
+        items = List.copyOf(loaded);
+        log.info("카탈로그 로드: version={}, {}건", version, loaded.size());
+    }
+
+    /**
+     * 새 버전으로 교체 (이전 버전 삭제)
+     */
+    @Transactional
+    public void replace(String version, List<ValuationCatalog> entries) {
+        int deleted = catalogRepository.deleteByVersionNot(version);
+        catalogRepository.saveAll(entries);
+        log.info("카탈로그 교체: version={}, 저장 {}건, 이전 버전 {}건 삭제", version, entries.size(), deleted);
+    }
+
+    /**
+     * 해당 버전이 이미 생성되었는지
+     */
+    @Transactional(readOnly = true)
+    public boolean exists(String version) {
+        return catalogRepository.existsByVersion(version);
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.domain.ai.config.AiJobProperties;
+import org.example.badhabitzero.domain.ai.dto.ValuationJobResponse;
+import org.example.badhabitzero.global.common.ApiResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 가치 산정 작업 완료 이벤트 (SSE)
+ *
+ * - 같은 인스턴스의 워커가 끝내면 바로 전송
+ * - 다른 인스턴스에서 끝난 작업은 주기적으로 DB 상태를 확인해 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ValuationJobNotifier {
+
+    private static final String EVENT_NAME = "complete";
+
+    private final ValuationJobService jobService;
+    private final AiJobProperties jobProperties;
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    /**
+     * 완료 이벤트 구독 (이미 끝난 작업이면 바로 전송 후 종료)
+     */
+    public SseEmitter subscribe(String jobId) {
+        ValuationJobResponse current = jobService.get(jobId);
+        SseEmitter emitter = new SseEmitter(jobProperties.getSseTimeout().toMillis());
+        if (isFinished(current)) {
+            send(emitter, current);
+            return emitter;
+        }
+
+        emitters.computeIfAbsent(jobId, key -> new CopyOnWriteArrayList<>()).add(emitter);
+        emitter.onCompletion(() -> remove(jobId, emitter));
+        emitter.onTimeout(() -> remove(jobId, emitter));
+        emitter.onError(e -> remove(jobId, emitter));
+        return emitter;
+    }
+
+    /**
+     * 작업 종료 알림 (워커에서 호출)
+     */
+    public void publish(String jobId) {
+        if (!emitters.containsKey(jobId)) {
+            return;
+        }
+        // 재시도 대기열로 돌아간 경우는 계속 구독 유지
+        ValuationJobResponse response = jobService.get(jobId);
+        if (!isFinished(response)) {
+            return;
+        }
+        List<SseEmitter> subscribers = emitters.remove(jobId);
+        if (subscribers == null) {
+            return;
+        }
+        for (SseEmitter emitter : subscribers) {
+            send(emitter, response);
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 끝났거나 구독 직전에 끝난 작업 확인
+     */
+    @Scheduled(fixedDelay = 2_000)
+    public void sweep() {
+        for (String jobId : emitters.keySet()) {
+            try {
+                publish(jobId);
+            } catch (Exception e) {
+                log.debug("작업 완료 확인 실패: {} - {}", jobId, e.getMessage());
+            }
+        }
+    }
+
+    private boolean isFinished(ValuationJobResponse response) {
+        return "DONE".equals(response.getStatus()) || "FAILED".equals(response.getStatus());
+    }
+
+    private void send(SseEmitter emitter, ValuationJobResponse response) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(ApiResponse.success(response)));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 이미 끊김 → 폴링으로 조회
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(String jobId, SseEmitter emitter) {
+        emitters.computeIfPresent(jobId, (key, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+}
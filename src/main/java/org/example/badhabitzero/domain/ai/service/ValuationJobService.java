@@ -0,0 +1,202 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.domain.ai.config.AiJobProperties;
+import org.example.badhabitzero.domain.ai.dto.AnalyzeCompleteRequest;
+import org.example.badhabitzero.domain.ai.dto.ValuationJobResponse;
+import org.example.badhabitzero.domain.ai.dto.ValueResult;
+import org.example.badhabitzero.domain.ai.entity.ValuationJob;
+import org.example.badhabitzero.domain.ai.repository.ValuationJobRepository;
+import org.example.badhabitzero.global.error.BusinessException;
+import org.example.badhabitzero.global.error.ErrorCode;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 비동기 가치 산정 작업 (valuation_jobs) 등록/상태 관리
+ *
+ * - 같은 요청(정규화한 JSON의 해시)이 진행 중이면 새로 만들지 않고 그 작업을 반환
+ * - 최근 reuseWindow 안에 완료된 같은 요청도 재사용 (모바일 재시도 시 AI 비용 없음)
+ * - 워커는 SELECT ... FOR UPDATE SKIP LOCKED로 작업을 가져가므로 인스턴스가 여러 대여도 중복 실행 없음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ValuationJobService {
+
+    private final ValuationJobRepository jobRepository;
+    private final AiJobProperties jobProperties;
+    private final ObjectMapper objectMapper;
+
+    // 워커에 넘길 작업 정보 (caller: 등록한 주체, 없으면 null)
+    public record ClaimedJob(Long id, String jobId, String requestBody, AiCaller caller) {
+    }
+
+    /**
+     * 작업 등록 (중복 요청이면 기존 작업 반환)
+     *
+     * 트랜잭션을 걸지 않음: 유니크 제약 위반 후 같은 트랜잭션에서 다시 조회할 수 없기 때문
+     */
+    public ValuationJobResponse submit(AnalyzeCompleteRequest request) {
+        String requestBody = canonicalJson(request);
+        String requestHash = sha256(requestBody);
+
+        Optional<ValuationJob> reusable = findReusable(requestHash);
+        if (reusable.isPresent()) {
+            log.debug("가치 산정 작업 재사용: {}", reusable.get().getJobId());
+            return toResponse(reusable.get());
+        }
+
+        AiCaller caller = AiCaller.current();
+        try {
+            ValuationJob job = jobRepository.saveAndFlush(ValuationJob.builder()
+                    .jobId(UUID.randomUUID().toString())
+                    .requestHash(requestHash)
+                    .requestBody(requestBody)
+                    .userId(caller != null ? caller.userId() : null)
+                    .clientIp(caller != null ? caller.ip() : null)
+                    .build());
+            return toResponse(job);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 요청이 동시에 등록됨 → 먼저 등록된 작업 반환
+            return findReusable(requestHash)
+                    .map(this::toResponse)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    private Optional<ValuationJob> findReusable(String requestHash) {
+        Optional<ValuationJob> active = jobRepository.findByActiveHash(requestHash);
+        if (active.isPresent()) {
+            return active;
+        }
+        LocalDateTime finishedAfter = LocalDateTime.now().minus(jobProperties.getReuseWindow());
+        return jobRepository.findFirstByRequestHashAndStatusAndFinishedAtAfterOrderByIdDesc(
+                requestHash, ValuationJob.Status.DONE, finishedAfter);
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    @Transactional(readOnly = true)
+    public ValuationJobResponse get(String jobId) {
+        return jobRepository.findByJobId(jobId)
+                .map(this::toResponse)
+                .orElseThrow(() -> new BusinessException(ErrorCode.AI_JOB_NOT_FOUND));
+    }
+
+    /**
+     * 대기 중인 작업을 최대 limit건 가져가 RUNNING으로 변경
+     */
+    @Transactional
+    public List<ClaimedJob> claim(int limit) {
+        List<ValuationJob> jobs = jobRepository.findPendingForUpdate(limit);
+        for (ValuationJob job : jobs) {
+            job.start();
+        }
+        return jobs.stream()
+                .map(job -> new ClaimedJob(job.getId(), job.getJobId(), job.getRequestBody(), callerOf(job)))
+                .toList();
+    }
+
+    // 등록 당시 주체가 없었던 작업(배치 등)은 쿼터 적용 안 함
+    private AiCaller callerOf(ValuationJob job) {
+        if (job.getUserId() == null && job.getClientIp() == null) {
+            return null;
+        }
+        return new AiCaller(job.getUserId(), job.getClientIp());
+    }
+
+    @Transactional
+    public void complete(Long id, ValueResult result) {
+        jobRepository.findById(id).ifPresent(job -> job.complete(toJson(result)));
+    }
+
+    /**
+     * 실패 기록 (maxAttempts 전이면 대기열로 되돌림)
+     */
+    @Transactional
+    public void fail(Long id, ErrorCode errorCode) {
+        jobRepository.findById(id).ifPresent(job ->
+                job.fail(errorCode.getCode(), job.getAttempts() < jobProperties.getMaxAttempts()));
+    }
+
+    /**
+     * 멈춘 작업 되돌리기 + 오래된 완료 작업 정리 (1분마다)
+     */
+    @Scheduled(fixedRate = 60_000)
+    @Transactional
+    public void maintain() {
+        LocalDateTime now = LocalDateTime.now();
+        int requeued = jobRepository.requeueStale(now.minus(jobProperties.getStaleAfter()));
+        int deleted = jobRepository.deleteFinishedBefore(now.minus(jobProperties.getRetention()));
+        if (requeued > 0 || deleted > 0) {
+            log.info("가치 산정 작업 정리: 재시도 {}건, 삭제 {}건", requeued, deleted);
+        }
+    }
+
+    private ValuationJobResponse toResponse(ValuationJob job) {
+        ValuationJobResponse.ValuationJobResponseBuilder response = ValuationJobResponse.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus().name());
+        if (job.getStatus() == ValuationJob.Status.DONE) {
+            response.result(fromJson(job.getResultBody()));
+        }
+        if (job.getStatus() == ValuationJob.Status.FAILED) {
+            response.errorCode(job.getErrorCode());
+        }
+        return response.build();
+    }
+
+    // 키 순서와 무관하게 같은 요청이면 같은 문자열
+    private String canonicalJson(AnalyzeCompleteRequest request) {
+        try {
+            return objectMapper.writer()
+                    .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private String toJson(ValueResult result) {
+        try {
+            return objectMapper.writeValueAsString(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ValueResult fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, ValueResult.class);
+        } catch (JsonProcessingException e) {
+            log.error("가치 산정 작업 결과 파싱 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.domain.ai.config.AiJobProperties;
+import org.example.badhabitzero.domain.ai.dto.AnalyzeCompleteRequest;
+import org.example.badhabitzero.domain.ai.dto.ValueResult;
+import org.example.badhabitzero.global.error.BusinessException;
+import org.example.badhabitzero.global.error.ErrorCode;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가치 산정 작업 워커
+ *
+ * 빈 워커 수만큼만 대기열에서 가져가므로 요청이 몰려도 동시 산정 수는 workers로 제한됩니다.
+ * Gemini 서킷이 열려 있는 동안은 가져가지 않음 (재시도 횟수만 소모하므로).
+ * 작업은 등록한 주체(AiCaller)로 실행되므로 사용자별 쿼터가 그대로 적용됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ValuationJobWorker {
+
+    private final ValuationJobService jobService;
+    private final ValuationJobNotifier jobNotifier;
+    private final ValueAnalysisService valueAnalysisService;
+    private final GeminiCircuitBreaker circuitBreaker;
+    private final AiJobProperties jobProperties;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor valuationJobExecutor;
+
+    private final AtomicInteger running = new AtomicInteger();
+
+    @Scheduled(fixedDelayString = "${ai.job.poll-interval:500ms}")
+    public void poll() {
+        if (!jobProperties.isEnabled() || circuitBreaker.isOpen()) {
+            return;
+        }
+        int free = jobProperties.getWorkers() - running.get();
+        if (free <= 0) {
+            return;
+        }
+
+        List<ValuationJobService.ClaimedJob> jobs;
+        try {
+            jobs = jobService.claim(free);
+        } catch (Exception e) {
+            log.warn("가치 산정 작업 가져오기 실패: {}", e.getMessage());
+            return;
+        }
+
+        for (ValuationJobService.ClaimedJob job : jobs) {
+            running.incrementAndGet();
+            valuationJobExecutor.execute(() -> {
+                try {
+                    run(job);
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private void run(ValuationJobService.ClaimedJob job) {
+        try {
+            AnalyzeCompleteRequest request = objectMapper.readValue(job.requestBody(), AnalyzeCompleteRequest.class);
+            // 등록한 사용자의 쿼터로 산정
+            ValueResult result = AiCaller.callAs(job.caller(),
+                    () -> AiPriority.callAs(AiPriority.INTERACTIVE,
+                            () -> RequestDeadline.callWithin(jobProperties.getJobTimeout(),
+                                    () -> valueAnalysisService.calculateFinalValue(request))));
+            jobService.complete(job.id(), result);
+            log.debug("가치 산정 작업 완료: {}", job.jobId());
+        } catch (BusinessException e) {
+            log.warn("가치 산정 작업 실패: {} - {}", job.jobId(), e.getMessage());
+            jobService.fail(job.id(), e.getErrorCode());
+        } catch (Exception e) {
+            log.error("가치 산정 작업 오류: {} - {}", job.jobId(), e.getMessage());
+            jobService.fail(job.id(), ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+        jobNotifier.publish(job.jobId());
+    }
+}
@@ -4,10 +4,29 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.domain.ai.config.AiDegradedProperties;
+import org.example.badhabitzero.domain.ai.config.AiQuestionCacheProperties;
+import org.example.badhabitzero.domain.ai.config.AiValuationProperties;
 import org.example.badhabitzero.domain.ai.dto.*;
+import org.example.badhabitzero.domain.ai.parser.KoreanQuantityParser;
+import org.example.badhabitzero.domain.ai.parser.ParsedAnswer;
+import org.example.badhabitzero.global.error.BusinessException;
+import org.example.badhabitzero.global.error.ErrorCode;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
 
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -18,11 +37,25 @@ public class ValueAnalysisService {
     private final ChromaService chromaService;
     private final ChatSessionManager chatSessionManager;
     private final ObjectMapper objectMapper;
+    private final RuleBasedValuationEngine valuationEngine;
+    private final AiValuationProperties valuationProperties;
+    private final ChatQuestionCache chatQuestionCache;
+    private final AiQuestionCacheProperties questionCacheProperties;
+    private final ValueRefinementStore refinementStore;
+    private final GeminiCircuitBreaker circuitBreaker;
+    private final AiDegradedProperties degradedProperties;
+    private final ThreadPoolTaskExecutor aiTaskExecutor;
+    private final ValuationCatalogService catalogService;
+    private final AiCallJournal aiCallJournal;
 
     /**
      * 1단계: 악습 분석 및 추가 질문 생성
      */
     public AnalyzeResponse analyze(AnalyzeRequest request) {
+        return AiStage.callAs(AiStage.QUESTIONS, () -> analyzeInternal(request));
+    }
+
+    private AnalyzeResponse analyzeInternal(AnalyzeRequest request) {
         // RAG 검색
         List<Map<String, Object>> ragResults = chromaService.searchByCategory(
                 request.getHabitName(),
@@ -35,7 +68,7 @@ public class ValueAnalysisService {
         String aiResponse = geminiService.generate(prompt);
 
         // 디버깅용 로그
-        log.info("질문 생성 AI 응답: {}", aiResponse);
+        log.debug("질문 생성 AI 응답: {}", aiResponse);
 
         // AI 응답 파싱
         return parseQuestionResponse(aiResponse);
@@ -45,6 +78,24 @@ public class ValueAnalysisService {
      * 2단계: 최종 가치 산정
      */
     public ValueResult calculateValue(AnalyzeCompleteRequest request) {
+        return AiStage.callAs(AiStage.VALUE, () -> calculateValueInternal(request));
+    }
+
+    private ValueResult calculateValueInternal(AnalyzeCompleteRequest request) {
+        ParsedAnswer parsed = parseAnswers(request);
+
+        // 규칙 기반 산정 대상이면 RAG/AI 산정 없이 바로 계산
+        if (valuationEngine.supports(request.getCategory())) {
+            return ruleBasedValue(request.getHabitName(), request.getCategory(), parsed,
+                    Boolean.TRUE.equals(request.getFast()));
+        }
+
+        // 사전 산정 카탈로그에 입력이 맞는 항목이 있으면 바로 반환
+        Optional<ValueResult> cataloged = catalogService.find(request.getCategory(), request.getHabitName(), parsed);
+        if (cataloged.isPresent()) {
+            return cataloged.get();
+        }
+
         // RAG 검색
         List<Map<String, Object>> ragResults = chromaService.searchByCategory(
                 request.getHabitName(),
@@ -52,15 +103,353 @@ public class ValueAnalysisService {
                 5
         );
 
+        // AI 지연/장애 시 사용할 임시 추정치
+        Supplier<ValueResult> quickEstimate = () -> provisional(request.getCategory(), parsed);
+
         // AI에게 가치 산정 요청
         String prompt = buildValuePrompt(request, ragResults);
-        String aiResponse = geminiService.generate(prompt);
+        return valueWithFallback(prompt, quickEstimate, "가치 산정");
+    }
 
-        // 디버깅용 로그
-        log.info("가치 산정 AI 응답: {}", aiResponse);
+    /**
+     * 여러 악습 일괄 가치 산정 (온보딩)
+     *
+     * - 규칙 기반/카탈로그 항목은 AI 산정 없이 처리
+     * - 나머지는 임베딩 1회 + 카테고리별 Chroma 조회로 RAG를 한 번에 하고, AI 호출은 병렬로 실행
+     * - 응답 대기는 항목별이 아니라 배치 전체 기준 valueSlo (넘긴 항목은 임시 추정치 + refinementId)
+     * - 결과는 요청 순서대로, 항목별 실패는 error로 반환
+     */
+    public List<BatchValueResult> calculateValues(List<AnalyzeCompleteRequest> requests) {
+        return AiStage.callAs(AiStage.VALUE_BATCH, () -> calculateValuesInternal(requests));
+    }
 
-        // AI 응답 파싱
-        return parseValueResponse(aiResponse);
+    private List<BatchValueResult> calculateValuesInternal(List<AnalyzeCompleteRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return List.of();
+        }
+        if (requests.size() > valuationProperties.getBatchMaxItems()) {
+            throw new BusinessException(ErrorCode.AI_BATCH_TOO_LARGE);
+        }
+
+        int size = requests.size();
+        List<CompletableFuture<ValueResult>> futures = new ArrayList<>(Collections.nCopies(size, null));
+        List<Supplier<ValueResult>> quickEstimates = new ArrayList<>(Collections.nCopies(size, null));
+        List<Integer> aiIndexes = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            AnalyzeCompleteRequest request = requests.get(i);
+            try {
+                ParsedAnswer parsed = parseAnswers(request);
+                quickEstimates.set(i, () -> provisional(request.getCategory(), parsed));
+
+                if (valuationEngine.supports(request.getCategory())) {
+                    futures.set(i, ruleBasedValueAsync(request.getHabitName(), request.getCategory(), parsed,
+                            Boolean.TRUE.equals(request.getFast())));
+                    continue;
+                }
+                Optional<ValueResult> cataloged = catalogService.find(request.getCategory(), request.getHabitName(), parsed);
+                if (cataloged.isPresent()) {
+                    futures.set(i, CompletableFuture.completedFuture(cataloged.get()));
+                    continue;
+                }
+                aiIndexes.add(i);
+            } catch (RuntimeException e) {
+                futures.set(i, CompletableFuture.failedFuture(e));
+            }
+        }
+
+        if (!aiIndexes.isEmpty()) {
+            // RAG 일괄 검색 (실패한 항목은 참고 데이터 없이 산정)
+            List<String> queries = aiIndexes.stream().map(i -> requests.get(i).getHabitName()).toList();
+            List<String> categories = aiIndexes.stream().map(i -> requests.get(i).getCategory()).toList();
+            List<List<Map<String, Object>>> ragResults = chromaService.searchByCategoryBatch(queries, categories, 5);
+
+            for (int k = 0; k < aiIndexes.size(); k++) {
+                int i = aiIndexes.get(k);
+                Supplier<ValueResult> quickEstimate = quickEstimates.get(i);
+                if (circuitBreaker.isOpen()) {
+                    futures.set(i, CompletableFuture.completedFuture(quickEstimate.get()));
+                    continue;
+                }
+                String prompt = buildValuePrompt(requests.get(i), ragResults.get(k));
+                futures.set(i, startRefinement(prompt, quickEstimate, "일괄 가치 산정"));
+            }
+        }
+
+        // 모든 항목이 동시에 진행 중이므로 대기 시간은 배치 전체에서 한 번만 적용
+        Duration slo = degradedProperties.isEnabled()
+                ? degradedProperties.getValueSlo() : degradedProperties.getRefinementTimeout();
+        long waitUntil = System.nanoTime() + RequestDeadline.timeout(slo).toNanos();
+
+        List<BatchValueResult> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            AnalyzeCompleteRequest request = requests.get(i);
+            BatchValueResult.BatchValueResultBuilder item = BatchValueResult.builder()
+                    .index(i)
+                    .habitName(request.getHabitName());
+            CompletableFuture<ValueResult> future = futures.get(i);
+            try {
+                // 답변 해석 단계에서 실패한 항목 (AI 실패는 임시 추정치로 대체)
+                if (quickEstimates.get(i) == null) {
+                    future.join();
+                }
+                Duration wait = Duration.ofNanos(Math.max(0, waitUntil - System.nanoTime()));
+                item.result(awaitValue(future, quickEstimates.get(i), "일괄 가치 산정", wait));
+            } catch (CompletionException e) {
+                fillError(item, e.getCause());
+            } catch (RuntimeException e) {
+                fillError(item, e);
+            }
+            results.add(item.build());
+        }
+        return results;
+    }
+
+    private void fillError(BatchValueResult.BatchValueResultBuilder item, Throwable error) {
+        ErrorCode errorCode = error instanceof BusinessException business
+                ? business.getErrorCode() : ErrorCode.INTERNAL_SERVER_ERROR;
+        log.warn("일괄 가치 산정 항목 실패: {}", error.getMessage());
+        item.errorCode(errorCode.getCode()).errorMessage(errorCode.getMessage());
+    }
+
+    // 답변에서 금액/횟수/시간 추출 (먼저 나온 답변 우선)
+    private ParsedAnswer parseAnswers(AnalyzeCompleteRequest request) {
+        ParsedAnswer parsed = new ParsedAnswer();
+        if (request.getAnswers() != null) {
+            for (Object answer : request.getAnswers().values()) {
+                if (answer != null) {
+                    parsed.mergeMissing(KoreanQuantityParser.parse(answer.toString()));
+                }
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * 비동기 작업용 가치 산정 (저하 모드 없이 AI 결과까지 기다림, AI 호출 실패는 예외로 전달)
+     */
+    public ValueResult calculateFinalValue(AnalyzeCompleteRequest request) {
+        return AiStage.callAs(AiStage.VALUE_JOB, () -> calculateFinalValueInternal(request));
+    }
+
+    private ValueResult calculateFinalValueInternal(AnalyzeCompleteRequest request) {
+        ParsedAnswer parsed = parseAnswers(request);
+        if (valuationEngine.supports(request.getCategory())) {
+            return ruleBasedValue(request.getHabitName(), request.getCategory(), parsed,
+                    Boolean.TRUE.equals(request.getFast()));
+        }
+        Optional<ValueResult> cataloged = catalogService.find(request.getCategory(), request.getHabitName(), parsed);
+        if (cataloged.isPresent()) {
+            return cataloged.get();
+        }
+
+        List<Map<String, Object>> ragResults = chromaService.searchByCategory(
+                request.getHabitName(),
+                request.getCategory(),
+                5
+        );
+        String aiResponse = geminiService.generate(buildValuePrompt(request, ragResults));
+        log.debug("가치 산정 작업 AI 응답: {}", aiResponse);
+        return parseValueResponse(aiResponse, () -> provisional(request.getCategory(), parsed));
+    }
+
+    /**
+     * 카탈로그 사전 산정용 가치 산정 (RAG + AI, 저하 모드/카탈로그 조회 없음, 파싱 실패 시 null)
+     */
+    public ValueResult calculateBaseline(AnalyzeCompleteRequest request) {
+        return AiStage.callAs(AiStage.BASELINE, () -> calculateBaselineInternal(request));
+    }
+
+    private ValueResult calculateBaselineInternal(AnalyzeCompleteRequest request) {
+        List<Map<String, Object>> ragResults = chromaService.searchByCategory(
+                request.getHabitName(),
+                request.getCategory(),
+                5
+        );
+        String aiResponse = geminiService.generate(buildValuePrompt(request, ragResults));
+        log.debug("카탈로그 가치 산정 AI 응답: {}", aiResponse);
+        return parseValueResponse(aiResponse, () -> null);
+    }
+
+    /**
+     * 규칙 기반 가치 산정 (AI는 설명 문구만 작성, fast 모드면 생략)
+     */
+    private ValueResult ruleBasedValue(String habitName, String category, ParsedAnswer parsed, boolean fast) {
+        return ruleBasedValueAsync(habitName, category, parsed, fast).join();
+    }
+
+    /**
+     * 규칙 기반 가치 산정 - 설명 문구는 explanationTimeout까지만 기다리고 넘기면 기본 문구
+     */
+    private CompletableFuture<ValueResult> ruleBasedValueAsync(String habitName, String category, ParsedAnswer parsed,
+                                                               boolean fast) {
+        ValueResult result = valuationEngine.evaluate(category, parsed);
+        if (fast || valuationProperties.isFastMode() || circuitBreaker.isOpen()) {
+            return CompletableFuture.completedFuture(result);
+        }
+
+        String prompt = buildExplanationPrompt(habitName, category, parsed, result);
+        Duration wait = RequestDeadline.timeout(valuationProperties.getExplanationTimeout());
+        return CompletableFuture.supplyAsync(
+                        () -> AiStage.callAs(AiStage.EXPLANATION, () -> geminiService.generate(prompt)), aiTaskExecutor)
+                .thenApply(text -> withExplanation(result, text))
+                .completeOnTimeout(result, wait.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    log.warn("설명 문구 생성 실패, 기본 문구 사용: {}", e.getMessage());
+                    return result;
+                });
+    }
+
+    /**
+     * 규칙 기반 가치 산정 - aiTaskExecutor 작업 안에서 사용
+     * (설명 작업을 같은 풀에 넘기고 기다리면 풀이 찼을 때 서로를 기다리므로 현재 스레드에서 생성)
+     */
+    private ValueResult ruleBasedValueInline(String habitName, String category, ParsedAnswer parsed, boolean fast) {
+        ValueResult result = valuationEngine.evaluate(category, parsed);
+        if (fast || valuationProperties.isFastMode() || circuitBreaker.isOpen()) {
+            return result;
+        }
+
+        String prompt = buildExplanationPrompt(habitName, category, parsed, result);
+        try {
+            String text = RequestDeadline.callWithin(RequestDeadline.timeout(valuationProperties.getExplanationTimeout()),
+                    () -> AiStage.callAs(AiStage.EXPLANATION, () -> geminiService.generate(prompt)));
+            return withExplanation(result, text);
+        } catch (Exception e) {
+            log.warn("설명 문구 생성 실패, 기본 문구 사용: {}", e.getMessage());
+            return result;
+        }
+    }
+
+    private static ValueResult withExplanation(ValueResult result, String text) {
+        return text == null || text.isBlank()
+                ? result
+                : result.toBuilder().explanation(text.trim().replace("\"", "")).build();
+    }
+
+    // AI 지연/장애 시 반환하는 임시 추정치
+    private ValueResult provisional(String category, ParsedAnswer parsed) {
+        return valuationEngine.evaluate(category, parsed).toBuilder()
+                .explanation("AI 응답이 지연되어 입력값과 카테고리 평균으로 계산한 임시 추정치입니다.")
+                .provisional(true)
+                .build();
+    }
+
+    /**
+     * 가치 산정 AI 호출 (저하 모드)
+     *
+     * - 서킷이 열려 있으면 AI 호출 없이 임시 추정치 반환
+     * - valueSlo 안에 AI 응답이 없으면 임시 추정치 + refinementId 반환, AI 호출은 백그라운드에서 계속
+     * - AI 호출이 실패하면 임시 추정치 반환
+     */
+    private ValueResult valueWithFallback(String prompt, Supplier<ValueResult> quickEstimate, String label) {
+        if (!degradedProperties.isEnabled()) {
+            String aiResponse = geminiService.generate(prompt);
+            log.debug("{} AI 응답: {}", label, aiResponse);
+            return parseValueResponse(aiResponse, quickEstimate);
+        }
+
+        if (circuitBreaker.isOpen()) {
+            log.warn("{}: Gemini 서킷 열림, 임시 추정치 반환", label);
+            return quickEstimate.get();
+        }
+
+        return awaitValue(startRefinement(prompt, quickEstimate, label), quickEstimate, label);
+    }
+
+    /**
+     * 정밀 산정 시작 (요청 마감 시간과 무관하게 refinementTimeout 동안 진행)
+     */
+    private CompletableFuture<ValueResult> startRefinement(String prompt, Supplier<ValueResult> quickEstimate, String label) {
+        return CompletableFuture.supplyAsync(
+                () -> RequestDeadline.callWithin(degradedProperties.getRefinementTimeout(), () -> {
+                    String aiResponse = geminiService.generate(prompt);
+                    log.debug("{} AI 응답: {}", label, aiResponse);
+                    return parseValueResponse(aiResponse, quickEstimate);
+                }),
+                aiTaskExecutor);
+    }
+
+    /**
+     * 진행 중인 AI 산정을 valueSlo까지 기다리고, 넘기면 임시 추정치 + refinementId 반환
+     */
+    private ValueResult awaitValue(CompletableFuture<ValueResult> refinement, Supplier<ValueResult> quickEstimate, String label) {
+        return awaitValue(refinement, quickEstimate, label, RequestDeadline.timeout(degradedProperties.getValueSlo()));
+    }
+
+    private ValueResult awaitValue(CompletableFuture<ValueResult> refinement, Supplier<ValueResult> quickEstimate,
+                                   String label, Duration wait) {
+        try {
+            return refinement.get(wait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            ValueResult provisional = quickEstimate.get();
+            String refinementId = refinementStore.register(provisional, refinement);
+            log.warn("{}: AI 응답 {}ms 초과, 임시 추정치 반환 (refinementId={})", label, wait.toMillis(), refinementId);
+            return provisional.toBuilder().refinementId(refinementId).build();
+        } catch (ExecutionException e) {
+            log.warn("{}: AI 호출 실패, 임시 추정치 반환: {}", label, e.getCause().getMessage());
+            return quickEstimate.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return quickEstimate.get();
+        }
+    }
+
+    /**
+     * 정밀 산정 결과 조회 (완료 전이면 임시 추정치)
+     */
+    public ValueResult getRefinement(String refinementId) {
+        ValueResult result = refinementStore.get(refinementId);
+        if (result == null) {
+            throw new BusinessException(ErrorCode.AI_RESULT_NOT_FOUND);
+        }
+        return result;
+    }
+
+    /**
+     * 정밀 산정이 끝나면 완료되는 future (WebSocket 결과 푸시용, 없으면 null)
+     */
+    public CompletableFuture<ValueResult> whenRefined(String refinementId) {
+        return refinementStore.whenDone(refinementId);
+    }
+
+    /**
+     * 규칙 기반 산정 결과 설명 프롬프트
+     */
+    private String buildExplanationPrompt(String habitName, String category, ParsedAnswer parsed, ValueResult result) {
+        ValueResult.Breakdown breakdown = result.getBreakdown();
+
+        return String.format("""
+            당신은 악습의 경제적 가치를 설명하는 전문가입니다.
+
+            [사용자 정보]
+            - 악습: %s
+            - 카테고리: %s
+
+            [답변에서 추출한 수치]
+            %s
+
+            [계산 결과]
+            - 1회당 가치: %,d원
+            - 직접 비용: %,d원
+            - 건강 비용: %,d원
+            - 기회 비용: %,d원 (시급 25,000원 기준)
+            - 심리 비용: %,d원
+
+            [규칙]
+            1. 계산 결과를 사용자에게 설명하는 문장을 100자 이내로 작성하세요.
+            2. 숫자는 바꾸지 마세요.
+            3. 설명 문장만 출력하세요. 다른 텍스트나 따옴표 없이 출력하세요.
+            """,
+                habitName,
+                category,
+                parsed.isEmpty() ? "없음 (카테고리 평균 사용)" : parsed.toPromptLines(),
+                result.getValue(),
+                breakdown.getDirectCost(),
+                breakdown.getHealthCost(),
+                breakdown.getOpportunityCost(),
+                breakdown.getPsychologicalCost()
+        );
     }
 
     /**
@@ -178,12 +567,20 @@ public class ValueAnalysisService {
      * 질문 응답 파싱 - 개선 버전
      */
     private AnalyzeResponse parseQuestionResponse(String aiResponse) {
+        long startedAt = System.nanoTime();
+        AnalyzeResponse response = readQuestionResponse(aiResponse);
+        aiCallJournal.recordParse(millisSince(startedAt), response != null);
+        return response != null ? response : getDefaultQuestions();
+    }
+
+    // 파싱 실패 시 null
+    private AnalyzeResponse readQuestionResponse(String aiResponse) {
         try {
             String json = extractJson(aiResponse);
 
             if (json.equals("{}")) {
                 log.warn("JSON 추출 실패, 기본 질문 반환");
-                return getDefaultQuestions();
+                return null;
             }
 
             JsonNode root = objectMapper.readTree(json);
@@ -193,7 +590,7 @@ public class ValueAnalysisService {
 
             if (!questionsNode.isArray() || questionsNode.isEmpty()) {
                 log.warn("questions 배열 없음, 기본 질문 반환");
-                return getDefaultQuestions();
+                return null;
             }
 
             for (JsonNode q : questionsNode) {
@@ -220,29 +617,37 @@ public class ValueAnalysisService {
 
         } catch (Exception e) {
             log.error("질문 응답 파싱 실패: {}", e.getMessage());
-            log.error("원본 응답: {}", aiResponse);
-            return getDefaultQuestions();
+            log.debug("원본 응답: {}", aiResponse);
+            return null;
         }
     }
 
     /**
-     * 가치 응답 파싱 - 개선 버전
+     * 가치 응답 파싱 - 개선 버전 (파싱 실패 시 임시 추정치)
      */
-    private ValueResult parseValueResponse(String aiResponse) {
+    private ValueResult parseValueResponse(String aiResponse, Supplier<ValueResult> fallback) {
+        long startedAt = System.nanoTime();
+        ValueResult result = readValueResponse(aiResponse);
+        aiCallJournal.recordParse(millisSince(startedAt), result != null);
+        return result != null ? result : fallback.get();
+    }
+
+    // 파싱 실패 시 null
+    private ValueResult readValueResponse(String aiResponse) {
         try {
             String json = extractJson(aiResponse);
 
             if (json.equals("{}")) {
-                log.warn("JSON 추출 실패, 기본값 반환");
-                return getDefaultValueResult();
+                log.warn("JSON 추출 실패, 임시 추정치 반환");
+                return null;
             }
 
             JsonNode root = objectMapper.readTree(json);
 
             // 필수 필드 체크
             if (!root.has("value")) {
-                log.warn("value 필드 없음, 기본값 반환");
-                return getDefaultValueResult();
+                log.warn("value 필드 없음, 임시 추정치 반환");
+                return null;
             }
 
             List<String> sources = new ArrayList<>();
@@ -269,8 +674,8 @@ public class ValueAnalysisService {
 
         } catch (Exception e) {
             log.error("가치 응답 파싱 실패: {}", e.getMessage());
-            log.error("원본 응답: {}", aiResponse);
-            return getDefaultValueResult();
+            log.debug("원본 응답: {}", aiResponse);
+            return null;
         }
     }
 
@@ -355,23 +760,6 @@ public class ValueAnalysisService {
                 .build();
     }
 
-    /**
-     * 기본 가치 결과 (파싱 실패 시)
-     */
-    private ValueResult getDefaultValueResult() {
-        return ValueResult.builder()
-                .value(10000)
-                .breakdown(ValueResult.Breakdown.builder()
-                        .directCost(7000)
-                        .healthCost(1000)
-                        .opportunityCost(1000)
-                        .psychologicalCost(1000)
-                        .build())
-                .explanation("기본값으로 산정되었습니다. 다시 시도해주세요.")
-                .sources(List.of("기본값"))
-                .build();
-    }
-
     // ============================================
     // 챗봇 기반 가치 산정 메서드
     // ============================================
@@ -380,33 +768,47 @@ public class ValueAnalysisService {
      * 챗봇 세션 시작 - 자연어 질문 생성
      */
     public ChatSessionResponse startChatSession(ChatSessionRequest request) {
-        // RAG 검색
-        List<Map<String, Object>> ragResults = chromaService.searchByCategory(
-                request.getHabitName(),
-                request.getCategory(),
-                3
-        );
-
-        // AI에게 자연어 질문 목록 생성 요청
-        String prompt = buildConversationalQuestionsPrompt(request, ragResults);
-        String aiResponse = geminiService.generate(prompt);
+        return AiStage.callAs(AiStage.CHAT_QUESTIONS, () -> startChatSessionInternal(request));
+    }
 
-        log.info("챗봇 질문 생성 AI 응답: {}", aiResponse);
+    private ChatSessionResponse startChatSessionInternal(ChatSessionRequest request) {
+        // RAG 검색 ‖ 질문 목록 캐시 조회
+        // 캐시에 있으면 검색을 기다리지 않고 바로 세션 생성 (검색은 최종 산정용으로 계속 진행)
+        // 캐시에 없으면 질문 생성이 같은 검색 결과를 기다려 사용
+        CompletableFuture<List<Map<String, Object>>> retrieval = prefetchRetrieval(request.getHabitName(), request.getCategory());
 
-        // 질문 목록 파싱
-        List<String> questions = parseQuestionList(aiResponse);
+        ChatSessionManager.ChatSession session;
+        List<String> questions;
+        try {
+            // 질문 목록 (캐시에 없을 때만 AI 생성)
+            // 카테고리+이름으로 모든 사용자가 공유하므로 사용자 이유(reason)는 넣지 않음 (워밍업과 동일)
+            // reason은 세션에 저장해 최종 산정에만 사용
+            questions = chatQuestionCache.getOrLoad(
+                    request.getCategory(),
+                    request.getHabitName(),
+                    () -> generateConversationalQuestions(request.getHabitName(), request.getCategory(), null, retrieval)
+            );
+
+            if (questions.isEmpty()) {
+                questions = getDefaultConversationalQuestions();
+            }
 
-        if (questions.isEmpty()) {
-            questions = getDefaultConversationalQuestions();
+            // 세션 생성
+            session = chatSessionManager.createSession(
+                    request.getHabitName(),
+                    request.getCategory(),
+                    request.getReason(),
+                    questions
+            );
+        } catch (RuntimeException e) {
+            // 세션을 못 만들면 미리 시작한 검색도 취소
+            if (retrieval != null) {
+                retrieval.cancel(false);
+            }
+            throw e;
         }
-
-        // 세션 생성
-        ChatSessionManager.ChatSession session = chatSessionManager.createSession(
-                request.getHabitName(),
-                request.getCategory(),
-                request.getReason(),
-                questions
-        );
+        session.setFast(Boolean.TRUE.equals(request.getFast()));
+        session.setRagResults(retrieval);
 
         // 첫 번째 질문 반환
         return ChatSessionResponse.builder()
@@ -419,9 +821,98 @@ public class ValueAnalysisService {
     }
 
     /**
-     * 사용자 메시지 처리 - 다음 질문 또는 결과 반환
+     * 세션 시작 시 최종 산정용 RAG 검색을 미리 시작 (규칙 기반 카테고리는 필요 없으므로 null)
+     *
+     * 논블로킹 구독이라 스레드를 잡지 않고, 반환한 future를 취소하면 구독(임베딩/조회 요청)도 취소
+     */
+    private CompletableFuture<List<Map<String, Object>>> prefetchRetrieval(String habitName, String category) {
+        if (valuationEngine.supports(category)) {
+            return null;
+        }
+        CompletableFuture<List<Map<String, Object>>> retrieval = new CompletableFuture<>();
+        Disposable subscription = chromaService.searchByCategoryAsync(habitName, category, 5)
+                .subscribe(retrieval::complete, retrieval::completeExceptionally, () -> retrieval.complete(List.of()));
+        retrieval.whenComplete((results, error) -> {
+            if (error instanceof CancellationException) {
+                subscription.dispose();
+            }
+        });
+        return retrieval;
+    }
+
+    /**
+     * 세션 시작 시 받아 둔 RAG 검색 결과 (없거나 비어 있으면 다시 검색)
+     */
+    private List<Map<String, Object>> sessionRetrieval(ChatSessionManager.ChatSession session) {
+        CompletableFuture<List<Map<String, Object>>> prefetched = session.getRagResults();
+        if (prefetched != null && prefetched.isDone() && !prefetched.isCompletedExceptionally()) {
+            List<Map<String, Object>> results = prefetched.join();
+            if (!results.isEmpty()) {
+                return results;
+            }
+        }
+        return chromaService.searchByCategory(session.getHabitName(), session.getCategory(), 5);
+    }
+
+    /**
+     * 자연어 질문 목록 생성 (RAG + AI)
+     */
+    private List<String> generateConversationalQuestions(String habitName, String category, String reason) {
+        return generateConversationalQuestions(habitName, category, reason, null);
+    }
+
+    private List<String> generateConversationalQuestions(String habitName, String category, String reason,
+                                                         CompletableFuture<List<Map<String, Object>>> retrieval) {
+        // RAG 검색 (미리 시작한 검색이 있으면 그 결과 상위 3개 사용)
+        List<Map<String, Object>> ragResults = retrieval != null
+                ? awaitRetrieval(retrieval, 3)
+                : chromaService.searchByCategory(habitName, category, 3);
+
+        // AI에게 자연어 질문 목록 생성 요청
+        String prompt = buildConversationalQuestionsPrompt(habitName, category, reason, ragResults);
+        String aiResponse = geminiService.generate(prompt);
+
+        log.debug("챗봇 질문 생성 AI 응답: {}", aiResponse);
+
+        // 질문 목록 파싱
+        return parseQuestionList(aiResponse);
+    }
+
+    private List<Map<String, Object>> awaitRetrieval(CompletableFuture<List<Map<String, Object>>> retrieval, int topK) {
+        try {
+            Duration remaining = RequestDeadline.remaining();
+            List<Map<String, Object>> results = remaining == null
+                    ? retrieval.join()
+                    : retrieval.get(Math.max(0, remaining.toMillis()), TimeUnit.MILLISECONDS);
+            return results.subList(0, Math.min(topK, results.size()));
+        } catch (Exception e) {
+            log.warn("RAG 선행 검색 대기 실패, 참고 데이터 없이 진행: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 시작 시 자주 쓰는 악습의 질문 목록 미리 생성 (백그라운드)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpQuestionCache() {
+        AiStage.runAs(AiStage.CHAT_QUESTIONS, () ->
+                questionCacheProperties.getWarmHabits().forEach((category, habitNames) -> {
+                    for (String habitName : habitNames) {
+                        chatQuestionCache.refreshAsync(category, habitName,
+                                () -> generateConversationalQuestions(habitName, category, null));
+                    }
+                }));
+    }
+
+    /**
+     * 사용자 메시지 처리 - 다음 질문 또는 결과 반환 (메시지 순번 기준 중복 처리 방지)
      */
     public ChatMessageResponse handleChatMessage(ChatMessageRequest request) {
+        return AiStage.callAs(AiStage.CHAT_VALUE, () -> handleChatMessageInternal(request));
+    }
+
+    private ChatMessageResponse handleChatMessageInternal(ChatMessageRequest request) {
         ChatSessionManager.ChatSession session = chatSessionManager.getSession(request.getSessionId());
 
         if (session == null) {
@@ -434,16 +925,97 @@ public class ValueAnalysisService {
                     .build();
         }
 
-        // 답변 저장
-        chatSessionManager.addAnswer(request.getSessionId(), request.getMessage());
+        // 순번이 없으면 다음 순번 (완료된 세션이면 마지막 순번 → 최종 응답 재사용)
+        int seq = request.getSeq() != null
+                ? request.getSeq()
+                : Math.min(session.getCurrentQuestionIndex() + 1, session.getQuestions().size());
+
+        // 질문 수를 넘는 순번: 마지막 순번 응답이 있으면 그대로 반환 (최종 산정을 다시 하지 않음)
+        int total = session.getQuestions().size();
+        if (seq > total) {
+            CompletableFuture<ChatMessageResponse> last = session.getTurns().get(total);
+            if (last == null) {
+                throw new BusinessException(ErrorCode.AI_CHAT_OUT_OF_ORDER);
+            }
+            return awaitTurn(last);
+        }
+        if (seq < 1) {
+            throw new BusinessException(ErrorCode.AI_CHAT_OUT_OF_ORDER);
+        }
+
+        // 같은 순번은 먼저 도착한 요청 하나만 처리하고, 재전송/중복 탭은 그 응답을 그대로 받음
+        CompletableFuture<ChatMessageResponse> turn = new CompletableFuture<>();
+        CompletableFuture<ChatMessageResponse> existing = session.getTurns().putIfAbsent(seq, turn);
+        if (existing != null) {
+            log.debug("중복 메시지: sessionId={}, seq={}", session.getSessionId(), seq);
+            return awaitTurn(existing);
+        }
+
+        boolean claimed = false;
+        try {
+            // 처리 중인 순번이 없을 때만 시작하고, 끝나거나(반영) 실패해야(되돌림) 다음 순번 시작
+            // (세션당 쓰기는 항상 한 스레드, 순번 확인과 답변 추가 사이에 다른 순번이 끼지 않음)
+            claimed = session.getInFlightSeq().compareAndSet(0, seq);
+            if (!claimed || seq != session.getCurrentQuestionIndex() + 1) {
+                throw new BusinessException(ErrorCode.AI_CHAT_OUT_OF_ORDER);
+            }
+            ChatMessageResponse response = processTurn(session, seq, request.getMessage());
+            turn.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            // 처리 전 실패한 순번은 다시 보낼 수 있도록 제거
+            session.getTurns().remove(seq, turn);
+            turn.completeExceptionally(e);
+            throw e;
+        } finally {
+            if (claimed) {
+                session.getInFlightSeq().set(0);
+            }
+        }
+    }
+
+    private ChatMessageResponse awaitTurn(CompletableFuture<ChatMessageResponse> turn) {
+        try {
+            return turn.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 답변 1건 처리 (순번당 한 번만 실행)
+     */
+    private ChatMessageResponse processTurn(ChatSessionManager.ChatSession session, int seq, String message) {
+        CompletableFuture<ValueResult> speculativeBefore = session.getSpeculativeValue();
+
+        // 답변 저장 (처리 중 실패하면 되돌려 같은 순번으로 다시 보낼 수 있게 함)
+        chatSessionManager.addAnswer(session.getSessionId(), message);
+        try {
+            return answerTurn(session, seq);
+        } catch (RuntimeException e) {
+            chatSessionManager.removeLastAnswer(session.getSessionId());
+            // 이번 답변까지 반영해 시작한 선행 산정은 버림
+            CompletableFuture<ValueResult> speculative = session.getSpeculativeValue();
+            if (speculative != null && speculative != speculativeBefore) {
+                speculative.cancel(false);
+                session.setSpeculativeValue(speculativeBefore);
+            }
+            throw e;
+        }
+    }
 
+    private ChatMessageResponse answerTurn(ChatSessionManager.ChatSession session, int seq) {
         // 모든 질문 완료 체크
-        if (chatSessionManager.isComplete(request.getSessionId())) {
-            // 가치 산정
-            ValueResult valueResult = calculateValueFromConversation(session);
-            chatSessionManager.removeSession(request.getSessionId());
+        if (session.isCompleted()) {
+            // 가치 산정 (선행 산정이 있으면 그 결과 사용)
+            ValueResult valueResult = finishConversationValue(session);
+            chatSessionManager.completeSession(session.getSessionId());
 
             return ChatMessageResponse.builder()
+                    .seq(seq)
                     .message("분석이 완료되었습니다!")
                     .questionNumber(session.getQuestions().size())
                     .totalQuestions(session.getQuestions().size())
@@ -452,42 +1024,146 @@ public class ValueAnalysisService {
                     .build();
         }
 
+        // 주요 입력이 모였으면 최종 산정 미리 시작
+        ValueResult estimate = runningEstimate(session);
+        speculateFinalValue(session, estimate);
+
         // 다음 질문 반환
-        String nextQuestion = chatSessionManager.getNextQuestion(request.getSessionId());
+        String nextQuestion = chatSessionManager.getNextQuestion(session.getSessionId());
 
         return ChatMessageResponse.builder()
+                .seq(seq)
                 .message(nextQuestion)
                 .questionNumber(session.getCurrentQuestionIndex() + 1)
                 .totalQuestions(session.getQuestions().size())
                 .isComplete(false)
                 .valueResult(null)
+                .estimate(estimate)
                 .build();
     }
 
+    /**
+     * 지금까지 답변 기준 임시 추정치 (규칙 기반, AI 호출 없음)
+     */
+    private ValueResult runningEstimate(ChatSessionManager.ChatSession session) {
+        return valuationEngine.evaluate(session.getCategory(), session.getParsed()).toBuilder()
+                .explanation("지금까지 답변으로 계산한 임시 추정치입니다.")
+                .provisional(true)
+                .build();
+    }
+
+    /**
+     * 남은 질문이 주요 비용 입력을 바꾸지 않을 것으로 보이면 최종 산정을 미리 시작
+     */
+    private void speculateFinalValue(ChatSessionManager.ChatSession session, ValueResult estimate) {
+        if (!valuationProperties.isSpeculativeEnabled() || session.getSpeculativeValue() != null
+                || !valuationEngine.hasDominantInputs(session.getCategory(), session.getParsed())) {
+            return;
+        }
+        // 규칙 기반 + fast 모드는 최종 산정도 즉시 끝나므로 미리 할 필요 없음
+        boolean ruleBased = valuationEngine.supports(session.getCategory());
+        if (ruleBased && (session.isFast() || valuationProperties.isFastMode())) {
+            return;
+        }
+
+        ChatSessionManager.ChatSession snapshot = session.snapshot();
+        session.setSpeculativeEstimate(estimate.getValue());
+        // 마지막 답변 때 사용자가 이 결과를 기다리므로 INTERACTIVE 레인 (BACKGROUND면 부하 시 뒤로 밀려 그대로 대기)
+        session.setSpeculativeValue(CompletableFuture.supplyAsync(
+                () -> AiPriority.callAs(AiPriority.INTERACTIVE,
+                        () -> RequestDeadline.callWithin(degradedProperties.getRefinementTimeout(),
+                                () -> computeConversationValue(snapshot))),
+                aiTaskExecutor));
+        log.debug("선행 산정 시작: sessionId={}, answers={}", session.getSessionId(), snapshot.getAnswers().size());
+    }
+
+    /**
+     * 마지막 답변 후 최종 산정: 이후 답변으로 추정치가 크게 바뀌지 않았으면 선행 산정 결과 사용
+     *
+     * 최종 입력이 카탈로그에 맞으면 선행 산정과 관계없이 카탈로그 결과 (calculateValueFromConversation과 같은 순서)
+     */
+    private ValueResult finishConversationValue(ChatSessionManager.ChatSession session) {
+        CompletableFuture<ValueResult> speculative = session.getSpeculativeValue();
+        if (speculative == null) {
+            return calculateValueFromConversation(session);
+        }
+
+        Optional<ValueResult> cataloged = catalogValue(session);
+        if (cataloged.isPresent()) {
+            speculative.cancel(false);
+            return cataloged.get();
+        }
+
+        int current = valuationEngine.evaluate(session.getCategory(), session.getParsed()).getValue();
+        int speculated = session.getSpeculativeEstimate();
+        double change = Math.abs(current - speculated) / (double) Math.max(1, speculated);
+        if (change > valuationProperties.getSpeculationTolerance()) {
+            log.debug("선행 산정 폐기: 추정치 {} → {}", speculated, current);
+            speculative.cancel(false);
+            return calculateValueFromConversation(session);
+        }
+
+        return awaitValue(speculative, () -> provisional(session.getCategory(), session.getParsed()), "챗봇 가치 산정");
+    }
+
+    /**
+     * 대화 기반 가치 산정 (선행 산정용, aiTaskExecutor 작업 안에서 실행, 저하 모드 없이 끝까지 기다림)
+     */
+    private ValueResult computeConversationValue(ChatSessionManager.ChatSession session) {
+        if (valuationEngine.supports(session.getCategory())) {
+            return ruleBasedValueInline(session.getHabitName(), session.getCategory(), session.getParsed(), session.isFast());
+        }
+
+        Optional<ValueResult> cataloged = catalogValue(session);
+        if (cataloged.isPresent()) {
+            return cataloged.get();
+        }
+
+        List<Map<String, Object>> ragResults = sessionRetrieval(session);
+        String aiResponse = geminiService.generate(buildValueFromConversationPrompt(session, ragResults));
+        log.debug("챗봇 선행 가치 산정 AI 응답: {}", aiResponse);
+        return parseValueResponse(aiResponse, () -> provisional(session.getCategory(), session.getParsed()));
+    }
+
     /**
      * 대화 기반 가치 산정
      */
     private ValueResult calculateValueFromConversation(ChatSessionManager.ChatSession session) {
-        // RAG 검색
-        List<Map<String, Object>> ragResults = chromaService.searchByCategory(
-                session.getHabitName(),
-                session.getCategory(),
-                5
-        );
+        // 규칙 기반 산정 대상이면 RAG/AI 산정 없이 바로 계산
+        if (valuationEngine.supports(session.getCategory())) {
+            return ruleBasedValue(session.getHabitName(), session.getCategory(), session.getParsed(), session.isFast());
+        }
+
+        // 사전 산정 카탈로그에 입력이 맞는 항목이 있으면 바로 반환
+        Optional<ValueResult> cataloged = catalogValue(session);
+        if (cataloged.isPresent()) {
+            return cataloged.get();
+        }
+
+        // RAG 검색 (세션 시작 때 받아 둔 결과 재사용)
+        List<Map<String, Object>> ragResults = sessionRetrieval(session);
+
+        // AI 지연/장애 시 사용할 임시 추정치
+        Supplier<ValueResult> quickEstimate = () -> provisional(session.getCategory(), session.getParsed());
 
         // AI에게 가치 산정 요청
         String prompt = buildValueFromConversationPrompt(session, ragResults);
-        String aiResponse = geminiService.generate(prompt);
-
-        log.info("챗봇 가치 산정 AI 응답: {}", aiResponse);
+        return valueWithFallback(prompt, quickEstimate, "챗봇 가치 산정");
+    }
 
-        return parseValueResponse(aiResponse);
+    // 대화 입력에 맞는 사전 산정 결과 (규칙 기반 카테고리는 카탈로그 대상 아님)
+    private Optional<ValueResult> catalogValue(ChatSessionManager.ChatSession session) {
+        if (valuationEngine.supports(session.getCategory())) {
+            return Optional.empty();
+        }
+        return catalogService.find(session.getCategory(), session.getHabitName(), session.getParsed());
     }
 
     /**
      * 자연어 질문 생성 프롬프트
      */
-    private String buildConversationalQuestionsPrompt(ChatSessionRequest request, List<Map<String, Object>> ragResults) {
+    private String buildConversationalQuestionsPrompt(String habitName, String category, String reason,
+                                                      List<Map<String, Object>> ragResults) {
         StringBuilder ragContext = new StringBuilder();
         for (Map<String, Object> result : ragResults) {
             ragContext.append("- ").append(result.get("content")).append("\n");
@@ -525,9 +1201,9 @@ public class ValueAnalysisService {
               ]
             }
             """,
-                request.getHabitName(),
-                request.getCategory(),
-                request.getReason() != null ? request.getReason() : "없음",
+                habitName,
+                category,
+                reason != null ? reason : "없음",
                 ragContext.toString()
         );
     }
@@ -565,6 +1241,9 @@ public class ValueAnalysisService {
             [대화 내용]
             %s
 
+            [답변에서 추출한 수치]
+            %s
+
             [참고 데이터]
             %s
 
@@ -575,8 +1254,8 @@ public class ValueAnalysisService {
             4. 심리 비용 (psychologicalCost): 스트레스, 죄책감 등 (1,000~5,000원 범위)
 
             [규칙]
-            1. 대화 내용에서 금액, 빈도, 시간 등의 정보를 추출하세요.
-            2. 자연어로 된 답변을 해석하세요 (예: "만원 정도" → 10000, "일주일에 두세번" → 2.5)
+            1. [답변에서 추출한 수치]가 있으면 그 값을 그대로 사용하세요.
+            2. 추출되지 않은 정보만 대화 내용에서 해석하세요 (예: "만원 정도" → 10000, "일주일에 두세번" → 2.5)
             3. 명확하지 않은 경우 합리적으로 추정하세요.
             4. 1회당 비용을 계산하세요.
             5. 반드시 아래 JSON 형식으로만 응답하세요. 다른 텍스트 없이 JSON만 출력하세요.
@@ -599,6 +1278,7 @@ public class ValueAnalysisService {
                 session.getCategory(),
                 session.getReason() != null ? session.getReason() : "없음",
                 conversationStr.toString(),
+                session.getParsed().isEmpty() ? "없음" : session.getParsed().toPromptLines(),
                 ragContext.toString()
         );
     }
@@ -607,6 +1287,14 @@ public class ValueAnalysisService {
      * 자연어 질문 목록 파싱
      */
     private List<String> parseQuestionList(String aiResponse) {
+        long startedAt = System.nanoTime();
+        List<String> questions = readQuestionList(aiResponse);
+        aiCallJournal.recordParse(millisSince(startedAt), !questions.isEmpty());
+        return questions;
+    }
+
+    // 파싱 실패 시 빈 목록
+    private List<String> readQuestionList(String aiResponse) {
         try {
             String json = extractJson(aiResponse);
 
@@ -634,6 +1322,10 @@ public class ValueAnalysisService {
         }
     }
 
+    private static long millisSince(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
     /**
      * 기본 대화형 질문 목록 (파싱 실패 시)
      */
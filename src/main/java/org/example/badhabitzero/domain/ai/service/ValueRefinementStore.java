@@ -0,0 +1,88 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.domain.ai.config.AiDegradedProperties;
+import org.example.badhabitzero.domain.ai.dto.ValueResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 임시 추정치를 반환한 뒤 백그라운드에서 진행 중인 AI 정밀 산정 결과 보관소
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ValueRefinementStore {
+
+    private final AiDegradedProperties degradedProperties;
+    private final Map<String, Refinement> refinements = new ConcurrentHashMap<>();
+
+    private record Refinement(ValueResult provisional, CompletableFuture<ValueResult> future, LocalDateTime expiresAt) {
+    }
+
+    /**
+     * 정밀 산정 등록 후 조회 ID 반환
+     */
+    public String register(ValueResult provisional, CompletableFuture<ValueResult> future) {
+        String refinementId = UUID.randomUUID().toString();
+        LocalDateTime expiresAt = LocalDateTime.now().plus(degradedProperties.getResultTtl());
+        refinements.put(refinementId, new Refinement(
+                provisional.toBuilder().refinementId(refinementId).build(), future, expiresAt));
+        return refinementId;
+    }
+
+    /**
+     * 정밀 산정이 끝났으면 AI 결과, 진행 중이면 임시 추정치, 실패했으면 refinementId 없는 임시 추정치 반환
+     * (없거나 만료되면 null)
+     */
+    public ValueResult get(String refinementId) {
+        Refinement refinement = refinements.get(refinementId);
+        if (refinement == null || refinement.expiresAt().isBefore(LocalDateTime.now())) {
+            return null;
+        }
+
+        CompletableFuture<ValueResult> future = refinement.future();
+        if (!future.isDone()) {
+            return refinement.provisional();
+        }
+        if (future.isCompletedExceptionally()) {
+            // 더 기다려도 갱신되지 않음을 알림
+            return refinement.provisional().toBuilder().refinementId(null).build();
+        }
+        return future.join();
+    }
+
+    /**
+     * 정밀 산정이 끝나면 get()과 같은 결과로 완료되는 future (없거나 만료되면 null)
+     */
+    public CompletableFuture<ValueResult> whenDone(String refinementId) {
+        Refinement refinement = refinements.get(refinementId);
+        if (refinement == null) {
+            return null;
+        }
+        return refinement.future().handle((result, error) -> get(refinementId));
+    }
+
+    /**
+     * 만료된 결과 정리 (1분마다)
+     */
+    @Scheduled(fixedRate = 60000)
+    public void cleanupExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        refinements.entrySet().removeIf(entry -> {
+            if (entry.getValue().expiresAt().isBefore(now)) {
+                entry.getValue().future().cancel(false);
+                return true;
+            }
+            return false;
+        });
+        log.debug("정밀 산정 결과 정리 완료. 남은 결과: {}", refinements.size());
+    }
+}
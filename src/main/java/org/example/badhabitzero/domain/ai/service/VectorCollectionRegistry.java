@@ -0,0 +1,152 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.domain.ai.config.AiKnowledgeProperties;
+import org.example.badhabitzero.domain.ai.entity.VectorCollection;
+import org.example.badhabitzero.domain.ai.repository.VectorCollectionRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 검색용 Chroma 컬렉션 별칭 관리
+ *
+ * - 별칭(habit_facts)이 가리키는 ACTIVE 컬렉션 이름을 DB에 두고 인스턴스마다 잠깐 캐시
+ * - 컬렉션 한 버전은 카테고리별 샤드 묶음 (ChromaService.shardName)
+ * - 쓰기(문서 추가/수정/삭제)는 ACTIVE + BUILDING 컬렉션 모두에 반영해 재구축 중 변경이 빠지지 않도록 함
+ * - 교체는 트랜잭션 하나에서 이전 ACTIVE → RETIRED, 새 버전 → ACTIVE
+ *   (다른 인스턴스는 캐시가 만료될 때까지 이전 컬렉션을 보지만 유예 기간 동안 삭제하지 않으므로 문제없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VectorCollectionRegistry {
+
+    public static final String ALIAS = "habit_facts";
+
+    private final VectorCollectionRepository collectionRepository;
+    private final AiKnowledgeProperties knowledgeProperties;
+
+    private volatile State state;
+
+    private record State(String active, List<String> writeTargets, long loadedAt) {
+    }
+
+    /**
+     * 검색에 쓸 컬렉션 이름
+     */
+    public String activeCollection() {
+        return current().active();
+    }
+
+    /**
+     * 쓰기를 반영할 컬렉션 이름 (ACTIVE + BUILDING)
+     */
+    public List<String> writeCollections() {
+        return current().writeTargets();
+    }
+
+    private State current() {
+        State loaded = state;
+        if (loaded == null
+                || System.currentTimeMillis() - loaded.loadedAt() > knowledgeProperties.getCollectionRefresh().toMillis()) {
+            loaded = load();
+        }
+        return loaded;
+    }
+
+    /**
+     * DB에서 별칭을 다시 읽음 (교체 직후 이 인스턴스는 바로 반영)
+     */
+    public void refresh() {
+        load();
+    }
+
+    // ACTIVE가 없으면 v1을 만들어 등록
+    private synchronized State load() {
+        String active = collectionRepository.findByActiveAlias(ALIAS)
+                .map(VectorCollection::getName)
+                .orElseGet(this::bootstrap);
+
+        List<String> writeTargets = new ArrayList<>();
+        writeTargets.add(active);
+        for (VectorCollection building : collectionRepository.findByStatusIn(Set.of(VectorCollection.Status.BUILDING))) {
+            writeTargets.add(building.getName());
+        }
+
+        State loaded = new State(active, List.copyOf(writeTargets), System.currentTimeMillis());
+        if (state == null || !state.active().equals(active)) {
+            log.info("검색 컬렉션: {} (쓰기 대상 {})", active, writeTargets);
+        }
+        state = loaded;
+        return loaded;
+    }
+
+    // 처음 실행 시 v1을 ACTIVE로 등록 (내용은 지식 베이스 초기화가 채움)
+    private String bootstrap() {
+        String name = collectionName(1);
+        try {
+            VectorCollection collection = VectorCollection.builder()
+                    .name(name)
+                    .version(1)
+                    .embeddingModel(ChromaService.EMBEDDING_MODEL)
+                    .status(VectorCollection.Status.BUILDING)
+                    .build();
+            collection.activate(ALIAS, 0);
+            collectionRepository.save(collection);
+            log.info("검색 컬렉션 초기 등록: {}", name);
+            return name;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 등록
+            return collectionRepository.findByActiveAlias(ALIAS)
+                    .map(VectorCollection::getName)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * 새 버전 등록 (BUILDING)
+     */
+    public VectorCollection startBuild() {
+        int version = collectionRepository.findTopByOrderByVersionDesc()
+                .map(VectorCollection::getVersion)
+                .orElse(0) + 1;
+        VectorCollection collection = collectionRepository.save(VectorCollection.builder()
+                .name(collectionName(version))
+                .version(version)
+                .embeddingModel(ChromaService.EMBEDDING_MODEL)
+                .status(VectorCollection.Status.BUILDING)
+                .build());
+        refresh();
+        return collection;
+    }
+
+    /**
+     * 별칭 교체 (이전 ACTIVE는 RETIRED)
+     */
+    @Transactional
+    public void activate(Long collectionId, long documentCount) {
+        VectorCollection next = collectionRepository.findById(collectionId)
+                .orElseThrow(() -> new IllegalStateException("컬렉션 없음: " + collectionId));
+        collectionRepository.findByActiveAlias(ALIAS).ifPresent(previous -> {
+            previous.retire();
+            // 유니크 제약 위반을 피하려고 이전 별칭을 먼저 비움
+            collectionRepository.saveAndFlush(previous);
+        });
+        next.activate(ALIAS, documentCount);
+    }
+
+    @Transactional
+    public void fail(Long collectionId) {
+        collectionRepository.findById(collectionId).ifPresent(VectorCollection::fail);
+    }
+
+    public static String collectionName(int version) {
+        return ALIAS + "_v" + version;
+    }
+}
@@ -0,0 +1,224 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.domain.ai.config.AiKnowledgeProperties;
+import org.example.badhabitzero.domain.ai.dto.VectorCollectionResponse;
+import org.example.badhabitzero.domain.ai.entity.KnowledgeDocument;
+import org.example.badhabitzero.domain.ai.entity.VectorCollection;
+import org.example.badhabitzero.domain.ai.repository.KnowledgeDocumentRepository;
+import org.example.badhabitzero.domain.ai.repository.VectorCollectionRepository;
+import org.example.badhabitzero.global.error.BusinessException;
+import org.example.badhabitzero.global.error.ErrorCode;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Chroma 컬렉션 무중단 재구축 (blue/green)
+ *
+ * 컬렉션 한 버전은 카테고리별 샤드 묶음(habit_facts_v{n}_{category})입니다.
+ *
+ * 1. 새 버전 컬렉션(habit_facts_v{n+1})을 BUILDING으로 등록 → 이후 쓰기는 양쪽에 반영
+ * 2. knowledge_facts를 페이지 단위로 읽어 새 컬렉션에 upsert (reembed면 임베딩도 새로 생성)
+ * 3. 재구축 중 바뀐 문서를 한 번 더 반영 (다른 인스턴스가 BUILDING을 알기 전 쓰기 대비)
+ * 4. 검증: 문서 수가 DB와 같고, 샘플 문서가 자기 임베딩으로 검색했을 때 1위로 나오는지
+ * 5. 별칭 교체 → 이전 컬렉션은 유예 기간 후 삭제
+ *
+ * 검색은 교체 전까지 이전 컬렉션을 그대로 쓰므로 재구축 중에도 중단되지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VectorIndexRebuilder {
+
+    private final VectorCollectionRegistry collectionRegistry;
+    private final VectorCollectionRepository collectionRepository;
+    private final KnowledgeDocumentRepository documentRepository;
+    private final ChromaService chromaService;
+    private final AiKnowledgeProperties knowledgeProperties;
+    private final ThreadPoolTaskExecutor aiBackgroundExecutor;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * 재구축 시작 (백그라운드 실행)
+     *
+     * @param reembed true면 저장된 임베딩을 쓰지 않고 모두 다시 생성 (임베딩 모델 변경 시)
+     */
+    public void startRebuild(boolean reembed) {
+        if (!collectionRepository.findByStatusIn(Set.of(VectorCollection.Status.BUILDING)).isEmpty()
+                || !running.compareAndSet(false, true)) {
+            throw new BusinessException(ErrorCode.KNOWLEDGE_REINDEX_IN_PROGRESS);
+        }
+        try {
+            aiBackgroundExecutor.execute(() -> {
+                try {
+                    AiPriority.runAs(AiPriority.BACKGROUND,
+                            () -> AiStage.runAs(AiStage.KNOWLEDGE, () -> rebuild(reembed)));
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw new BusinessException(ErrorCode.AI_OVERLOADED);
+        }
+    }
+
+    private void rebuild(boolean reembed) {
+        VectorCollection target = collectionRegistry.startBuild();
+        String name = target.getName();
+        LocalDateTime startedAt = LocalDateTime.now();
+        long begin = System.currentTimeMillis();
+        log.info("컬렉션 재구축 시작: {} (reembed={})", name, reembed);
+
+        try {
+            chromaService.createCollection(name);
+
+            long filled = fill(name, reembed, pageable -> documentRepository.findAllBy(pageable));
+            long caughtUp = fill(name, false,
+                    pageable -> documentRepository.findByUpdatedAtGreaterThanEqual(startedAt, pageable));
+
+            long count = verify(name);
+            collectionRegistry.activate(target.getId(), count);
+            collectionRegistry.refresh();
+            log.info("컬렉션 교체 완료: {} (문서 {}건, 따라잡기 {}건, {}ms)",
+                    name, filled, caughtUp, System.currentTimeMillis() - begin);
+        } catch (Exception e) {
+            log.error("컬렉션 재구축 실패: {} - {}", name, e.getMessage());
+            collectionRegistry.fail(target.getId());
+            collectionRegistry.refresh();
+        }
+    }
+
+    /**
+     * 문서를 페이지 단위로 새 컬렉션에 반영
+     */
+    private long fill(String name, boolean reembed, Function<Pageable, Page<KnowledgeDocument>> pages) {
+        int pageSize = Math.max(1, knowledgeProperties.getImportBatchSize());
+        long filled = 0;
+        Page<KnowledgeDocument> page = pages.apply(PageRequest.of(0, pageSize, Sort.by("id")));
+        while (true) {
+            List<KnowledgeDocument> documents = page.getContent();
+            List<KnowledgeDocument> stale = reembed
+                    ? documents
+                    : documents.stream().filter(KnowledgeDocument::needsEmbedding).toList();
+            if (!stale.isEmpty()) {
+                List<List<Float>> embeddings = chromaService.generateEmbeddings(
+                        stale.stream().map(KnowledgeDocument::getContent).toList());
+                for (int i = 0; i < stale.size(); i++) {
+                    stale.get(i).applyEmbedding(embeddings.get(i));
+                }
+            }
+
+            chromaService.upsertDocuments(name,
+                    documents.stream().map(KnowledgeDocument::toFact).toList(),
+                    documents.stream().map(KnowledgeDocument::embeddingVector).toList());
+            if (!stale.isEmpty()) {
+                // 교체 후에는 이 컬렉션만 검색하므로 반영 완료로 표시
+                stale.forEach(KnowledgeDocument::markSynced);
+                documentRepository.saveAll(stale);
+            }
+            filled += documents.size();
+
+            if (!page.hasNext()) {
+                return filled;
+            }
+            page = pages.apply(page.nextPageable());
+        }
+    }
+
+    /**
+     * 새 컬렉션 검증 (실패 시 예외)
+     *
+     * @return 컬렉션 문서 수
+     */
+    private long verify(String name) {
+        long expected = documentRepository.count();
+        long actual = chromaService.countDocuments(name);
+        if (actual != expected) {
+            throw new IllegalStateException("문서 수 불일치: chroma=" + actual + ", db=" + expected);
+        }
+
+        int samples = Math.max(0, knowledgeProperties.getVerifySamples());
+        if (samples > 0 && expected > 0) {
+            List<KnowledgeDocument> sample = documentRepository.findAllBy(PageRequest.of(0, samples, Sort.by("id")))
+                    .getContent();
+            // 카테고리 샤드별로 자기 임베딩 검색
+            Map<String, List<KnowledgeDocument>> byCategory = sample.stream()
+                    .collect(Collectors.groupingBy(KnowledgeDocument::getCategory));
+            for (Map.Entry<String, List<KnowledgeDocument>> group : byCategory.entrySet()) {
+                List<KnowledgeDocument> documents = group.getValue();
+                List<String> nearest = chromaService.nearestIds(name, group.getKey(),
+                        documents.stream().map(KnowledgeDocument::embeddingVector).toList());
+                for (int i = 0; i < documents.size(); i++) {
+                    if (!documents.get(i).getFactId().equals(nearest.get(i))) {
+                        throw new IllegalStateException("검증 검색 불일치: " + documents.get(i).getFactId() + " → " + nearest.get(i));
+                    }
+                }
+            }
+        }
+        return actual;
+    }
+
+    /**
+     * 유예 기간이 지난 이전/실패 컬렉션 삭제, 오래 멈춘 재구축은 실패 처리
+     */
+    @Scheduled(fixedDelayString = "${ai.knowledge.cleanup-interval:5m}")
+    public void cleanup() {
+        LocalDateTime threshold = LocalDateTime.now().minus(knowledgeProperties.getCollectionGracePeriod());
+
+        if (!running.get()) {
+            for (VectorCollection stuck : collectionRepository.findByStatusAndUpdatedAtBefore(
+                    VectorCollection.Status.BUILDING, threshold)) {
+                log.warn("오래 멈춘 컬렉션 재구축 실패 처리: {}", stuck.getName());
+                collectionRegistry.fail(stuck.getId());
+            }
+        }
+
+        for (VectorCollection old : collectionRepository.findByStatusInAndRetiredAtBefore(
+                Set.of(VectorCollection.Status.RETIRED, VectorCollection.Status.FAILED), threshold)) {
+            try {
+                chromaService.deleteCollection(old.getName());
+            } catch (WebClientResponseException.NotFound e) {
+                // 이미 없으면 삭제된 것으로 봄
+            } catch (Exception e) {
+                log.warn("컬렉션 삭제 실패, 다음 주기에 재시도: {} - {}", old.getName(), e.getMessage());
+                continue;
+            }
+            old.drop();
+            collectionRepository.save(old);
+        }
+    }
+
+    /**
+     * 최근 컬렉션 버전 목록
+     */
+    public List<VectorCollectionResponse> getCollections() {
+        return collectionRepository.findTop20ByOrderByVersionDesc().stream()
+                .map(collection -> VectorCollectionResponse.builder()
+                        .name(collection.getName())
+                        .version(collection.getVersion())
+                        .status(collection.getStatus().name())
+                        .embeddingModel(collection.getEmbeddingModel())
+                        .documentCount(collection.getDocumentCount())
+                        .activatedAt(collection.getActivatedAt())
+                        .retiredAt(collection.getRetiredAt())
+                        .build())
+                .toList();
+    }
+}
@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import org.example.badhabitzero.global.common.BaseEntity;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Entity
 @Table(name = "habits")
@@ -40,6 +41,9 @@ public class Habit extends BaseEntity {
     @Column(name = "ai_description", columnDefinition = "TEXT")
     private String aiDescription;
 
+    @Column(name = "ai_baseline_value")
+    private Integer aiBaselineValue;    // 재산정 시 기록한 그룹(카테고리+이름) 기준 가치
+
     @Column(name = "is_active", nullable = false)
     private Boolean isActive;
 
@@ -71,8 +75,30 @@ public class Habit extends BaseEntity {
         this.aiDescription = aiDescription;
     }
 
+    /**
+     * 그룹 기준 가치 변경 반영 (재산정 배치)
+     *
+     * AI 가치는 사용자 답변으로 산정한 값이므로 그룹 결과로 덮어쓰지 않고,
+     * 이전 기준 가치가 있을 때만 기준이 바뀐 비율만큼 조정합니다. 설명은 유지.
+     *
+     * @return AI 가치를 바꿨으면 true
+     */
+    public boolean rebaseAiValue(int baselineValue) {
+        Integer previous = this.aiBaselineValue;
+        this.aiBaselineValue = baselineValue;
+        if (aiValue == null || previous == null || previous <= 0 || previous == baselineValue) {
+            return false;
+        }
+        this.aiValue = (int) Math.round((double) aiValue * baselineValue / previous);
+        return true;
+    }
+
     // 악습 정보 수정
     public void update(String name, Category category, String reason, String icon, Integer baseValue) {
+        // 그룹이 바뀌면 이전 기준 가치는 의미 없음
+        if (!Objects.equals(name, this.name) || category != this.category) {
+            this.aiBaselineValue = null;
+        }
         this.name = name;
         this.category = category;
         this.reason = reason;
@@ -1,6 +1,7 @@
 package org.example.badhabitzero.domain.habit.repository;
 
 import org.example.badhabitzero.domain.habit.entity.Habit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -18,4 +19,7 @@ public interface HabitRepository extends JpaRepository<Habit, Long> {
 
     // 사용자의 악습 개수
     int countByUserIdAndIsActiveTrue(Long userId);
+
+    // AI 가치가 있는 악습을 ID 순으로 (재산정 키셋 페이징)
+    List<Habit> findByIdGreaterThanAndAiValueIsNotNullOrderByIdAsc(Long id, Pageable pageable);
 }
@@ -74,7 +74,7 @@ public class AuthService {
         }
 
         // 4. JWT 토큰 발급
-        String accessToken = jwtTokenProvider.createToken(user.getId(), user.getEmail());
+        String accessToken = jwtTokenProvider.createToken(user.getId(), user.getEmail(), user.getRole().name());
         String refreshToken = createRefreshToken(user.getId(), deviceInfo);
 
         return LoginResponse.of(user, isNewUser, accessToken, refreshToken);
@@ -100,7 +100,7 @@ public class AuthService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 4. 새 토큰 발급
-        String newAccessToken = jwtTokenProvider.createToken(user.getId(), user.getEmail());
+        String newAccessToken = jwtTokenProvider.createToken(user.getId(), user.getEmail(), user.getRole().name());
         String newRefreshToken = UUID.randomUUID().toString();
         LocalDateTime newExpiresAt = LocalDateTime.now().plusSeconds(jwtProperties.getRefreshExpiration() / 1000);
 
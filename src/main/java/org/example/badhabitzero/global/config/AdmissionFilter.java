@@ -0,0 +1,194 @@
+package org.example.badhabitzero.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.example.badhabitzero.global.error.ErrorCode;
+import org.example.badhabitzero.global.error.ErrorResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대기 시간 기반 요청 수용 제어 (CoDel 방식 부하 차단)
+ *
+ * - 전체/분류별 동시 처리 자리를 두고, 자리를 얻기까지 기다린 시간을 분류별로 측정
+ * - 대기 시간이 interval 동안 target을 넘으면 LOW(AI API) 요청은 기다리지 않고 바로 503 + Retry-After
+ * - NORMAL 요청은 maxQueueWait까지 기다린 뒤에만 거절, CRITICAL은 제한하지 않음
+ * - Gemini가 느려져도 AI 요청이 스레드를 모두 잡지 않아 다른 API는 계속 응답
+ * - 메트릭: http.admission.shedding(분류별 1/0), http.admission.shed, http.admission.queue, http.admission.latency
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)  // 인증, 로깅보다 먼저 (거절은 최대한 싸게)
+public class AdmissionFilter extends OncePerRequestFilter {
+
+    private static final String GLOBAL = "global";
+
+    private final AdmissionProperties admissionProperties;
+    private final ObjectMapper objectMapper;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Semaphore workers;
+    private final QueueDelayDetector globalDetector;
+    private final List<Route> routes = new ArrayList<>();
+    private final Route defaultRoute;
+
+    public AdmissionFilter(AdmissionProperties admissionProperties, ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.admissionProperties = admissionProperties;
+        this.objectMapper = objectMapper;
+        this.workers = new Semaphore(admissionProperties.getMaxConcurrent(), true);
+        this.globalDetector = new QueueDelayDetector(admissionProperties.getTarget(), admissionProperties.getInterval());
+        Gauge.builder("http.admission.shedding", globalDetector, detector -> detector.isShedding() ? 1 : 0)
+                .tag("class", GLOBAL)
+                .register(meterRegistry);
+
+        for (AdmissionProperties.RouteClass routeClass : admissionProperties.getRouteClasses()) {
+            routes.add(new Route(routeClass, meterRegistry));
+        }
+        this.defaultRoute = new Route(new AdmissionProperties.RouteClass(
+                "default", "/**", AdmissionProperties.Priority.NORMAL, 0), meterRegistry);
+    }
+
+    // 분류별 상태 (동시 처리 한도, 과부하 감지, 메트릭)
+    private final class Route {
+        final AdmissionProperties.RouteClass routeClass;
+        final Semaphore slots;
+        final QueueDelayDetector detector;
+        final Counter shed;
+        final Timer queue;
+        final Timer latency;
+
+        Route(AdmissionProperties.RouteClass routeClass, MeterRegistry meterRegistry) {
+            this.routeClass = routeClass;
+            this.slots = routeClass.getMaxConcurrent() > 0 ? new Semaphore(routeClass.getMaxConcurrent(), true) : null;
+            this.detector = new QueueDelayDetector(admissionProperties.getTarget(), admissionProperties.getInterval());
+            this.shed = meterRegistry.counter("http.admission.shed", "class", routeClass.getName());
+            this.queue = meterRegistry.timer("http.admission.queue", "class", routeClass.getName());
+            this.latency = meterRegistry.timer("http.admission.latency", "class", routeClass.getName());
+            Gauge.builder("http.admission.shedding", this, route -> route.isShedding() ? 1 : 0)
+                    .tag("class", routeClass.getName())
+                    .register(meterRegistry);
+        }
+
+        // LOW는 자기 분류나 전체 대기열 중 하나라도 밀리면 차단
+        boolean isShedding() {
+            return routeClass.getPriority() == AdmissionProperties.Priority.LOW
+                    && (detector.isShedding() || globalDetector.isShedding());
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Route route = findRoute(request.getRequestURI());
+        long arrivedAt = System.nanoTime();
+
+        if (route.routeClass.getPriority() == AdmissionProperties.Priority.CRITICAL) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                route.latency.record(System.nanoTime() - arrivedAt, TimeUnit.NANOSECONDS);
+            }
+            return;
+        }
+
+        // 차단 중이면 빈 자리가 바로 있을 때만 수용 (기다리지 않음)
+        long waitNanos = route.isShedding() ? 0 : admissionProperties.getMaxQueueWait().toNanos();
+        if (!acquire(route, waitNanos)) {
+            reject(route, response);
+            return;
+        }
+
+        long admittedAt = System.nanoTime();
+        long queuedNanos = admittedAt - arrivedAt;
+        route.detector.onAdmitted(queuedNanos, admittedAt);
+        globalDetector.onAdmitted(queuedNanos, admittedAt);
+        route.queue.record(queuedNanos, TimeUnit.NANOSECONDS);
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            release(route);
+            route.latency.record(System.nanoTime() - admittedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 분류 자리 → 전체 자리 순서로 확보 (항상 같은 순서라 교착 없음)
+    private boolean acquire(Route route, long waitNanos) {
+        long deadline = System.nanoTime() + waitNanos;
+        try {
+            if (route.slots != null && !tryAcquire(route.slots, waitNanos)) {
+                return false;
+            }
+            if (!tryAcquire(workers, Math.max(0, deadline - System.nanoTime()))) {
+                if (route.slots != null) {
+                    route.slots.release();
+                }
+                return false;
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean tryAcquire(Semaphore semaphore, long waitNanos) throws InterruptedException {
+        return waitNanos > 0 ? semaphore.tryAcquire(waitNanos, TimeUnit.NANOSECONDS) : semaphore.tryAcquire();
+    }
+
+    private void release(Route route) {
+        workers.release();
+        if (route.slots != null) {
+            route.slots.release();
+        }
+    }
+
+    private void reject(Route route, HttpServletResponse response) throws IOException {
+        route.shed.increment();
+        log.debug("요청 차단: class={}, shedding={}", route.routeClass.getName(), route.isShedding());
+
+        ErrorCode errorCode = ErrorCode.SERVER_OVERLOADED;
+        response.setStatus(errorCode.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1, admissionProperties.getRetryAfter().toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), ErrorResponse.of(errorCode));
+    }
+
+    private Route findRoute(String uri) {
+        for (Route route : routes) {
+            if (pathMatcher.match(route.routeClass.getPattern(), uri)) {
+                return route;
+            }
+        }
+        return defaultRoute;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !admissionProperties.isEnabled();
+    }
+}
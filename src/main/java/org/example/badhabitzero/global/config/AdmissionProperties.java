@@ -0,0 +1,55 @@
+package org.example.badhabitzero.global.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+    private Duration target = Duration.ofMillis(50);            // 허용하는 대기 시간 (CoDel target)
+    private Duration interval = Duration.ofMillis(500);         // target 초과가 이만큼 이어지면 과부하로 판단
+    private int maxConcurrent = 150;                            // 동시 처리 요청 수 (Tomcat 스레드 수보다 작게)
+    private Duration maxQueueWait = Duration.ofSeconds(2);      // 자리를 기다리는 최대 시간
+    private Duration retryAfter = Duration.ofSeconds(2);        // 거절 응답의 Retry-After
+
+    // 경로 분류 (위에서부터 처음 일치하는 분류 적용, 일치하지 않으면 NORMAL)
+    private List<RouteClass> routeClasses = defaultRouteClasses();
+
+    public enum Priority {
+        CRITICAL,   // 제한하지 않음 (인증, 헬스 체크)
+        NORMAL,     // 대기 시간 초과 시에만 거절
+        LOW         // 대기열이 밀리면 가장 먼저 거절
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RouteClass {
+        private String name;
+        private String pattern;                                 // Ant 경로 패턴
+        private Priority priority;
+        private int maxConcurrent;                              // 분류별 동시 처리 한도 (0이면 전체 한도만 적용)
+    }
+
+    private static List<RouteClass> defaultRouteClasses() {
+        List<RouteClass> routeClasses = new ArrayList<>();
+        routeClasses.add(new RouteClass("auth", "/api/auth/**", Priority.CRITICAL, 0));
+        routeClasses.add(new RouteClass("health", "/api/test/health", Priority.CRITICAL, 0));
+        routeClasses.add(new RouteClass("actuator", "/actuator/**", Priority.CRITICAL, 0));
+        routeClasses.add(new RouteClass("ai", "/api/ai/**", Priority.LOW, 60));
+        return routeClasses;
+    }
+}
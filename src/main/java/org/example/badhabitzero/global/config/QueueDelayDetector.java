@@ -0,0 +1,45 @@
+package org.example.badhabitzero.global.config;
+
+import java.time.Duration;
+
+/**
+ * CoDel 방식 대기열 과부하 감지
+ *
+ * 대기 시간이 target 아래로 한 번이라도 내려가면 정상, interval 내내 target 이상이면 과부하(shedding)로 판단합니다.
+ * 순간적인 몰림은 흡수하고 계속 쌓이는 대기열만 잡아냅니다.
+ */
+public class QueueDelayDetector {
+
+    private final long targetNanos;
+    private final long intervalNanos;
+
+    private boolean aboveTarget;
+    private long firstAboveAt;
+    private volatile boolean shedding;
+
+    public QueueDelayDetector(Duration target, Duration interval) {
+        this.targetNanos = target.toNanos();
+        this.intervalNanos = interval.toNanos();
+    }
+
+    /**
+     * 요청이 처리 자리를 얻을 때마다 대기 시간 기록
+     */
+    public synchronized void onAdmitted(long waitNanos, long now) {
+        if (waitNanos < targetNanos) {
+            aboveTarget = false;
+            shedding = false;
+            return;
+        }
+        if (!aboveTarget) {
+            aboveTarget = true;
+            firstAboveAt = now;
+        } else if (now - firstAboveAt >= intervalNanos) {
+            shedding = true;
+        }
+    }
+
+    public boolean isShedding() {
+        return shedding;
+    }
+}
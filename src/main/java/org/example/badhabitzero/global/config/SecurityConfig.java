@@ -2,6 +2,7 @@ package org.example.badhabitzero.global.config;
 
 import lombok.RequiredArgsConstructor;
 import org.example.badhabitzero.global.security.JwtAuthenticationFilter;
+import org.example.badhabitzero.global.security.RateLimitFilter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -24,6 +25,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final CorsProperties corsProperties;
 
     @Bean
@@ -56,14 +58,24 @@ public class SecurityConfig {
                         //ai - test 경로
                         .requestMatchers("/api/ai/**").permitAll()
 
+                        // WebSocket (핸드셰이크에서 JWT 직접 검증)
+                        .requestMatchers("/ws/**").permitAll()
+
 
                         .requestMatchers("/h2-console/**").permitAll()    // H2 Console (개발용)
+
+                        // 관리자 API (토큰의 role 클레임)
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
+
                         // 나머지는 인증 필요
                         .anyRequest().authenticated()
                 )
 
                 // JWT 인증 필터 추가
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+
+                // 요청 수 제한 (인증 정보가 설정된 뒤 사용자/IP 기준)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.example.badhabitzero.domain.ai.config.AiRetryFilters;
 import org.example.badhabitzero.domain.ai.config.ChromaProperties;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
@@ -41,9 +42,10 @@ public class WebConfig {
      * Gemini API용 WebClient Bean
      * - 연결 풀링으로 재사용
      * - 타임아웃 설정 (60초 읽기, 30초 쓰기)
+     * - 일시적 장애(429/503 등) 재시도
      */
     @Bean(name = "geminiWebClient")
-    public WebClient geminiWebClient() {
+    public WebClient geminiWebClient(AiRetryFilters aiRetryFilters) {
         HttpClient httpClient = HttpClient.create()
                 .responseTimeout(Duration.ofSeconds(60))
                 .doOnConnected(conn ->
@@ -53,6 +55,27 @@ public class WebConfig {
 
         return WebClient.builder()
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(aiRetryFilters.forClient("gemini"))
+                .build();
+    }
+
+    /**
+     * Gemini Embedding API용 WebClient Bean
+     * - 타임아웃 설정 (10초 읽기, 5초 쓰기)
+     * - 일시적 장애(429/503 등) 재시도
+     */
+    @Bean(name = "geminiEmbeddingWebClient")
+    public WebClient geminiEmbeddingWebClient(AiRetryFilters aiRetryFilters) {
+        HttpClient httpClient = HttpClient.create()
+                .responseTimeout(Duration.ofSeconds(10))
+                .doOnConnected(conn ->
+                        conn.addHandlerLast(new ReadTimeoutHandler(10, TimeUnit.SECONDS))
+                                .addHandlerLast(new WriteTimeoutHandler(5, TimeUnit.SECONDS))
+                );
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(aiRetryFilters.forClient("gemini-embedding"))
                 .build();
     }
 
@@ -60,9 +83,10 @@ public class WebConfig {
      * Chroma API용 WebClient Bean
      * - 연결 풀링으로 재사용
      * - 타임아웃 설정 (10초 읽기, 5초 쓰기)
+     * - 일시적 장애(503 등) 재시도
      */
     @Bean(name = "chromaWebClient")
-    public WebClient chromaWebClient(ChromaProperties chromaProperties) {
+    public WebClient chromaWebClient(ChromaProperties chromaProperties, AiRetryFilters aiRetryFilters) {
         HttpClient httpClient = HttpClient.create()
                 .responseTimeout(Duration.ofSeconds(10))
                 .doOnConnected(conn ->
@@ -73,6 +97,7 @@ public class WebConfig {
         return WebClient.builder()
                 .baseUrl(chromaProperties.getHost())
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(aiRetryFilters.forClient("chroma"))
                 .build();
     }
 }
\ No newline at end of file
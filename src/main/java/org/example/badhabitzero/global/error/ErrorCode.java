@@ -15,6 +15,8 @@ public enum ErrorCode {
     INVALID_TYPE_VALUE(HttpStatus.BAD_REQUEST, "C004", "잘못된 타입의 값입니다."),
     ACCESS_DENIED(HttpStatus.FORBIDDEN, "C005", "접근이 거부되었습니다."),
     NOT_FOUND(HttpStatus.NOT_FOUND, "C006", "리소스를 찾을 수 없습니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "C007", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    SERVER_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "C008", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // ========== Auth (인증) ==========
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "A001", "인증이 필요합니다."),
@@ -33,7 +35,23 @@ public enum ErrorCode {
     HABIT_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "H002", "악습 등록 개수를 초과했습니다."),
 
     // ========== Saving (금고) ==========
-    SAVING_NOT_FOUND(HttpStatus.NOT_FOUND, "S001", "저축 기록을 찾을 수 없습니다.");
+    SAVING_NOT_FOUND(HttpStatus.NOT_FOUND, "S001", "저축 기록을 찾을 수 없습니다."),
+
+    // ========== Knowledge (지식 베이스) ==========
+    KNOWLEDGE_FACT_NOT_FOUND(HttpStatus.NOT_FOUND, "K001", "지식 문서를 찾을 수 없습니다."),
+    DUPLICATE_KNOWLEDGE_FACT(HttpStatus.CONFLICT, "K002", "이미 존재하는 지식 문서입니다."),
+    INVALID_KNOWLEDGE_FACT(HttpStatus.BAD_REQUEST, "K003", "지식 문서 형식이 올바르지 않습니다."),
+    KNOWLEDGE_REINDEX_IN_PROGRESS(HttpStatus.CONFLICT, "K004", "지식 베이스 재구축이 이미 진행 중입니다."),
+
+    // ========== AI ==========
+    AI_DEADLINE_EXCEEDED(HttpStatus.GATEWAY_TIMEOUT, "AI001", "AI 응답 시간이 초과되었습니다. 잠시 후 다시 시도해주세요."),
+    AI_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "AI002", "AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    AI_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "AI003", "AI 서비스가 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요."),
+    AI_RESULT_NOT_FOUND(HttpStatus.NOT_FOUND, "AI004", "AI 산정 결과를 찾을 수 없습니다."),
+    AI_BATCH_TOO_LARGE(HttpStatus.BAD_REQUEST, "AI005", "한 번에 산정할 수 있는 악습 개수를 초과했습니다."),
+    AI_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "AI006", "가치 산정 작업을 찾을 수 없습니다."),
+    AI_CHAT_OUT_OF_ORDER(HttpStatus.CONFLICT, "AI007", "이전 메시지를 처리하는 중이거나 순번이 맞지 않습니다. 현재 질문부터 다시 보내주세요."),
+    AI_QUOTA_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "AI008", "AI 사용 한도를 초과했습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus status;
     private final String code;
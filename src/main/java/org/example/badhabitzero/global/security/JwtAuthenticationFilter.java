@@ -39,19 +39,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
             Long userId = jwtTokenProvider.getUserId(token);
             String email = jwtTokenProvider.getEmail(token);
+            String role = jwtTokenProvider.getRole(token);
 
             // 인증 객체 생성 (수정)
             CustomUserDetails userDetails = new CustomUserDetails(userId, email);
             Authentication authentication = new UsernamePasswordAuthenticationToken(
                     userDetails,                                         // CustomUserDetails 사용
                     null,
-                    List.of(new SimpleGrantedAuthority("ROLE_USER"))
-                    //TODO 권한 정책
+                    List.of(new SimpleGrantedAuthority("ROLE_" + role))  // 관리자 API는 SecurityConfig에서 ROLE_ADMIN 확인
             );
 
             // SecurityContext에 인증 정보 저장
             SecurityContextHolder.getContext().setAuthentication(authentication);
-            log.debug("인증 성공: userId={}, email={}", userId, email);
+            log.debug("인증 성공: userId={}, email={}, role={}", userId, email, role);
         }
 
         filterChain.doFilter(request, response);
@@ -20,16 +20,19 @@ import java.util.Date;
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    private static final String DEFAULT_ROLE = "USER";
+
     private final JwtProperties jwtProperties;
 
     // ========== 토큰 생성 ==========
-    public String createToken(Long userId, String email) {
+    public String createToken(Long userId, String email, String role) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + jwtProperties.getAccessExpiration());
 
         return Jwts.builder()
                 .subject(String.valueOf(userId))           // 토큰 주체 (사용자 ID)
                 .claim("email", email)                     // 추가 정보
+                .claim("role", role)                       // 권한 (변경은 토큰 갱신 시 반영)
                 .issuedAt(now)                             // 발행 시간
                 .expiration(expiry)                        // 만료 시간
                 .signWith(getSigningKey())                 // 서명
@@ -48,6 +51,13 @@ public class JwtTokenProvider {
         return claims.get("email", String.class);
     }
 
+    // ========== 토큰에서 권한 추출 (권한 클레임 도입 전 토큰은 USER) ==========
+    public String getRole(String token) {
+        Claims claims = parseClaims(token);
+        String role = claims.get("role", String.class);
+        return role != null ? role : DEFAULT_ROLE;
+    }
+
     // ========== 토큰 유효성 검증 ==========
     public boolean validateToken(String token) {
         try {
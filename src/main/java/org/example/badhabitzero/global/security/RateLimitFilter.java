@@ -0,0 +1,93 @@
+package org.example.badhabitzero.global.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.badhabitzero.global.error.ErrorCode;
+import org.example.badhabitzero.global.error.ErrorResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경로 정책별 요청 수 제한 (토큰 버킷)
+ *
+ * JwtAuthenticationFilter 다음에 실행되어 로그인 사용자는 userId, 아니면 클라이언트 IP 기준으로 제한합니다.
+ * 초과 시 429 + Retry-After(초)
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties rateLimitProperties;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RateLimitProperties.Policy policy = findPolicy(request.getRequestURI());
+        if (policy == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = rateLimiter.tryAcquire(policy, resolveSubject(request));
+        if (waitNanos > 0) {
+            meterRegistry.counter("http.rate_limited", "policy", policy.getName()).increment();
+            ErrorCode errorCode = ErrorCode.TOO_MANY_REQUESTS;
+            response.setStatus(errorCode.getStatus().value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(toRetryAfterSeconds(waitNanos)));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            objectMapper.writeValue(response.getWriter(), ErrorResponse.of(errorCode));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimitProperties.Policy findPolicy(String uri) {
+        for (RateLimitProperties.Policy policy : rateLimitProperties.getPolicies()) {
+            if (pathMatcher.match(policy.getPattern(), uri)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    // 로그인 사용자는 userId, 아니면 IP
+    private String resolveSubject(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return "user:" + userDetails.getUserId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    // Retry-After는 초 단위 정수 (올림)
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimitProperties.isEnabled();
+    }
+}
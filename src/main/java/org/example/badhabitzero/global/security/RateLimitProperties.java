@@ -0,0 +1,51 @@
+package org.example.badhabitzero.global.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private int maxKeys = 100_000;                              // 버킷 최대 개수 (넘으면 가장 오래 쓰지 않은 버킷 제거)
+    private Duration idleTimeout = Duration.ofMinutes(10);      // 이 시간 동안 가득 차 있던 버킷은 정리
+
+    // 경로별 정책 (위에서부터 처음 일치하는 정책 적용, 일치하지 않으면 제한 없음)
+    private List<Policy> policies = defaultPolicies();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Policy {
+        private String name;
+        private String pattern;                                 // Ant 경로 패턴
+        private int capacity;                                   // 버킷 크기 (순간 허용량)
+        private int refillTokens;                               // refillPeriod 동안 채워지는 토큰 수
+        private Duration refillPeriod;
+
+        // 토큰 1개가 채워지는 간격
+        public long intervalNanos() {
+            return refillPeriod.toNanos() / Math.max(1, refillTokens);
+        }
+    }
+
+    private static List<Policy> defaultPolicies() {
+        List<Policy> policies = new ArrayList<>();
+        policies.add(new Policy("ai-test", "/api/ai/test", 3, 3, Duration.ofMinutes(1)));
+        policies.add(new Policy("ai", "/api/ai/**", 20, 60, Duration.ofMinutes(1)));
+        policies.add(new Policy("auth", "/api/auth/**", 10, 10, Duration.ofMinutes(1)));
+        return policies;
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.badhabitzero.global.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * (정책, 주체)별 토큰 버킷
+ *
+ * - 버킷 상태는 "다음 토큰이 채워지는 시각" 하나로 표현하고 CAS로만 갱신
+ * - 버킷 맵은 키 해시로 나눈 LRU 세그먼트 (세그먼트마다 maxKeys / SEGMENTS 개, 넘으면 가장 오래 쓰지 않은 버킷 제거)
+ * - 요청 경로에서는 O(1) 조회/삽입만, 가득 찬 채로 idleTimeout이 지난 버킷은 스케줄러에서 정리 (정리해도 잃는 상태 없음)
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    // 세그먼트 수 (2의 거듭제곱, 세그먼트 락 경합 분산)
+    private static final int SEGMENTS = 16;
+
+    private final RateLimitProperties rateLimitProperties;
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    public RateLimiter(RateLimitProperties rateLimitProperties) {
+        this.rateLimitProperties = rateLimitProperties;
+        int maxKeysPerSegment = Math.max(1, rateLimitProperties.getMaxKeys() / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(maxKeysPerSegment);
+        }
+    }
+
+    /**
+     * 토큰 1개 사용
+     *
+     * @return 0이면 허용, 아니면 토큰이 생길 때까지 남은 나노초
+     */
+    public long tryAcquire(RateLimitProperties.Policy policy, String subject) {
+        long now = System.nanoTime();
+        String key = policy.getName() + ":" + subject;
+        Bucket bucket = segmentFor(key).getOrCreate(key, now);
+        return bucket.tryAcquire(now, policy.intervalNanos(), policy.getCapacity());
+    }
+
+    private Segment segmentFor(String key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    /**
+     * 오래 쓰지 않은 버킷 정리
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.idle-timeout:10m}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        long idleNanos = rateLimitProperties.getIdleTimeout().toNanos();
+        int removed = 0;
+        for (Segment segment : segments) {
+            removed += segment.evictIdle(now, idleNanos);
+        }
+        log.debug("요청 제한 버킷 정리: {}개 제거", removed);
+    }
+
+    // 접근 순서 LinkedHashMap (조회/삽입/LRU 제거 모두 O(1))
+    private static final class Segment {
+
+        private final Map<String, Bucket> buckets;
+
+        Segment(int maxKeys) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+
+        synchronized Bucket getOrCreate(String key, long now) {
+            return buckets.computeIfAbsent(key, k -> new Bucket(now));
+        }
+
+        synchronized int evictIdle(long now, long idleNanos) {
+            int before = buckets.size();
+            buckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+            return before - buckets.size();
+        }
+    }
+
+    static final class Bucket {
+
+        // 다음 토큰이 채워지는 시각 (현재 이하이면 버킷이 가득 찬 상태)
+        private final AtomicLong nextRefillAt;
+
+        Bucket(long now) {
+            this.nextRefillAt = new AtomicLong(now);
+        }
+
+        long tryAcquire(long now, long intervalNanos, int capacity) {
+            while (true) {
+                long current = nextRefillAt.get();
+                long next = Math.max(current, now) + intervalNanos;
+                // 사용한 토큰이 capacity를 넘으면 초과분만큼 기다려야 함
+                long waitNanos = next - now - capacity * intervalNanos;
+                if (waitNanos > 0) {
+                    return waitNanos;
+                }
+                if (nextRefillAt.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        boolean isIdle(long now, long idleNanos) {
+            return now - nextRefillAt.get() > idleNanos;
+        }
+    }
+}
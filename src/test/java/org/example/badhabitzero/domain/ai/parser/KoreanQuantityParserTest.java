@@ -0,0 +1,135 @@
+package org.example.badhabitzero.domain.ai.parser;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class KoreanQuantityParserTest {
+
+    private static final double DAY = 1.0 / 7;
+    private static final double MONTH = 30.4375 / 7;
+
+    static Stream<Arguments> money() {
+        return Stream.of(
+                arguments("만원 정도", 10_000.0),
+                arguments("삼만원", 30_000.0),
+                arguments("1,500원", 1_500.0),
+                arguments("3.5만원", 35_000.0),
+                arguments("1만 5천원", 15_000.0),
+                arguments("이만 오천원", 25_000.0),
+                arguments("2~3만원", 25_000.0),           // 앞 숫자에 뒤 숫자의 단위 적용
+                arguments("5천원에서 만원", 7_500.0)
+        );
+    }
+
+    @ParameterizedTest(name = "[{index}] \"{0}\" → {1}원")
+    @MethodSource("money")
+    @DisplayName("금액: 한자어/아라비아 숫자, 단위 혼용, 범위는 중간값")
+    void parsesMoney(String text, double expected) {
+        ParsedAnswer parsed = KoreanQuantityParser.parse(text);
+
+        assertThat(parsed.hasMoney()).isTrue();
+        assertThat(parsed.getMoney()).isCloseTo(expected, within(1e-6));
+    }
+
+    static Stream<Arguments> weeklyFrequency() {
+        return Stream.of(
+                arguments("일주일에 두세번", 2.5),
+                arguments("주 3회", 3.0),
+                arguments("매일", 7.0),
+                arguments("주말마다", 1.0),
+                arguments("한 달에 4번", 4 / MONTH),
+                arguments("한두 번", 1.5),              // 기간 없으면 주 단위 답으로 간주
+                arguments("2,3번", 2.5)
+        );
+    }
+
+    @ParameterizedTest(name = "[{index}] \"{0}\" → 주당 {1}회")
+    @MethodSource("weeklyFrequency")
+    @DisplayName("빈도: 기간 키워드, 한 글자 기간, 고유어 범위 수사")
+    void parsesWeeklyFrequency(String text, double expected) {
+        ParsedAnswer parsed = KoreanQuantityParser.parse(text);
+
+        assertThat(parsed.hasFrequency()).isTrue();
+        assertThat(parsed.weeklyFrequency()).isCloseTo(expected, within(1e-6));
+    }
+
+    static Stream<Arguments> minutes() {
+        return Stream.of(
+                arguments("1시간 반", 90.0),
+                arguments("2시간 30분", 150.0),
+                arguments("1~2시간", 90.0),
+                arguments("40분", 40.0)
+        );
+    }
+
+    @ParameterizedTest(name = "[{index}] \"{0}\" → {1}분")
+    @MethodSource("minutes")
+    @DisplayName("소요 시간: 시간+반, 시간+분, 범위")
+    void parsesMinutes(String text, double expected) {
+        ParsedAnswer parsed = KoreanQuantityParser.parse(text);
+
+        assertThat(parsed.hasMinutes()).isTrue();
+        assertThat(parsed.getMinutes()).isCloseTo(expected, within(1e-6));
+    }
+
+    static Stream<Arguments> quantity() {
+        return Stream.of(
+                arguments("하루에 반 갑", 0.5, "갑", DAY),
+                arguments("서너 잔", 3.5, "잔", Double.NaN),
+                arguments("열두 개비", 12.0, "개비", Double.NaN),
+                arguments("스무 개", 20.0, "개", Double.NaN),
+                arguments("한 번에 두 병", 2.0, "병", Double.NaN)   // "한 번에"는 1회당, 횟수 아님
+        );
+    }
+
+    @ParameterizedTest(name = "[{index}] \"{0}\" → {1}{2}")
+    @MethodSource("quantity")
+    @DisplayName("수량: 반/한/두/서너/열두/스무 같은 고유어 수사")
+    void parsesQuantity(String text, double expected, String unit, double periodWeeks) {
+        ParsedAnswer parsed = KoreanQuantityParser.parse(text);
+
+        assertThat(parsed.hasQuantity()).isTrue();
+        assertThat(parsed.getQuantity()).isCloseTo(expected, within(1e-6));
+        assertThat(parsed.getQuantityUnit()).isEqualTo(unit);
+        if (Double.isNaN(periodWeeks)) {
+            assertThat(parsed.getQuantityPeriodWeeks()).isNaN();
+        } else {
+            assertThat(parsed.getQuantityPeriodWeeks()).isCloseTo(periodWeeks, within(1e-6));
+        }
+    }
+
+    @Test
+    @DisplayName("횟수 없이 기간만 있으면 금액은 그 기간의 합계")
+    void moneyWithPeriodIsPeriodTotal() {
+        ParsedAnswer parsed = KoreanQuantityParser.parse("한 달에 10만원");
+
+        assertThat(parsed.getMoney()).isCloseTo(100_000, within(1e-6));
+        assertThat(parsed.getMoneyPeriodWeeks()).isCloseTo(MONTH, within(1e-6));
+        assertThat(parsed.hasFrequency()).isFalse();
+    }
+
+    @ParameterizedTest(name = "[{index}] \"{0}\"")
+    @ValueSource(strings = {"잘 모르겠어요", "그냥 가끔", "두 번째", "   "})
+    @DisplayName("수치가 없거나 서수뿐인 답변은 빈 결과")
+    void returnsEmptyForUnparseable(String text) {
+        assertThat(KoreanQuantityParser.parse(text).isEmpty()).isTrue();
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @DisplayName("null/빈 문자열은 빈 결과")
+    void returnsEmptyForNullOrEmpty(String text) {
+        assertThat(KoreanQuantityParser.parse(text).isEmpty()).isTrue();
+    }
+}
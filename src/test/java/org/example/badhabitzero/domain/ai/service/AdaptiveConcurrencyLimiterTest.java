@@ -0,0 +1,124 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.badhabitzero.domain.ai.config.AiLimiterProperties;
+import org.example.badhabitzero.global.error.BusinessException;
+import org.example.badhabitzero.global.error.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final Duration NO_WAIT = Duration.ofMillis(20);
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private AiLimiterProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AiLimiterProperties();
+        properties.setInitialLimit(4);
+        properties.setMaxQueue(10);
+    }
+
+    private AdaptiveConcurrencyLimiter limiter() {
+        return new AdaptiveConcurrencyLimiter("test", properties, new SimpleMeterRegistry());
+    }
+
+    private static List<AdaptiveConcurrencyLimiter.Permit> acquire(AdaptiveConcurrencyLimiter limiter, int count) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(limiter.acquire(NO_WAIT));
+        }
+        return permits;
+    }
+
+    @Test
+    @DisplayName("한도만큼 허가하고, 초과 요청은 대기 시간이 지나면 AI_OVERLOADED")
+    void rejectsBeyondLimitAfterWaiting() {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        List<AdaptiveConcurrencyLimiter.Permit> permits = acquire(limiter, 4);
+
+        assertThatThrownBy(() -> limiter.acquire(NO_WAIT))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.AI_OVERLOADED);
+        assertThat(limiter.getRejected().sum()).isEqualTo(1);
+
+        permits.get(0).close();
+        assertThat(limiter.acquire(NO_WAIT)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("동시에 실패한 호출들은 한도를 한 번만 줄이고, 감소 이후 시작한 호출의 실패는 다시 줄인다")
+    void decreasesOncePerRoundTrip() {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        List<AdaptiveConcurrencyLimiter.Permit> permits = acquire(limiter, 4);
+        for (AdaptiveConcurrencyLimiter.Permit permit : permits) {
+            permit.onDropped();
+            permit.close();
+        }
+        assertThat(limiter.getLimit()).isCloseTo(4 * 0.7, within(1e-9));
+
+        AdaptiveConcurrencyLimiter.Permit later = limiter.acquire(NO_WAIT);
+        later.onDropped();
+        later.close();
+        assertThat(limiter.getLimit()).isCloseTo(4 * 0.7 * 0.7, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("빠른 응답은 한도를 1/limit 늘리고, 최소 지연의 tolerance 배를 넘는 응답은 줄인다")
+    void adjustsLimitByLatency() {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        List<AdaptiveConcurrencyLimiter.Permit> busy = acquire(limiter, 2);   // 한도의 절반 이상 사용 중
+
+        AdaptiveConcurrencyLimiter.Permit fast = limiter.acquire(NO_WAIT);
+        fast.onSuccess(10 * MILLI);
+        fast.close();
+        assertThat(limiter.getLimit()).isCloseTo(4.25, within(1e-9));
+
+        AdaptiveConcurrencyLimiter.Permit slow = limiter.acquire(NO_WAIT);
+        slow.onSuccess(30 * MILLI);
+        slow.close();
+        assertThat(limiter.getLimit()).isCloseTo(4.25 * 0.7, within(1e-9));
+
+        busy.forEach(AdaptiveConcurrencyLimiter.Permit::close);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("결과를 기록하지 않고 닫은 허가는 한도를 바꾸지 않고, 두 번 닫아도 한 번만 반납한다")
+    void ignoredPermitKeepsLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire(NO_WAIT);
+        permit.close();
+        permit.close();
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("백그라운드 레인은 한도의 backgroundShare까지만 쓰고 대화형은 남은 한도를 쓴다")
+    void backgroundLaneUsesShareOfLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter();
+        AiPriority.runAs(AiPriority.BACKGROUND, () -> {
+            acquire(limiter, 2);
+            assertThatThrownBy(() -> limiter.acquire(NO_WAIT))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.AI_OVERLOADED);
+        });
+
+        acquire(limiter, 2);
+        assertThat(limiter.getInFlight()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.badhabitzero.domain.ai.config.AiSessionSnapshotProperties;
+import org.example.badhabitzero.domain.ai.dto.ChatMessageResponse;
+import org.example.badhabitzero.domain.ai.dto.ValueResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatSessionSnapshotterTest {
+
+    @TempDir
+    Path directory;
+
+    private ChatSessionManager chatSessionManager;
+    private AiSessionSnapshotProperties snapshotProperties;
+    private ChatSessionSnapshotter snapshotter;
+
+    @BeforeEach
+    void setUp() {
+        chatSessionManager = new ChatSessionManager();
+        snapshotProperties = new AiSessionSnapshotProperties();
+        snapshotProperties.setDirectory(directory.toString());
+        snapshotter = new ChatSessionSnapshotter(chatSessionManager, snapshotProperties,
+                new ThreadPoolTaskExecutor(), new ObjectMapper());
+    }
+
+    private ChatSessionManager.ChatSession answeredSession() {
+        ChatSessionManager.ChatSession session = chatSessionManager.createSession(
+                "커피", "CAFFEINE", null, List.of("한 번에 얼마 정도 쓰세요?", "일주일에 몇 번 드세요?"));
+        chatSessionManager.addAnswer(session.getSessionId(), "4500원");
+        session.getTurns().put(1, CompletableFuture.completedFuture(ChatMessageResponse.builder()
+                .seq(1)
+                .message("일주일에 몇 번 드세요?")
+                .questionNumber(2)
+                .totalQuestions(2)
+                .estimate(ValueResult.builder()
+                        .value(6000)
+                        .breakdown(ValueResult.Breakdown.builder().directCost(4500).healthCost(1500).build())
+                        .sources(List.of("기본 추정"))
+                        .provisional(true)
+                        .build())
+                .build()));
+        return session;
+    }
+
+    @Test
+    @DisplayName("저장한 세션과 마지막 응답을 그대로 읽어온다")
+    void roundTripsSessionsAndLastTurn() throws IOException {
+        ChatSessionManager.ChatSession session = answeredSession();
+        Path file = directory.resolve("chat-sessions-a.bin");
+
+        snapshotter.write(file, List.of(session));
+        List<ChatSessionManager.ChatSession> read = snapshotter.read(file);
+
+        assertThat(read).hasSize(1);
+        ChatSessionManager.ChatSession restored = read.get(0);
+        assertThat(restored.getSessionId()).isEqualTo(session.getSessionId());
+        assertThat(restored.getHabitName()).isEqualTo("커피");
+        assertThat(restored.getReason()).isNull();
+        assertThat(restored.getQuestions()).isEqualTo(session.getQuestions());
+        assertThat(restored.getAnswers()).containsExactly("4500원");
+        assertThat(restored.getCurrentQuestionIndex()).isEqualTo(1);
+        assertThat(restored.getExpiresAt()).isEqualToIgnoringNanos(session.getExpiresAt());
+
+        ChatMessageResponse turn = restored.getTurns().get(1).join();
+        assertThat(turn.getSeq()).isEqualTo(1);
+        assertThat(turn.getMessage()).isEqualTo("일주일에 몇 번 드세요?");
+        assertThat(turn.isComplete()).isFalse();
+        assertThat(turn.getValueResult()).isNull();
+        assertThat(turn.getEstimate().getValue()).isEqualTo(6000);
+        assertThat(turn.getEstimate().getBreakdown().getHealthCost()).isEqualTo(1500);
+        assertThat(turn.getEstimate().isProvisional()).isTrue();
+    }
+
+    @Test
+    @DisplayName("내용이 손상되면 CRC 불일치로 거절한다")
+    void rejectsCorruptedFile() throws IOException {
+        Path file = directory.resolve("chat-sessions-a.bin");
+        snapshotter.write(file, List.of(answeredSession()));
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(file, bytes);
+
+        assertThatThrownBy(() -> snapshotter.read(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("CRC");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 버전이면 CRC가 맞아도 거절한다")
+    void rejectsUnsupportedVersion() throws IOException {
+        Path file = directory.resolve("chat-sessions-a.bin");
+        snapshotter.write(file, List.of(answeredSession()));
+
+        // 버전(magic 다음 short)을 바꾸고 CRC 다시 계산
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        buffer.putShort(Integer.BYTES, (short) 99);
+        int dataSize = buffer.capacity() - Integer.BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, dataSize);
+        buffer.putInt(dataSize, (int) crc.getValue());
+        Files.write(file, buffer.array());
+
+        assertThatThrownBy(() -> snapshotter.read(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("버전");
+    }
+
+    @Test
+    @DisplayName("시작하면 디렉터리의 인스턴스별 스냅샷을 모두 복원하고 파일을 지운다")
+    void startRestoresEverySnapshotInDirectory() throws IOException {
+        ChatSessionManager other = new ChatSessionManager();
+        ChatSessionSnapshotter otherSnapshotter = new ChatSessionSnapshotter(other, snapshotProperties,
+                new ThreadPoolTaskExecutor(), new ObjectMapper());
+        ChatSessionManager.ChatSession first = other.createSession("커피", "CAFFEINE", null, List.of("질문"));
+        ChatSessionManager.ChatSession second = other.createSession("담배", "SMOKING", null, List.of("질문"));
+        ChatSessionManager.ChatSession expired = other.createSession("술", "DRINKING", null, List.of("질문"));
+        expired.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        otherSnapshotter.write(directory.resolve("chat-sessions-a.bin"), List.of(first, expired));
+        otherSnapshotter.write(directory.resolve("chat-sessions-b.bin"), List.of(second));
+
+        snapshotter.start();
+
+        assertThat(chatSessionManager.liveSessions())
+                .extracting(ChatSessionManager.ChatSession::getSessionId)
+                .containsExactlyInAnyOrder(first.getSessionId(), second.getSessionId());
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("시작 후 늦게 생긴 스냅샷은 주기 확인에서 복원한다")
+    void pollRestoresLateSnapshot() throws IOException {
+        snapshotter.start();
+        ChatSessionManager other = new ChatSessionManager();
+        ChatSessionManager.ChatSession late = other.createSession("커피", "CAFFEINE", null, List.of("질문"));
+        snapshotter.write(directory.resolve("chat-sessions-late.bin"), List.of(late));
+
+        snapshotter.poll();
+
+        assertThat(chatSessionManager.liveSessions())
+                .extracting(ChatSessionManager.ChatSession::getSessionId)
+                .containsExactly(late.getSessionId());
+    }
+}
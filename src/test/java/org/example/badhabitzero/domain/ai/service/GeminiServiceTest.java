@@ -0,0 +1,77 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.badhabitzero.domain.ai.config.AiDegradedProperties;
+import org.example.badhabitzero.domain.ai.config.GeminiProperties;
+import org.example.badhabitzero.global.error.BusinessException;
+import org.example.badhabitzero.global.error.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GeminiServiceTest {
+
+    private GeminiCircuitBreaker circuitBreaker;
+    private AdaptiveConcurrencyLimiter generateLimiter;
+    private GeminiService geminiService;
+
+    @BeforeEach
+    void setUp() {
+        // 한 번 실패하면 열리고, 대기 시간 없이 바로 시험 호출 가능
+        AiDegradedProperties degradedProperties = new AiDegradedProperties();
+        degradedProperties.setFailureThreshold(1);
+        degradedProperties.setOpenDuration(Duration.ZERO);
+        circuitBreaker = new GeminiCircuitBreaker(degradedProperties, new SimpleMeterRegistry());
+
+        GeminiProperties geminiProperties = new GeminiProperties();
+        geminiProperties.setModel("gemini-2.5-flash");
+        geminiProperties.setApiKey("test-key");
+
+        generateLimiter = mock(AdaptiveConcurrencyLimiter.class);
+        AiConcurrencyLimiters concurrencyLimiters = mock(AiConcurrencyLimiters.class);
+        when(concurrencyLimiters.getGenerate()).thenReturn(generateLimiter);
+        when(concurrencyLimiters.queueTimeout()).thenReturn(Duration.ofSeconds(1));
+
+        AiQuotaService aiQuotaService = mock(AiQuotaService.class);
+        when(aiQuotaService.tryAcquire()).thenReturn(true);
+
+        geminiService = new GeminiService(geminiProperties, new ObjectMapper(), mock(WebClient.class),
+                concurrencyLimiters, circuitBreaker, mock(AiCallJournal.class), aiQuotaService);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 동시 호출 한도에서 거절되면 서킷이 HALF_OPEN에 머무르지 않는다")
+    void probeRejectedByLimiterReopensCircuit() {
+        circuitBreaker.onFailure();
+        when(generateLimiter.acquire(any())).thenThrow(new BusinessException(ErrorCode.AI_OVERLOADED));
+
+        assertThatThrownBy(() -> geminiService.generate("prompt"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.AI_OVERLOADED);
+
+        // 다음 호출이 다시 시험 호출을 맡을 수 있어야 함
+        assertThat(circuitBreaker.isOpen()).isFalse();
+        assertThat(circuitBreaker.tryAcquire()).isEqualTo(GeminiCircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    @DisplayName("서킷이 닫혀 있을 때 한도에서 거절되어도 서킷 상태는 바뀌지 않는다")
+    void limiterRejectionWhileClosedKeepsCircuitClosed() {
+        when(generateLimiter.acquire(any())).thenThrow(new BusinessException(ErrorCode.AI_OVERLOADED));
+
+        assertThatThrownBy(() -> geminiService.generate("prompt")).isInstanceOf(BusinessException.class);
+
+        assertThat(circuitBreaker.tryAcquire()).isEqualTo(GeminiCircuitBreaker.State.CLOSED);
+    }
+}
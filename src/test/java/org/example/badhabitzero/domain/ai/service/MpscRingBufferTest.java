@@ -0,0 +1,98 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("크기는 2의 거듭제곱으로 올림한다")
+    void roundsCapacityUpToPowerOfTwo() {
+        assertThat(new MpscRingBuffer<String>(4).capacity()).isEqualTo(4);
+        assertThat(new MpscRingBuffer<String>(5).capacity()).isEqualTo(8);
+        assertThat(new MpscRingBuffer<String>(1_000).capacity()).isEqualTo(1_024);
+    }
+
+    @Test
+    @DisplayName("가득 차면 기다리지 않고 버리고, 넣은 순서대로 limit개씩 꺼낸다")
+    void dropsWhenFullAndDrainsInOrder() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drain(drained, 3)).isEqualTo(3);
+        assertThat(drained).containsExactly(0, 1, 2);
+
+        // 꺼낸 자리만큼 다시 넣을 수 있음 (한 바퀴 돌아 같은 칸 재사용)
+        assertThat(buffer.offer(5)).isTrue();
+        assertThat(buffer.offer(6)).isTrue();
+        assertThat(buffer.offer(7)).isTrue();
+        assertThat(buffer.offer(8)).isFalse();
+
+        drained.clear();
+        assertThat(buffer.drain(drained, 10)).isEqualTo(4);
+        assertThat(drained).containsExactly(3, 5, 6, 7);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 생산자와 소비자 1개가 동시에 써도 넣은 항목을 빠짐없이, 생산자별 순서대로 꺼낸다")
+    void concurrentProducersLoseNothing() throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(256);
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        List<Future<Integer>> accepted = new ArrayList<>();
+        try {
+            for (int p = 0; p < producers; p++) {
+                long producer = p;
+                accepted.add(executor.submit(() -> {
+                    start.await();
+                    int count = 0;
+                    for (int i = 0; i < perProducer; i++) {
+                        if (buffer.offer(new long[]{producer, i})) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }));
+            }
+
+            start.countDown();
+            List<long[]> drained = new ArrayList<>();
+            while (!accepted.stream().allMatch(Future::isDone) || buffer.size() > 0) {
+                buffer.drain(drained, 64);
+            }
+
+            int total = 0;
+            for (Future<Integer> future : accepted) {
+                total += future.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(drained).hasSize(total);
+
+            long[] last = {-1, -1, -1, -1};
+            for (long[] item : drained) {
+                assertThat(item[1]).isGreaterThan(last[(int) item[0]]);
+                last[(int) item[0]] = item[1];
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
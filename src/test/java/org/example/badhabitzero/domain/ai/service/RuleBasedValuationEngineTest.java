@@ -0,0 +1,49 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import org.example.badhabitzero.domain.ai.config.AiValuationProperties;
+import org.example.badhabitzero.domain.ai.dto.ValueResult;
+import org.example.badhabitzero.domain.ai.parser.KoreanQuantityParser;
+import org.example.badhabitzero.domain.ai.parser.ParsedAnswer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RuleBasedValuationEngineTest {
+
+    private final RuleBasedValuationEngine engine = new RuleBasedValuationEngine(new AiValuationProperties());
+
+    private int directCost(String category, String answer) {
+        ValueResult result = engine.evaluate(category, KoreanQuantityParser.parse(answer));
+        return result.getBreakdown().getDirectCost();
+    }
+
+    @Test
+    @DisplayName("흡연: 한 갑 가격으로 답하면 개비당 가격으로 환산")
+    void smokingMoneyPerPackIsConvertedToPerUnit() {
+        assertThat(directCost("SMOKING", "한 갑에 5천원")).isEqualTo(250);
+    }
+
+    @Test
+    @DisplayName("흡연: 기간 합계 금액은 기간 내 개비 수로 나눔")
+    void smokingMoneyPerPeriodIsDividedByFrequency() {
+        // 하루 한 갑(주 140개비)이면 한 달 약 609개비
+        ParsedAnswer parsed = KoreanQuantityParser.parse("한 달에 14만원")
+                .mergeMissing(KoreanQuantityParser.parse("하루에 한 갑"));
+
+        assertThat(engine.evaluate("SMOKING", parsed).getBreakdown().getDirectCost()).isEqualTo(230);
+    }
+
+    @Test
+    @DisplayName("흡연: 금액이 없거나 무엇의 가격인지 모르면 기본 단가")
+    void smokingWithoutUsableMoneyUsesProfilePrice() {
+        assertThat(directCost("SMOKING", "하루에 반 갑")).isEqualTo(225);
+        assertThat(directCost("SMOKING", "5천원")).isEqualTo(225);
+    }
+
+    @Test
+    @DisplayName("지출형 카테고리는 답변 금액이 그대로 1회 비용")
+    void spendingCategoryUsesMoneyPerUse() {
+        assertThat(directCost("CAFFEINE", "한 번에 6천원")).isEqualTo(6000);
+    }
+}
@@ -0,0 +1,196 @@
+package org.example.badhabitzero.domain.ai.service;
+
+import org.example.badhabitzero.domain.ai.config.AiDegradedProperties;
+import org.example.badhabitzero.domain.ai.config.AiValuationProperties;
+import org.example.badhabitzero.domain.ai.dto.ChatMessageRequest;
+import org.example.badhabitzero.domain.ai.dto.ChatMessageResponse;
+import org.example.badhabitzero.domain.ai.dto.ValueResult;
+import org.example.badhabitzero.global.error.BusinessException;
+import org.example.badhabitzero.global.error.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ValueAnalysisServiceChatTest {
+
+    private ChatSessionManager chatSessionManager;
+    private RuleBasedValuationEngine valuationEngine;
+    private ValueAnalysisService valueAnalysisService;
+
+    @BeforeEach
+    void setUp() {
+        chatSessionManager = new ChatSessionManager();
+        valuationEngine = mock(RuleBasedValuationEngine.class);
+        when(valuationEngine.supports(anyString())).thenReturn(true);
+
+        // 규칙 기반 + fast 세션이라 최종 산정에서 원격 호출은 없음
+        valueAnalysisService = new ValueAnalysisService(null, null, chatSessionManager, null, valuationEngine,
+                new AiValuationProperties(), null, null, null, mock(GeminiCircuitBreaker.class),
+                new AiDegradedProperties(), null, null, null);
+    }
+
+    @Test
+    @DisplayName("마지막 답변의 최종 산정이 실패하면 같은 순번으로 다시 보내 처리할 수 있다")
+    void failedFinalTurnCanBeRetriedWithSameSeq() {
+        ChatSessionManager.ChatSession session = chatSessionManager.createSession(
+                "커피", "FOOD", null, List.of("한 번에 얼마 정도 쓰세요?", "일주일에 몇 번 드세요?"));
+        session.setFast(true);
+
+        when(valuationEngine.evaluate(anyString(), any()))
+                .thenReturn(ValueResult.builder().value(1000).build())         // 1번 답변 임시 추정치
+                .thenThrow(new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR))  // 최종 산정 실패
+                .thenReturn(ValueResult.builder().value(4500).build());        // 재시도
+
+        assertThat(valueAnalysisService.handleChatMessage(message(session, 1, "4500원")).isComplete()).isFalse();
+
+        assertThatThrownBy(() -> valueAnalysisService.handleChatMessage(message(session, 2, "일주일에 세 번")))
+                .isInstanceOf(BusinessException.class);
+        assertThat(session.getCurrentQuestionIndex()).isEqualTo(1);
+        assertThat(session.getAnswers()).containsExactly("4500원");
+
+        ChatMessageResponse retried = valueAnalysisService.handleChatMessage(message(session, 2, "일주일에 세 번"));
+
+        assertThat(retried.isComplete()).isTrue();
+        assertThat(retried.getValueResult().getValue()).isEqualTo(4500);
+        assertThat(session.getAnswers()).containsExactly("4500원", "일주일에 세 번");
+    }
+
+    @Test
+    @DisplayName("완료된 세션에 질문 수를 넘는 순번이 오면 최종 산정을 다시 하지 않고 마지막 응답을 반환한다")
+    void seqAfterCompletionReturnsFinalTurn() {
+        ChatSessionManager.ChatSession session = chatSessionManager.createSession(
+                "커피", "FOOD", null, List.of("한 번에 얼마 정도 쓰세요?", "일주일에 몇 번 드세요?"));
+        session.setFast(true);
+        when(valuationEngine.evaluate(anyString(), any()))
+                .thenReturn(ValueResult.builder().value(1000).build())
+                .thenReturn(ValueResult.builder().value(4500).build());
+
+        valueAnalysisService.handleChatMessage(message(session, 1, "4500원"));
+        ChatMessageResponse last = valueAnalysisService.handleChatMessage(message(session, 2, "일주일에 세 번"));
+
+        ChatMessageResponse extra = valueAnalysisService.handleChatMessage(message(session, 3, "하나 더"));
+
+        assertThat(extra).isSameAs(last);
+        assertThat(session.getAnswers()).containsExactly("4500원", "일주일에 세 번");
+        verify(valuationEngine, times(2)).evaluate(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("시작하지 않은 세션에 질문 수를 넘는 순번이 오면 거절한다")
+    void seqBeyondQuestionsIsRejectedBeforeCompletion() {
+        ChatSessionManager.ChatSession session = chatSessionManager.createSession(
+                "커피", "FOOD", null, List.of("한 번에 얼마 정도 쓰세요?"));
+
+        assertThatThrownBy(() -> valueAnalysisService.handleChatMessage(message(session, 2, "4500원")))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.AI_CHAT_OUT_OF_ORDER);
+        assertThat(session.getAnswers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("마지막 순번 처리 중 다음 순번이 오면 답변을 추가하지 않고, 마지막 순번이 실패해도 그 답변만 되돌린다")
+    void nextSeqDuringFinalTurnDoesNotAppendAnswer() throws Exception {
+        ChatSessionManager.ChatSession session = chatSessionManager.createSession(
+                "커피", "FOOD", null, List.of("한 번에 얼마 정도 쓰세요?", "일주일에 몇 번 드세요?"));
+        session.setFast(true);
+
+        CountDownLatch finalStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(valuationEngine.evaluate(anyString(), any()))
+                .thenReturn(ValueResult.builder().value(1000).build())
+                .thenAnswer(invocation -> {
+                    finalStarted.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+                })
+                .thenReturn(ValueResult.builder().value(4500).build());
+
+        valueAnalysisService.handleChatMessage(message(session, 1, "4500원"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ChatMessageResponse> finalTurn = executor.submit(
+                    () -> valueAnalysisService.handleChatMessage(message(session, 2, "일주일에 세 번")));
+            assertThat(finalStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 마지막 순번 응답을 기다리다 같은 실패를 받음 (답변은 추가하지 않음)
+            Future<ChatMessageResponse> extraTurn = executor.submit(
+                    () -> valueAnalysisService.handleChatMessage(message(session, 3, "하나 더")));
+            release.countDown();
+
+            assertThatThrownBy(finalTurn::get).hasCauseInstanceOf(BusinessException.class);
+            assertThatThrownBy(extraTurn::get).hasCauseInstanceOf(BusinessException.class);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(session.getAnswers()).containsExactly("4500원");
+        assertThat(session.getCurrentQuestionIndex()).isEqualTo(1);
+
+        ChatMessageResponse retried = valueAnalysisService.handleChatMessage(message(session, 2, "일주일에 세 번"));
+        assertThat(retried.getValueResult().getValue()).isEqualTo(4500);
+        assertThat(session.getAnswers()).containsExactly("4500원", "일주일에 세 번");
+    }
+
+    @Test
+    @DisplayName("이전 순번을 처리하는 동안 다음 순번은 시작하지 않는다")
+    void nextSeqWaitsForInFlightTurn() throws Exception {
+        ChatSessionManager.ChatSession session = chatSessionManager.createSession(
+                "커피", "FOOD", null, List.of("한 번에 얼마 정도 쓰세요?", "일주일에 몇 번 드세요?", "몇 잔 드세요?"));
+        session.setFast(true);
+
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(valuationEngine.evaluate(anyString(), any()))
+                .thenAnswer(invocation -> {
+                    firstStarted.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return ValueResult.builder().value(1000).build();
+                })
+                .thenReturn(ValueResult.builder().value(2000).build());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<ChatMessageResponse> first = executor.submit(
+                    () -> valueAnalysisService.handleChatMessage(message(session, 1, "4500원")));
+            assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> valueAnalysisService.handleChatMessage(message(session, 2, "일주일에 세 번")))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.AI_CHAT_OUT_OF_ORDER);
+
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS).isComplete()).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 앞 순번이 반영된 뒤에는 다시 보내면 처리됨
+        assertThat(valueAnalysisService.handleChatMessage(message(session, 2, "일주일에 세 번")).isComplete()).isFalse();
+        assertThat(session.getAnswers()).containsExactly("4500원", "일주일에 세 번");
+    }
+
+    private static ChatMessageRequest message(ChatSessionManager.ChatSession session, int seq, String text) {
+        ChatMessageRequest request = new ChatMessageRequest();
+        request.setSessionId(session.getSessionId());
+        request.setSeq(seq);
+        request.setMessage(text);
+        return request;
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.badhabitzero.global.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // 버킷 3개, 1초에 1개씩 채움
+    private static RateLimitProperties properties(int maxKeys) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxKeys(maxKeys);
+        properties.setPolicies(List.of(
+                new RateLimitProperties.Policy("test", "/api/test/**", 3, 3, Duration.ofSeconds(3))));
+        return properties;
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷은 capacity만큼 연속 허용하고 그다음은 한 간격을 기다리게 한다")
+    void burstIsCapacityThenWaitsOneInterval() {
+        RateLimiter.Bucket bucket = new RateLimiter.Bucket(0);
+
+        assertThat(bucket.tryAcquire(0, SECOND, 3)).isZero();
+        assertThat(bucket.tryAcquire(0, SECOND, 3)).isZero();
+        assertThat(bucket.tryAcquire(0, SECOND, 3)).isZero();
+        assertThat(bucket.tryAcquire(0, SECOND, 3)).isEqualTo(SECOND);
+
+        // 거절된 요청은 토큰을 쓰지 않음
+        assertThat(bucket.tryAcquire(SECOND / 2, SECOND, 3)).isEqualTo(SECOND / 2);
+    }
+
+    @Test
+    @DisplayName("한 간격이 지나면 토큰 1개, capacity 간격이 지나면 다시 가득 찬다")
+    void refillsOneTokenPerInterval() {
+        RateLimiter.Bucket bucket = new RateLimiter.Bucket(0);
+        for (int i = 0; i < 3; i++) {
+            bucket.tryAcquire(0, SECOND, 3);
+        }
+
+        assertThat(bucket.tryAcquire(SECOND, SECOND, 3)).isZero();
+        assertThat(bucket.tryAcquire(SECOND, SECOND, 3)).isPositive();
+
+        long full = 10 * SECOND;
+        assertThat(bucket.isIdle(full, SECOND)).isTrue();
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryAcquire(full, SECOND, 3)).isZero();
+        }
+        assertThat(bucket.tryAcquire(full, SECOND, 3)).isEqualTo(SECOND);
+    }
+
+    @Test
+    @DisplayName("주체별로 버킷이 따로 있다")
+    void subjectsHaveSeparateBuckets() {
+        RateLimiter rateLimiter = new RateLimiter(properties(1_000));
+        RateLimitProperties.Policy policy = properties(1_000).getPolicies().get(0);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire(policy, "user:1")).isZero();
+        }
+        assertThat(rateLimiter.tryAcquire(policy, "user:1")).isPositive();
+        assertThat(rateLimiter.tryAcquire(policy, "user:2")).isZero();
+    }
+
+    @Test
+    @DisplayName("maxKeys를 넘으면 가장 오래 쓰지 않은 버킷을 제거한다 (제거된 주체는 가득 찬 버킷으로 다시 시작)")
+    void evictsLeastRecentlyUsedBucketsAtMaxKeys() {
+        // 세그먼트 16개 × 1개
+        RateLimiter rateLimiter = new RateLimiter(properties(16));
+        RateLimitProperties.Policy policy = properties(16).getPolicies().get(0);
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire(policy, "victim");
+        }
+        assertThat(rateLimiter.tryAcquire(policy, "victim")).isPositive();
+
+        for (int i = 0; i < 200; i++) {
+            rateLimiter.tryAcquire(policy, "ip:10.0.0." + i);
+        }
+
+        assertThat(rateLimiter.tryAcquire(policy, "victim")).isZero();
+    }
+
+    @Test
+    @DisplayName("maxKeys 이내면 버킷을 유지한다")
+    void keepsBucketsBelowMaxKeys() {
+        RateLimiter rateLimiter = new RateLimiter(properties(100_000));
+        RateLimitProperties.Policy policy = properties(100_000).getPolicies().get(0);
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire(policy, "victim");
+        }
+
+        for (int i = 0; i < 200; i++) {
+            rateLimiter.tryAcquire(policy, "ip:10.0.0." + i);
+        }
+
+        assertThat(rateLimiter.tryAcquire(policy, "victim")).isPositive();
+    }
+
+    @Test
+    @DisplayName("초과 요청은 429와 올림한 Retry-After(초)를 받는다")
+    void filterRespondsWithRetryAfter() throws Exception {
+        RateLimitProperties properties = properties(1_000);
+        RateLimitFilter filter = new RateLimitFilter(properties, new RateLimiter(properties),
+                new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry());
+
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletResponse allowed = call(filter);
+            assertThat(allowed.getStatus()).isEqualTo(200);
+        }
+        MockHttpServletResponse limited = call(filter);
+
+        assertThat(limited.getStatus()).isEqualTo(429);
+        assertThat(limited.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    private static MockHttpServletResponse call(RateLimitFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test/ping");
+        request.setRemoteAddr("127.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}